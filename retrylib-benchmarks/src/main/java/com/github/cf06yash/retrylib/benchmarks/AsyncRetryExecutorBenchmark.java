@@ -0,0 +1,99 @@
+package com.github.cf06yash.retrylib.benchmarks;
+
+import com.github.cf06yash.core.backoff.strategy.impl.NoDelayBackoffStrategy;
+import com.github.cf06yash.core.retry.executor.IAsyncRetryExecutor;
+import com.github.cf06yash.core.retry.executor.RetryExecutorBuilder;
+import com.github.cf06yash.core.retry.policy.RetryPolicyBuilder;
+import com.github.cf06yash.retrylib.benchmarks.support.BenchmarkLogging;
+import com.github.cf06yash.retrylib.benchmarks.support.FlakyTask;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Measures the round trip of {@link com.github.cf06yash.core.retry.executor.impl.AsyncRetryExecutor#executeAsync},
+ * from submission until the returned future is joined. The scheduler pool is sized to the
+ * available processors, which is what a service would typically configure.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AsyncRetryExecutorBenchmark {
+
+    private static final Supplier<String> SUCCESS = () -> FlakyTask.RESULT;
+    private static final Supplier<String> FALLBACK = () -> "fallback";
+
+    @Param({"3"})
+    public int failuresBeforeSuccess;
+
+    @Param({"false", "true"})
+    public boolean inlineFirstAttempt;
+
+    private ScheduledExecutorService scheduler;
+    private IAsyncRetryExecutor executor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkLogging.silence();
+        scheduler = Executors.newScheduledThreadPool(Runtime.getRuntime().availableProcessors());
+        executor = RetryExecutorBuilder.newBuilder()
+                                       .retryPolicy(RetryPolicyBuilder.newBuilder().maxAttempts(failuresBeforeSuccess + 1).build())
+                                       .backoffStrategy(NoDelayBackoffStrategy.get())
+                                       .scheduler(scheduler)
+                                       .inlineFirstAttempt(inlineFirstAttempt)
+                                       .buildAsync();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @State(Scope.Thread)
+    public static class TaskState {
+        FlakyTask recovering;
+        FlakyTask exhausting;
+
+        @Setup(Level.Trial)
+        public void setUp(AsyncRetryExecutorBenchmark benchmark) {
+            recovering = new FlakyTask(benchmark.failuresBeforeSuccess);
+            exhausting = new FlakyTask(Integer.MAX_VALUE);
+        }
+    }
+
+    @Benchmark
+    public String successOnFirstAttempt() {
+        return executor.executeAsync(SUCCESS).join();
+    }
+
+    @Benchmark
+    public String failuresThenSuccess(TaskState state) {
+        return executor.executeAsync((Supplier<String>) state.recovering.reset()).join();
+    }
+
+    @Benchmark
+    public String exhaustedWithFallback(TaskState state) {
+        return executor.executeAsyncWithFallback((Supplier<String>) state.exhausting.reset(), FALLBACK).join();
+    }
+}
@@ -0,0 +1,109 @@
+package com.github.cf06yash.retrylib.benchmarks;
+
+import com.github.cf06yash.core.backoff.strategy.BackoffContext;
+import com.github.cf06yash.core.backoff.strategy.BackoffStrategy;
+import com.github.cf06yash.core.backoff.strategy.impl.DecorrelatedJitterBackoffStrategy;
+import com.github.cf06yash.core.backoff.strategy.impl.EqualJitterBackoffStrategy;
+import com.github.cf06yash.core.backoff.strategy.impl.ExponentialBackoffStrategy;
+import com.github.cf06yash.core.backoff.strategy.impl.FullJitterBackoffStrategy;
+import com.github.cf06yash.core.backoff.strategy.impl.JitterBackoffStrategy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+/**
+ * Simulates synchronized clients retrying against a dependency that serves a fixed number of calls per
+ * millisecond. All clients fail at t=0 together; calls beyond capacity in a millisecond fail and back off.
+ * Prints, per strategy, the total calls made (work), the largest burst of retries in a single millisecond (spike) and
+ * the time until the last client succeeded (completion), averaged over several runs.
+ * <p>
+ * Usage: {@code java -cp target/benchmarks.jar com.github.cf06yash.retrylib.benchmarks.BackoffJitterSimulation [clients]}.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class BackoffJitterSimulation {
+
+    private static final int CAPACITY_PER_MILLI = 10;
+    private static final long BASE_DELAY_MILLIS = 10;
+    private static final long MAX_DELAY_MILLIS = 10_000;
+    private static final int RUNS = 10;
+
+    public static void main(String[] args) {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        Map<String, BackoffStrategy> strategies = new LinkedHashMap<>();
+        strategies.put("exponential", ExponentialBackoffStrategy.withBaseAndMaxDelayMillis(BASE_DELAY_MILLIS, MAX_DELAY_MILLIS));
+        strategies.put("uniform-jitter", JitterBackoffStrategy.withMinMaxDelay(BASE_DELAY_MILLIS, BASE_DELAY_MILLIS * 10));
+        strategies.put("full-jitter", FullJitterBackoffStrategy.withBaseAndMaxDelayMillis(BASE_DELAY_MILLIS, MAX_DELAY_MILLIS));
+        strategies.put("equal-jitter", EqualJitterBackoffStrategy.withBaseAndMaxDelayMillis(BASE_DELAY_MILLIS, MAX_DELAY_MILLIS));
+        strategies.put("decorrelated-jitter",
+                DecorrelatedJitterBackoffStrategy.withBaseAndMaxDelayMillis(BASE_DELAY_MILLIS, MAX_DELAY_MILLIS));
+
+        System.out.printf("clients=%d capacity=%d/ms base=%d ms cap=%d ms runs=%d%n", clients, CAPACITY_PER_MILLI,
+                BASE_DELAY_MILLIS, MAX_DELAY_MILLIS, RUNS);
+        System.out.printf("%-20s %12s %14s %16s%n", "strategy", "calls", "retry peak/ms", "completion ms");
+        for (Map.Entry<String, BackoffStrategy> entry : strategies.entrySet()) {
+            long calls = 0;
+            long peak = 0;
+            long completion = 0;
+            for (int run = 0; run < RUNS; run++) {
+                long[] result = simulate(entry.getValue(), clients, new Random(run));
+                calls += result[0];
+                peak += result[1];
+                completion += result[2];
+            }
+            System.out.printf("%-20s %12d %14d %16d%n", entry.getKey(), calls / RUNS, peak / RUNS, completion / RUNS);
+        }
+    }
+
+    /**
+     * @return calls made, largest number of retries in one millisecond, and the millisecond the last client succeeded
+     */
+    private static long[] simulate(BackoffStrategy strategy, int clients, Random random) {
+        TreeMap<Long, List<Client>> timeline = new TreeMap<>();
+        List<Client> initial = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            initial.add(new Client(strategy.newContext()));
+        }
+        timeline.put(0L, initial);
+        long calls = 0;
+        long peak = 0;
+        long completion = 0;
+        while (!timeline.isEmpty()) {
+            Map.Entry<Long, List<Client>> slot = timeline.pollFirstEntry();
+            long now = slot.getKey();
+            List<Client> arrivals = slot.getValue();
+            calls += arrivals.size();
+            if (now > 0) {
+                peak = Math.max(peak, arrivals.size());
+            }
+            Collections.shuffle(arrivals, random);
+            for (int i = 0; i < arrivals.size(); i++) {
+                if (i < CAPACITY_PER_MILLI) {
+                    completion = now;
+                    continue;
+                }
+                Client client = arrivals.get(i);
+                client.attempt++;
+                // a retry lands in a later millisecond at the earliest
+                long delay = Math.max(1, client.backoff.nextDelay(client.attempt));
+                timeline.computeIfAbsent(now + delay, t -> new ArrayList<>()).add(client);
+            }
+        }
+        return new long[]{calls, peak, completion};
+    }
+
+    private static final class Client {
+        final BackoffContext backoff;
+        int attempt;
+
+        Client(BackoffContext backoff) {
+            this.backoff = backoff;
+        }
+    }
+}
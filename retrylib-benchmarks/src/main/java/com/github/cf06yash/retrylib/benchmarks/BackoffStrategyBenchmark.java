@@ -0,0 +1,90 @@
+package com.github.cf06yash.retrylib.benchmarks;
+
+import com.github.cf06yash.core.backoff.strategy.BackoffContext;
+import com.github.cf06yash.core.backoff.strategy.BackoffStrategy;
+import com.github.cf06yash.core.backoff.strategy.impl.DecorrelatedJitterBackoffStrategy;
+import com.github.cf06yash.core.backoff.strategy.impl.EqualJitterBackoffStrategy;
+import com.github.cf06yash.core.backoff.strategy.impl.ExponentialBackoffStrategy;
+import com.github.cf06yash.core.backoff.strategy.impl.FixedBackoffStrategy;
+import com.github.cf06yash.core.backoff.strategy.impl.FullJitterBackoffStrategy;
+import com.github.cf06yash.core.backoff.strategy.impl.JitterBackoffStrategy;
+import com.github.cf06yash.core.backoff.strategy.impl.NoDelayBackoffStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link BackoffStrategy#computeDelay(int)} for every built-in strategy. Decorrelated jitter is measured
+ * the way the executors use it: a fresh {@link BackoffContext} per execution.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BackoffStrategyBenchmark {
+
+    private final BackoffStrategy fixed = FixedBackoffStrategy.withDelayMillis(100);
+    private final BackoffStrategy exponential = ExponentialBackoffStrategy.withBaseDelayMillis(100);
+    private final BackoffStrategy jitter = JitterBackoffStrategy.withMinMaxDelay(100, 1000);
+    private final BackoffStrategy noDelay = NoDelayBackoffStrategy.get();
+    private final BackoffStrategy fullJitter = FullJitterBackoffStrategy.withBaseAndMaxDelayMillis(100, 10_000);
+    private final BackoffStrategy equalJitter = EqualJitterBackoffStrategy.withBaseAndMaxDelayMillis(100, 10_000);
+    private final BackoffStrategy decorrelatedJitter = DecorrelatedJitterBackoffStrategy.withBaseAndMaxDelayMillis(100, 10_000);
+
+    @Param({"1", "5"})
+    public int attempt;
+
+    @Benchmark
+    public long fixed() {
+        return fixed.computeDelay(attempt);
+    }
+
+    @Benchmark
+    public long exponential() {
+        return exponential.computeDelay(attempt);
+    }
+
+    @Benchmark
+    public long jitter() {
+        return jitter.computeDelay(attempt);
+    }
+
+    @Benchmark
+    public long noDelay() {
+        return noDelay.computeDelay(attempt);
+    }
+
+    @Benchmark
+    public long fullJitter() {
+        return fullJitter.computeDelay(attempt);
+    }
+
+    @Benchmark
+    public long equalJitter() {
+        return equalJitter.computeDelay(attempt);
+    }
+
+    @Benchmark
+    public long decorrelatedJitter() {
+        BackoffContext context = decorrelatedJitter.newContext();
+        long delay = 0;
+        for (int i = 1; i <= attempt; i++) {
+            delay = context.nextDelay(i);
+        }
+        return delay;
+    }
+}
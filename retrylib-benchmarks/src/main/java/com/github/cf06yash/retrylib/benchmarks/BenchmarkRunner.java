@@ -0,0 +1,38 @@
+package com.github.cf06yash.retrylib.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmark suite at 1, 8 and 64 threads with the GC profiler attached, so every
+ * result carries {@code gc.alloc.rate.norm} (bytes allocated per operation).
+ * <p>
+ * Usage: {@code java -cp target/benchmarks.jar com.github.cf06yash.retrylib.benchmarks.BenchmarkRunner [regex]}.
+ * The plain {@code java -jar target/benchmarks.jar} entry point is still available for ad-hoc runs.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class BenchmarkRunner {
+
+    private static final int[] THREAD_COUNTS = {1, 8, 64};
+
+    public static void main(String[] args)
+            throws RunnerException {
+        String include = args.length > 0 ? args[0] : BenchmarkRunner.class.getPackageName() + ".*Benchmark";
+        for (int threads : THREAD_COUNTS) {
+            Options options = new OptionsBuilder()
+                    .include(include)
+                    .threads(threads)
+                    .addProfiler(GCProfiler.class)
+                    .result("jmh-result-" + threads + "t.json")
+                    .resultFormat(ResultFormatType.JSON)
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
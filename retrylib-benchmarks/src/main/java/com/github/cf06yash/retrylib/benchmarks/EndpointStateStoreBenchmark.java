@@ -0,0 +1,94 @@
+package com.github.cf06yash.retrylib.benchmarks;
+
+import com.github.cf06yash.core.retry.state.EndpointState;
+import com.github.cf06yash.core.retry.state.EndpointStateStore;
+import com.github.cf06yash.core.retry.state.EndpointStateStoreBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-call lookup of endpoint state on the attempt path, for key sets smaller and far larger than the
+ * store's bound. {@code skewed} draws keys so that a few hundred endpoints take most calls over a long tail
+ * of tenants, {@code uniform} spreads them evenly, which at a million keys makes most lookups an insert and
+ * an eviction. An unbounded {@link ConcurrentHashMap} is the baseline: as cheap as a lookup gets, but it
+ * keeps every key it has ever seen.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EndpointStateStoreBenchmark {
+
+    private static final int MAXIMUM_SIZE = 100_000;
+    private static final int SAMPLES = 1 << 20;
+
+    @Param({"1000", "1000000"})
+    public int keyCount;
+
+    private EndpointStateStore store;
+    private ConcurrentHashMap<Object, EndpointState> unbounded;
+    private Object[] skewed;
+    private Object[] uniform;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        store = EndpointStateStoreBuilder.newBuilder().maximumSize(MAXIMUM_SIZE).build();
+        unbounded = new ConcurrentHashMap<>();
+        Object[] keys = new Object[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            keys[i] = "tenant-" + i;
+        }
+        SplittableRandom random = new SplittableRandom(42);
+        skewed = new Object[SAMPLES];
+        uniform = new Object[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            // the cube of a uniform draw sends almost half of the lookups to the first 10% of the keys
+            double u = random.nextDouble();
+            skewed[i] = keys[(int) (u * u * u * keyCount)];
+            uniform[i] = keys[random.nextInt(keyCount)];
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next = new SplittableRandom().nextInt(SAMPLES);
+
+        int advance() {
+            return next = (next + 1) & (SAMPLES - 1);
+        }
+    }
+
+    @Benchmark
+    public EndpointState skewed(Cursor cursor) {
+        return store.get(skewed[cursor.advance()]);
+    }
+
+    @Benchmark
+    public EndpointState uniform(Cursor cursor) {
+        return store.get(uniform[cursor.advance()]);
+    }
+
+    @Benchmark
+    public EndpointState skewedUnboundedMap(Cursor cursor) {
+        return unbounded.computeIfAbsent(skewed[cursor.advance()], key -> new EndpointState(key, null));
+    }
+}
@@ -0,0 +1,54 @@
+package com.github.cf06yash.retrylib.benchmarks;
+
+import com.github.cf06yash.core.retry.budget.RetryBudget;
+import com.github.cf06yash.core.retry.budget.impl.TokenRetryBudget;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contention on one shared {@link TokenRetryBudget} at 64 threads, next to a single {@link AtomicLong}
+ * counter as the naive baseline. {@code depositAndWithdraw} is the outage pattern: every call deposits
+ * and immediately asks for a retry.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(64)
+@State(Scope.Benchmark)
+public class RetryBudgetBenchmark {
+
+    private final RetryBudget budget = TokenRetryBudget.of(0.2, 10);
+    private final AtomicLong atomicBaseline = new AtomicLong();
+
+    @Benchmark
+    public void deposit() {
+        budget.deposit();
+    }
+
+    @Benchmark
+    public boolean depositAndWithdraw() {
+        budget.deposit();
+        return budget.tryWithdraw();
+    }
+
+    @Benchmark
+    public long atomicCounterBaseline() {
+        return atomicBaseline.incrementAndGet();
+    }
+}
@@ -0,0 +1,70 @@
+package com.github.cf06yash.retrylib.benchmarks;
+
+import com.github.cf06yash.core.retry.tagging.RetryClassifier;
+import com.github.cf06yash.core.retry.tagging.RetryClassifierBuilder;
+import com.github.cf06yash.core.retry.tagging.impl.DefaultRetryClassifier;
+import com.github.cf06yash.retrylib.benchmarks.support.BenchmarkException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.SocketTimeoutException;
+import java.sql.SQLTransientException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link DefaultRetryClassifier#isRetryable(Exception)} for a tagged and an untagged exception, and the
+ * rule-based classifier for a third-party exception, one wrapped twice and one no rule matches.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RetryClassifierBenchmark {
+
+    private final RetryClassifier classifier = DefaultRetryClassifier.INSTANCE;
+    private final RetryClassifier rules = RetryClassifierBuilder.newBuilder()
+                                                                .retryOn(SocketTimeoutException.class, SQLTransientException.class)
+                                                                .abortOn(IllegalArgumentException.class).build();
+    private final Exception retryable = BenchmarkException.INSTANCE;
+    private final Exception nonRetryable = new IllegalStateException("not retryable");
+    private final Exception timeout = new SocketTimeoutException("read timed out");
+    private final Exception wrappedTimeout = new ExecutionException(new RuntimeException(new SocketTimeoutException("read timed out")));
+
+    @Benchmark
+    public boolean retryable() {
+        return classifier.isRetryable(retryable);
+    }
+
+    @Benchmark
+    public boolean nonRetryable() {
+        return classifier.isRetryable(nonRetryable);
+    }
+
+    @Benchmark
+    public boolean rulesMatchType() {
+        return rules.isRetryable(timeout);
+    }
+
+    @Benchmark
+    public boolean rulesMatchCause() {
+        return rules.isRetryable(wrappedTimeout);
+    }
+
+    @Benchmark
+    public boolean rulesUnmatched() {
+        return rules.isRetryable(nonRetryable);
+    }
+}
@@ -0,0 +1,126 @@
+package com.github.cf06yash.retrylib.benchmarks;
+
+import com.github.cf06yash.core.backoff.strategy.impl.NoDelayBackoffStrategy;
+import com.github.cf06yash.core.retry.executor.IAsyncRetryExecutor;
+import com.github.cf06yash.core.retry.executor.RetryExecutorBuilder;
+import com.github.cf06yash.core.retry.journal.DurableRetryExecutor;
+import com.github.cf06yash.core.retry.journal.TaskCodec;
+import com.github.cf06yash.core.retry.journal.impl.MappedRetryJournal;
+import com.github.cf06yash.core.retry.policy.RetryPolicyBuilder;
+import com.github.cf06yash.retrylib.benchmarks.support.BenchmarkLogging;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Compares submitting a task to the in-memory async executor with submitting it through a
+ * {@link MappedRetryJournal}, without and with a group-committed flush per append, and measures raw journal
+ * appends that are completed right away. Run at several thread counts (see {@link BenchmarkRunner}) to see
+ * concurrent syncs sharing flushes.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RetryJournalBenchmark {
+
+    private static final String ORDER = "order-4711:capture";
+    private static final byte[] PAYLOAD = ORDER.getBytes(StandardCharsets.UTF_8);
+    private static final TaskCodec<String> UTF8 = new TaskCodec<>() {
+        @Override
+        public byte[] encode(String descriptor) {
+            return descriptor.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String decode(byte[] payload) {
+            return new String(payload, StandardCharsets.UTF_8);
+        }
+    };
+
+    @Param({"memory", "journal", "journalSync"})
+    public String durability;
+
+    private Path directory;
+    private MappedRetryJournal journal;
+    private ScheduledExecutorService scheduler;
+    private IAsyncRetryExecutor executor;
+    private DurableRetryExecutor<String, String> durable;
+
+    @Setup(Level.Trial)
+    public void setUp()
+            throws IOException {
+        BenchmarkLogging.silence();
+        scheduler = Executors.newScheduledThreadPool(Runtime.getRuntime().availableProcessors());
+        RetryExecutorBuilder builder = RetryExecutorBuilder.newBuilder()
+                                                           .retryPolicy(RetryPolicyBuilder.newBuilder().maxAttempts(3).build())
+                                                           .backoffStrategy(NoDelayBackoffStrategy.get())
+                                                           .scheduler(scheduler)
+                                                           .inlineFirstAttempt(true);
+        executor = builder.buildAsync();
+        if (!durability.equals("memory")) {
+            directory = Files.createTempDirectory("retry-journal-bench");
+            journal = MappedRetryJournal.open(directory, MappedRetryJournal.DEFAULT_SEGMENT_BYTES, durability.equals("journalSync"));
+            durable = builder.buildDurable(journal, UTF8, order -> order);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+            throws IOException {
+        scheduler.shutdownNow();
+        if (journal != null) {
+            journal.close();
+            deleteRecursively(directory);
+        }
+    }
+
+    @Benchmark
+    public String submitAndJoin() {
+        return durable == null ? executor.executeAsync(() -> ORDER).join() : durable.submit(ORDER).join();
+    }
+
+    @Benchmark
+    public long appendAndComplete() {
+        if (journal == null) {
+            return 0;
+        }
+        long id = journal.append(PAYLOAD);
+        journal.complete(id);
+        return id;
+    }
+
+    private static void deleteRecursively(Path directory)
+            throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+}
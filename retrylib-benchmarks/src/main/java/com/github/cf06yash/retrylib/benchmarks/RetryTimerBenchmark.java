@@ -0,0 +1,87 @@
+package com.github.cf06yash.retrylib.benchmarks;
+
+import com.github.cf06yash.core.retry.timer.RetryTimer;
+import com.github.cf06yash.core.retry.timer.ScheduledRetry;
+import com.github.cf06yash.retrylib.benchmarks.support.TimerFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@code ScheduledExecutorService} with the hashed timing wheel while {@code pendingRetries}
+ * long-delay retries are already queued, as during a downstream outage.
+ * <ul>
+ *     <li>{@code scheduleAndCancel} measures insert plus cancel throughput.</li>
+ *     <li>{@code scheduleAndFire} measures a batch of 1 ms retries from insert until all of them have run.</li>
+ * </ul>
+ * Heap per pending retry is reported separately by {@link RetryTimerFootprint}.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class RetryTimerBenchmark {
+
+    private static final int FIRE_BATCH = 10_000;
+    private static final long BACKLOG_DELAY_MILLIS = TimeUnit.HOURS.toMillis(1);
+    private static final Runnable NOOP = () -> {
+    };
+
+    @Param({TimerFixtures.SCHEDULED_EXECUTOR, TimerFixtures.HASHED_WHEEL})
+    public String timerType;
+
+    @Param({"1000000"})
+    public int pendingRetries;
+
+    private RetryTimer timer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        timer = TimerFixtures.create(timerType);
+        for (int i = 0; i < pendingRetries; i++) {
+            timer.schedule(NOOP, BACKLOG_DELAY_MILLIS + i % 60_000);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        TimerFixtures.close(timer);
+    }
+
+    @Benchmark
+    public boolean scheduleAndCancel() {
+        ScheduledRetry retry = timer.schedule(NOOP, BACKLOG_DELAY_MILLIS);
+        return retry.cancel();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FIRE_BATCH)
+    public void scheduleAndFire()
+            throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(FIRE_BATCH);
+        Runnable task = fired::countDown;
+        for (int i = 0; i < FIRE_BATCH; i++) {
+            timer.schedule(task, 1);
+        }
+        fired.await();
+    }
+}
@@ -0,0 +1,53 @@
+package com.github.cf06yash.retrylib.benchmarks;
+
+import com.github.cf06yash.core.retry.timer.RetryTimer;
+import com.github.cf06yash.retrylib.benchmarks.support.TimerFixtures;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prints retained heap per pending retry for each timer at 1M (or {@code args[0]}) pending retries.
+ * Run with a fixed heap, e.g. {@code java -Xms4g -Xmx4g -cp target/benchmarks.jar ...RetryTimerFootprint}.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class RetryTimerFootprint {
+
+    private static final long DELAY_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    public static void main(String[] args)
+            throws InterruptedException {
+        int pendingRetries = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Runnable noop = () -> {
+        };
+        for (String type : new String[]{TimerFixtures.SCHEDULED_EXECUTOR, TimerFixtures.HASHED_WHEEL}) {
+            RetryTimer timer = TimerFixtures.create(type);
+            long before = usedHeapAfterGc();
+            long start = System.nanoTime();
+            for (int i = 0; i < pendingRetries; i++) {
+                timer.schedule(noop, DELAY_MILLIS + i % 60_000);
+            }
+            long insertNanos = System.nanoTime() - start;
+            // let the wheel move queued entries into buckets before measuring
+            Thread.sleep(500);
+            long after = usedHeapAfterGc();
+            System.out.printf("%-18s pending=%d insert=%d ms heap=%.1f MB (%.1f B/retry)%n", type, pendingRetries,
+                    TimeUnit.NANOSECONDS.toMillis(insertNanos), (after - before) / 1048576.0,
+                    (after - before) / (double) pendingRetries);
+            TimerFixtures.close(timer);
+        }
+    }
+
+    private static long usedHeapAfterGc()
+            throws InterruptedException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.cf06yash.retrylib.benchmarks;
+
+import com.github.cf06yash.core.backoff.strategy.impl.NoDelayBackoffStrategy;
+import com.github.cf06yash.core.retry.executor.IRetryExecutor;
+import com.github.cf06yash.core.retry.executor.RetryExecutorBuilder;
+import com.github.cf06yash.core.retry.metrics.impl.StripedRetryMetrics;
+import com.github.cf06yash.core.retry.policy.RetryPolicyBuilder;
+import com.github.cf06yash.retrylib.benchmarks.support.BenchmarkLogging;
+import com.github.cf06yash.retrylib.benchmarks.support.FlakyTask;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Measures the cost of wrapping a call in {@link com.github.cf06yash.core.retry.executor.impl.SyncRetryExecutor}.
+ * Backoff is {@link NoDelayBackoffStrategy} so failing paths measure the wrapper and not the sleep. Running with
+ * {@code -p metrics=true} shows what {@link StripedRetryMetrics} adds per call; add {@code -t 8} for contention.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SyncRetryExecutorBenchmark {
+
+    private static final Callable<String> SUCCESS = () -> FlakyTask.RESULT;
+    private static final Supplier<String> FALLBACK = () -> "fallback";
+
+    @Param({"3"})
+    public int failuresBeforeSuccess;
+
+    @Param({"false"})
+    public boolean metrics;
+
+    private IRetryExecutor executor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkLogging.silence();
+        RetryExecutorBuilder builder = RetryExecutorBuilder.newBuilder()
+                                                           .retryPolicy(RetryPolicyBuilder.newBuilder()
+                                                                                          .maxAttempts(failuresBeforeSuccess + 1).build())
+                                                           .backoffStrategy(NoDelayBackoffStrategy.get());
+        if (metrics) {
+            builder.metrics(StripedRetryMetrics.create());
+        }
+        executor = builder.build();
+    }
+
+    @State(Scope.Thread)
+    public static class TaskState {
+        FlakyTask recovering;
+        FlakyTask exhausting;
+
+        @Setup(Level.Trial)
+        public void setUp(SyncRetryExecutorBenchmark benchmark) {
+            recovering = new FlakyTask(benchmark.failuresBeforeSuccess);
+            exhausting = new FlakyTask(Integer.MAX_VALUE);
+        }
+    }
+
+    @Benchmark
+    public String successOnFirstAttempt()
+            throws Exception {
+        return executor.execute(SUCCESS);
+    }
+
+    @Benchmark
+    public String failuresThenSuccess(TaskState state)
+            throws Exception {
+        return executor.execute(state.recovering.reset());
+    }
+
+    @Benchmark
+    public String exhaustedWithFallback(TaskState state)
+            throws Exception {
+        return executor.executeWithFallback((Callable<String>) state.exhausting.reset(), FALLBACK);
+    }
+}
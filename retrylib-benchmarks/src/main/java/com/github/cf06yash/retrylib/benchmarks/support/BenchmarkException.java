@@ -0,0 +1,19 @@
+package com.github.cf06yash.retrylib.benchmarks.support;
+
+import com.github.cf06yash.core.retry.tagging.RetryableException;
+
+/**
+ * Retryable exception shared by the benchmarks. It skips the stack trace so that
+ * a failing attempt measures the executor rather than {@code fillInStackTrace}.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public final class BenchmarkException extends RuntimeException implements RetryableException {
+
+    public static final BenchmarkException INSTANCE = new BenchmarkException("benchmark failure");
+
+    public BenchmarkException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,20 @@
+package com.github.cf06yash.retrylib.benchmarks.support;
+
+import java.util.logging.LogManager;
+
+/**
+ * Removes the console handlers so that log output does not drown the JMH report.
+ * Messages are still built by the executors, so their cost stays in the numbers.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public final class BenchmarkLogging {
+
+    private BenchmarkLogging() {
+    }
+
+    public static void silence() {
+        LogManager.getLogManager().reset();
+    }
+}
@@ -0,0 +1,44 @@
+package com.github.cf06yash.retrylib.benchmarks.support;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * Task that fails a fixed number of times before succeeding. Instances are not
+ * thread-safe and are meant to live in a thread-scoped JMH state; call {@link #reset()}
+ * before every invocation.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public final class FlakyTask implements Callable<String>, Supplier<String> {
+
+    public static final String RESULT = "ok";
+
+    private final int failuresBeforeSuccess;
+    private int remainingFailures;
+
+    public FlakyTask(int failuresBeforeSuccess) {
+        this.failuresBeforeSuccess = failuresBeforeSuccess;
+        this.remainingFailures = failuresBeforeSuccess;
+    }
+
+    public FlakyTask reset() {
+        this.remainingFailures = failuresBeforeSuccess;
+        return this;
+    }
+
+    @Override
+    public String call() {
+        return get();
+    }
+
+    @Override
+    public String get() {
+        if (remainingFailures > 0) {
+            remainingFailures--;
+            throw BenchmarkException.INSTANCE;
+        }
+        return RESULT;
+    }
+}
@@ -0,0 +1,65 @@
+package com.github.cf06yash.retrylib.benchmarks.support;
+
+import com.github.cf06yash.core.retry.timer.RetryTimer;
+import com.github.cf06yash.core.retry.timer.ScheduledRetry;
+import com.github.cf06yash.core.retry.timer.impl.HashedWheelRetryTimer;
+import com.github.cf06yash.core.retry.timer.impl.ScheduledExecutorRetryTimer;
+
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+/**
+ * Creates the timers compared by the timer benchmarks. Both run expired tasks on a single thread:
+ * the scheduler's one worker or the wheel's own thread.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public final class TimerFixtures {
+
+    public static final String SCHEDULED_EXECUTOR = "scheduledExecutor";
+    public static final String HASHED_WHEEL = "hashedWheel";
+
+    private TimerFixtures() {
+    }
+
+    public static RetryTimer create(String type) {
+        switch (type) {
+            case SCHEDULED_EXECUTOR:
+                ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1);
+                scheduler.setRemoveOnCancelPolicy(true);
+                return new ClosableScheduledTimer(scheduler);
+            case HASHED_WHEEL:
+                return HashedWheelRetryTimer.of(Runnable::run);
+            default:
+                throw new IllegalArgumentException("unknown timer " + type);
+        }
+    }
+
+    public static void close(RetryTimer timer) {
+        if (timer instanceof ClosableScheduledTimer scheduled) {
+            scheduled.scheduler.shutdownNow();
+        } else if (timer instanceof HashedWheelRetryTimer wheel) {
+            wheel.close();
+        }
+    }
+
+    private static final class ClosableScheduledTimer implements RetryTimer {
+        private final ScheduledThreadPoolExecutor scheduler;
+        private final RetryTimer delegate;
+
+        ClosableScheduledTimer(ScheduledThreadPoolExecutor scheduler) {
+            this.scheduler = scheduler;
+            this.delegate = ScheduledExecutorRetryTimer.of(scheduler);
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            delegate.execute(task);
+        }
+
+        @Override
+        public ScheduledRetry schedule(Runnable task, long delayMillis) {
+            return delegate.schedule(task, delayMillis);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.github.cf06yash.core.backoff.strategy;
+
+/**
+ * Backoff state of a single execution, e.g. the previous delay a decorrelated jitter draws from.
+ * Used by one execution at a time, so implementations need not be thread-safe.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+@FunctionalInterface
+public interface BackoffContext {
+    long nextDelay(int attemptCount);
+}
@@ -6,4 +6,12 @@ package com.github.cf06yash.core.backoff.strategy;
  */
 public interface BackoffStrategy {
     long computeDelay(int attemptCount);
+
+    /**
+     * Starts the backoff state of one execution; the executors ask it, not the strategy, for every delay of
+     * that execution. Stateless strategies keep the default, which delegates to {@link #computeDelay(int)}.
+     */
+    default BackoffContext newContext() {
+        return this::computeDelay;
+    }
 }
@@ -0,0 +1,39 @@
+package com.github.cf06yash.core.backoff.strategy.impl;
+
+/**
+ * Shared arithmetic of the jittered exponential strategies.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+final class CappedExponential {
+
+    private CappedExponential() {
+    }
+
+    static void validate(long baseDelayMillis, long maxDelayMillis) {
+        if (baseDelayMillis <= 0) {
+            throw new IllegalArgumentException("Base delay must be positive");
+        }
+        if (maxDelayMillis < baseDelayMillis) {
+            throw new IllegalArgumentException("Max delay cannot be less than base delay");
+        }
+        if (maxDelayMillis == Long.MAX_VALUE) {
+            throw new IllegalArgumentException("Max delay too large; must be < Long.MAX_VALUE");
+        }
+    }
+
+    /**
+     * {@code min(maxDelayMillis, baseDelayMillis * 2^(attemptCount - 1))}, so the first retry is bounded by the base.
+     */
+    static long ceiling(long baseDelayMillis, long maxDelayMillis, int attemptCount) {
+        if (attemptCount < 0) {
+            throw new IllegalArgumentException("Attempt count cannot be negative");
+        }
+        int shift = Math.max(0, attemptCount - 1);
+        if (shift >= 63 || baseDelayMillis > maxDelayMillis >> shift) {
+            return maxDelayMillis;
+        }
+        return baseDelayMillis << shift;
+    }
+}
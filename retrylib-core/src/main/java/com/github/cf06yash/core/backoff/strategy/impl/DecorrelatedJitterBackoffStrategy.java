@@ -0,0 +1,66 @@
+package com.github.cf06yash.core.backoff.strategy.impl;
+
+import com.github.cf06yash.core.backoff.strategy.BackoffContext;
+import com.github.cf06yash.core.backoff.strategy.BackoffStrategy;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decorrelated jitter: each delay is uniform in {@code [base, previous * 3]}, capped, starting from
+ * {@code previous = base}. Delays grow with the execution's own history rather than the attempt number,
+ * so the state lives in the {@link BackoffContext} of each execution.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class DecorrelatedJitterBackoffStrategy
+        implements BackoffStrategy {
+
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+
+    private DecorrelatedJitterBackoffStrategy(long baseDelayMillis, long maxDelayMillis) {
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    public static BackoffStrategy withBaseAndMaxDelayMillis(long baseDelayMillis, long maxDelayMillis) {
+        CappedExponential.validate(baseDelayMillis, maxDelayMillis);
+        return new DecorrelatedJitterBackoffStrategy(baseDelayMillis, maxDelayMillis);
+    }
+
+    /**
+     * Without a context the history is unknown, so this replays {@code attemptCount} draws of a fresh
+     * context; the result follows the same distribution as the context's delay for that attempt.
+     */
+    @Override
+    public long computeDelay(int attemptCount) {
+        if (attemptCount < 0) {
+            throw new IllegalArgumentException("Attempt count cannot be negative");
+        }
+        BackoffContext context = newContext();
+        long delay = baseDelayMillis;
+        for (int i = 1; i <= attemptCount; i++) {
+            delay = context.nextDelay(i);
+        }
+        return delay;
+    }
+
+    @Override
+    public BackoffContext newContext() {
+        return new Context();
+    }
+
+    private final class Context
+            implements BackoffContext {
+
+        private long previous = baseDelayMillis;
+
+        @Override
+        public long nextDelay(int attemptCount) {
+            long upper = previous > maxDelayMillis / 3 ? maxDelayMillis : Math.min(maxDelayMillis, previous * 3);
+            previous = ThreadLocalRandom.current().nextLong(baseDelayMillis, upper + 1);
+            return previous;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.cf06yash.core.backoff.strategy.impl;
+
+import com.github.cf06yash.core.backoff.strategy.BackoffStrategy;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Capped exponential backoff with equal jitter: half of {@code min(cap, base * 2^(n-1))} is kept and the other
+ * half is randomized, which guarantees a minimum wait at the cost of some spread.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class EqualJitterBackoffStrategy
+        implements BackoffStrategy {
+
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+
+    private EqualJitterBackoffStrategy(long baseDelayMillis, long maxDelayMillis) {
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    public static BackoffStrategy withBaseAndMaxDelayMillis(long baseDelayMillis, long maxDelayMillis) {
+        CappedExponential.validate(baseDelayMillis, maxDelayMillis);
+        return new EqualJitterBackoffStrategy(baseDelayMillis, maxDelayMillis);
+    }
+
+    @Override
+    public long computeDelay(int attemptCount) {
+        long ceiling = CappedExponential.ceiling(baseDelayMillis, maxDelayMillis, attemptCount);
+        long half = ceiling / 2;
+        return half + ThreadLocalRandom.current().nextLong(ceiling - half + 1);
+    }
+}
@@ -13,16 +13,31 @@ public class ExponentialBackoffStrategy
 
     private static final long MAX_DELAY_MILLIS = TimeUnit.HOURS.toMillis(1);
     private final long baseDelayMillis;
+    private final long maxDelayMillis;
 
-    private ExponentialBackoffStrategy(long baseDelayMillis) {
+    private ExponentialBackoffStrategy(long baseDelayMillis, long maxDelayMillis) {
         this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
     }
 
     public static BackoffStrategy withBaseDelayMillis(long baseDelayMillis) {
         if (baseDelayMillis <= 0) {
             throw new IllegalArgumentException("Base delay must be positive");
         }
-        return new ExponentialBackoffStrategy(baseDelayMillis);
+        return new ExponentialBackoffStrategy(baseDelayMillis, MAX_DELAY_MILLIS);
+    }
+
+    /**
+     * Same as {@link #withBaseDelayMillis(long)} with a configurable cap instead of one hour.
+     */
+    public static BackoffStrategy withBaseAndMaxDelayMillis(long baseDelayMillis, long maxDelayMillis) {
+        if (baseDelayMillis <= 0) {
+            throw new IllegalArgumentException("Base delay must be positive");
+        }
+        if (maxDelayMillis < baseDelayMillis) {
+            throw new IllegalArgumentException("Max delay cannot be less than base delay");
+        }
+        return new ExponentialBackoffStrategy(baseDelayMillis, maxDelayMillis);
     }
 
     @Override
@@ -31,13 +46,13 @@ public class ExponentialBackoffStrategy
             throw new IllegalArgumentException("Attempt count cannot be negative");
         }
         if (attemptCount >= 63) {
-            return MAX_DELAY_MILLIS;
+            return maxDelayMillis;
         }
         long multiplier = 1L << attemptCount;
         if (baseDelayMillis > Long.MAX_VALUE / multiplier) {
-            return MAX_DELAY_MILLIS;
+            return maxDelayMillis;
         }
         long delay = baseDelayMillis * multiplier;
-        return Math.min(delay, MAX_DELAY_MILLIS);
+        return Math.min(delay, maxDelayMillis);
     }
 }
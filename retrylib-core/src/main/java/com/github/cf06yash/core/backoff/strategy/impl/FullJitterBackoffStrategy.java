@@ -0,0 +1,35 @@
+package com.github.cf06yash.core.backoff.strategy.impl;
+
+import com.github.cf06yash.core.backoff.strategy.BackoffStrategy;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Capped exponential backoff with full jitter: each delay is uniform in {@code [0, min(cap, base * 2^(n-1))]}.
+ * Spreads synchronized clients furthest apart and does the least total work under contention.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class FullJitterBackoffStrategy
+        implements BackoffStrategy {
+
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+
+    private FullJitterBackoffStrategy(long baseDelayMillis, long maxDelayMillis) {
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    public static BackoffStrategy withBaseAndMaxDelayMillis(long baseDelayMillis, long maxDelayMillis) {
+        CappedExponential.validate(baseDelayMillis, maxDelayMillis);
+        return new FullJitterBackoffStrategy(baseDelayMillis, maxDelayMillis);
+    }
+
+    @Override
+    public long computeDelay(int attemptCount) {
+        long ceiling = CappedExponential.ceiling(baseDelayMillis, maxDelayMillis, attemptCount);
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+}
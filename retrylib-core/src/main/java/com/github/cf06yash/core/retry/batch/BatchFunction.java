@@ -0,0 +1,19 @@
+package com.github.cf06yash.core.retry.batch;
+
+import java.util.List;
+
+/**
+ * One downstream call for a batch of items, e.g. a bulk write.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+@FunctionalInterface
+public interface BatchFunction<I, R> {
+
+    /**
+     * @return one outcome per item, in the order of {@code items}; throwing fails every item of the call
+     */
+    List<ItemOutcome<R>> apply(List<I> items)
+            throws Exception;
+}
@@ -0,0 +1,48 @@
+package com.github.cf06yash.core.retry.batch;
+
+import java.util.List;
+
+/**
+ * Final outcome of every item of a batch, in the order the items were passed in. Failed items carry the
+ * exception of their last attempt.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public final class BatchResult<R> {
+
+    private final List<ItemOutcome<R>> outcomes;
+    private final int failures;
+    private final int attempts;
+
+    public BatchResult(List<ItemOutcome<R>> outcomes, int attempts) {
+        int failed = 0;
+        for (ItemOutcome<R> outcome : outcomes) {
+            if (!outcome.isSuccess()) {
+                failed++;
+            }
+        }
+        this.outcomes = outcomes;
+        this.failures = failed;
+        this.attempts = attempts;
+    }
+
+    public List<ItemOutcome<R>> getOutcomes() {
+        return outcomes;
+    }
+
+    public boolean isAllSucceeded() {
+        return failures == 0;
+    }
+
+    public int getFailureCount() {
+        return failures;
+    }
+
+    /**
+     * @return how many downstream calls were made
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+}
@@ -0,0 +1,49 @@
+package com.github.cf06yash.core.retry.batch;
+
+/**
+ * Result or failure of a single item of a batch.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public final class ItemOutcome<R> {
+
+    private final R result;
+    private final Exception failure;
+
+    private ItemOutcome(R result, Exception failure) {
+        this.result = result;
+        this.failure = failure;
+    }
+
+    public static <R> ItemOutcome<R> success(R result) {
+        return new ItemOutcome<>(result, null);
+    }
+
+    public static <R> ItemOutcome<R> failure(Exception failure) {
+        if (failure == null) {
+            throw new IllegalArgumentException("failure cannot be null");
+        }
+        return new ItemOutcome<>(null, failure);
+    }
+
+    public boolean isSuccess() {
+        return failure == null;
+    }
+
+    public R getResult() {
+        return result;
+    }
+
+    /**
+     * @return the exception the item failed with, {@code null} when it succeeded
+     */
+    public Exception getFailure() {
+        return failure;
+    }
+
+    @Override
+    public String toString() {
+        return isSuccess() ? "success(" + result + ")" : "failure(" + failure + ")";
+    }
+}
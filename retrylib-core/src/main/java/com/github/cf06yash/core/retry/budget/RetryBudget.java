@@ -0,0 +1,34 @@
+package com.github.cf06yash.core.retry.budget;
+
+/**
+ * Shared allowance of retries. Every call deposits into the budget and every retry withdraws from it,
+ * so retries stay bounded by a fraction of recent traffic instead of multiplying load by {@code maxAttempts}.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public interface RetryBudget {
+
+    /**
+     * Records a new call (its first attempt).
+     */
+    void deposit();
+
+    /**
+     * Takes one retry from the budget.
+     *
+     * @return {@code false} if the budget is exhausted and the retry should not happen
+     */
+    boolean tryWithdraw();
+
+    /**
+     * Gives back a token {@link #tryWithdraw()} took for a retry that was abandoned before it ran.
+     */
+    default void refund() {
+    }
+
+    /**
+     * Number of retries currently available.
+     */
+    long balance();
+}
@@ -0,0 +1,114 @@
+package com.github.cf06yash.core.retry.budget.impl;
+
+import com.github.cf06yash.core.retry.budget.RetryBudget;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Token-bucket retry budget over a sliding time window. Each call deposits {@code retryRatio} tokens,
+ * each retry costs one token, and {@code minRetriesPerSecond} tokens per second are always available so
+ * that low-traffic callers can still retry. Tokens older than the window expire.
+ * <p>
+ * The window is split into slots backed by {@link LongAdder}, so deposits and withdrawals from many cores
+ * do not contend on one counter. Accounting is approximate: concurrent withdrawals may overdraw the
+ * balance by at most the number of racing threads, and an add racing with a slot rollover may be lost.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class TokenRetryBudget
+        implements RetryBudget {
+
+    private static final long SCALE = 1000;
+    private static final int SLOTS = 10;
+    private static final Duration DEFAULT_WINDOW = Duration.ofSeconds(10);
+
+    private final long depositUnits;
+    private final long reserveUnits;
+    private final long slotNanos;
+    private final LongSupplier clock;
+    private final long startNanos;
+    private final LongAdder[] slotUnits = new LongAdder[SLOTS];
+    private final AtomicLong[] slotEpochs = new AtomicLong[SLOTS];
+
+    TokenRetryBudget(double retryRatio, int minRetriesPerSecond, Duration window, LongSupplier clock) {
+        this.depositUnits = Math.round(retryRatio * SCALE);
+        this.reserveUnits = (long) minRetriesPerSecond * SCALE * Math.max(1, window.toSeconds());
+        this.slotNanos = Math.max(1, window.toNanos() / SLOTS);
+        this.clock = clock;
+        this.startNanos = clock.getAsLong();
+        for (int i = 0; i < SLOTS; i++) {
+            slotUnits[i] = new LongAdder();
+            slotEpochs[i] = new AtomicLong(-1);
+        }
+    }
+
+    public static RetryBudget of(double retryRatio, int minRetriesPerSecond) {
+        return of(retryRatio, minRetriesPerSecond, DEFAULT_WINDOW);
+    }
+
+    public static RetryBudget of(double retryRatio, int minRetriesPerSecond, Duration window) {
+        if (retryRatio < 0 || Double.isNaN(retryRatio)) {
+            throw new IllegalArgumentException("retry ratio must not be negative");
+        }
+        if (minRetriesPerSecond < 0) {
+            throw new IllegalArgumentException("minimum retries per second must not be negative");
+        }
+        if (window == null || window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("window must be positive");
+        }
+        return new TokenRetryBudget(retryRatio, minRetriesPerSecond, window, System::nanoTime);
+    }
+
+    @Override
+    public void deposit() {
+        add(currentEpoch(), depositUnits);
+    }
+
+    @Override
+    public boolean tryWithdraw() {
+        long epoch = currentEpoch();
+        if (balanceUnits(epoch) < SCALE) {
+            return false;
+        }
+        add(epoch, -SCALE);
+        return true;
+    }
+
+    @Override
+    public void refund() {
+        add(currentEpoch(), SCALE);
+    }
+
+    @Override
+    public long balance() {
+        return Math.max(0, balanceUnits(currentEpoch()) / SCALE);
+    }
+
+    private long balanceUnits(long epoch) {
+        long units = reserveUnits;
+        for (int i = 0; i < SLOTS; i++) {
+            if (epoch - slotEpochs[i].get() < SLOTS) {
+                units += slotUnits[i].sum();
+            }
+        }
+        return units;
+    }
+
+    private long currentEpoch() {
+        return (clock.getAsLong() - startNanos) / slotNanos;
+    }
+
+    private void add(long epoch, long units) {
+        int index = (int) (epoch % SLOTS);
+        AtomicLong slotEpoch = slotEpochs[index];
+        long seen = slotEpoch.get();
+        if (seen < epoch && slotEpoch.compareAndSet(seen, epoch)) {
+            slotUnits[index].reset();
+        }
+        slotUnits[index].add(units);
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.cf06yash.core.retry.circuit;
+
+/**
+ * Consulted by the retry executors before every attempt. While open, calls fail fast with
+ * {@link CircuitBreakerOpenException} instead of reaching the dependency or waiting through backoff.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public interface CircuitBreaker {
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * @return {@code true} if an attempt may run now; in half-open state this consumes one trial permit
+     */
+    boolean tryAcquirePermission();
+
+    /**
+     * Gives back a permission that {@link #tryAcquirePermission()} granted but no attempt used, e.g. because
+     * another breaker refused it; in half-open state the trial permit becomes available again.
+     */
+    default void releasePermission() {
+    }
+
+    void onSuccess();
+
+    void onFailure();
+
+    State getState();
+}
@@ -0,0 +1,75 @@
+package com.github.cf06yash.core.retry.circuit;
+
+import com.github.cf06yash.core.retry.circuit.impl.SlidingWindowCircuitBreaker;
+
+import java.time.Duration;
+
+/**
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class CircuitBreakerBuilder {
+
+    private int failureRateThreshold = 50;
+    private int minimumCalls = 10;
+    private int countWindowSize = 100;
+    private int timeWindowSeconds;
+    private Duration waitInOpenState = Duration.ofSeconds(5);
+    private int permittedCallsInHalfOpenState = 5;
+
+    private CircuitBreakerBuilder() {
+    }
+
+    public static CircuitBreakerBuilder newBuilder() {
+        return new CircuitBreakerBuilder();
+    }
+
+    /**
+     * Failure percentage (1-100) at which the breaker opens.
+     */
+    public CircuitBreakerBuilder failureRateThreshold(int failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+        return this;
+    }
+
+    /**
+     * Outcomes the window must hold before the failure rate is evaluated.
+     */
+    public CircuitBreakerBuilder minimumCalls(int minimumCalls) {
+        this.minimumCalls = minimumCalls;
+        return this;
+    }
+
+    /**
+     * Evaluates the last {@code calls} outcomes. This is the default, with 100 calls.
+     */
+    public CircuitBreakerBuilder countBasedWindow(int calls) {
+        this.countWindowSize = calls;
+        this.timeWindowSeconds = 0;
+        return this;
+    }
+
+    /**
+     * Evaluates the outcomes of the last {@code seconds} seconds.
+     */
+    public CircuitBreakerBuilder timeBasedWindow(int seconds) {
+        this.timeWindowSeconds = seconds;
+        this.countWindowSize = 0;
+        return this;
+    }
+
+    public CircuitBreakerBuilder waitInOpenState(Duration waitInOpenState) {
+        this.waitInOpenState = waitInOpenState;
+        return this;
+    }
+
+    public CircuitBreakerBuilder permittedCallsInHalfOpenState(int permittedCallsInHalfOpenState) {
+        this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+        return this;
+    }
+
+    public CircuitBreaker build() {
+        return SlidingWindowCircuitBreaker.of(failureRateThreshold, minimumCalls, countWindowSize, timeWindowSeconds,
+                waitInOpenState, permittedCallsInHalfOpenState);
+    }
+}
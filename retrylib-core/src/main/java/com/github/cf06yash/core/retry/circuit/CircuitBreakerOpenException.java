@@ -0,0 +1,17 @@
+package com.github.cf06yash.core.retry.circuit;
+
+import com.github.cf06yash.core.retry.tagging.NonRetryableException;
+
+/**
+ * Signals a call rejected by an open {@link CircuitBreaker}. It carries no stack trace, so failing fast
+ * stays cheap while the breaker is open.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class CircuitBreakerOpenException extends RuntimeException implements NonRetryableException {
+
+    public CircuitBreakerOpenException() {
+        super("circuit breaker is open", null, false, false);
+    }
+}
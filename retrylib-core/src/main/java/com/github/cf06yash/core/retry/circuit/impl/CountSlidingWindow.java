@@ -0,0 +1,52 @@
+package com.github.cf06yash.core.retry.circuit.impl;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free ring buffer of the last {@code size} outcomes. Each record claims a slot with one
+ * increment and swaps the outcome in, adjusting the counters by what it replaced.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+final class CountSlidingWindow
+        implements SlidingWindow {
+
+    private static final int EMPTY = 0;
+    private static final int SUCCESS = 1;
+    private static final int FAILURE = 2;
+
+    private final AtomicIntegerArray outcomes;
+    private final AtomicLong cursor = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+
+    CountSlidingWindow(int size) {
+        this.outcomes = new AtomicIntegerArray(size);
+    }
+
+    @Override
+    public void record(boolean failure) {
+        int slot = (int) (cursor.getAndIncrement() % outcomes.length());
+        int previous = outcomes.getAndSet(slot, failure ? FAILURE : SUCCESS);
+        if (previous == EMPTY) {
+            calls.incrementAndGet();
+        }
+        int delta = (failure ? 1 : 0) - (previous == FAILURE ? 1 : 0);
+        if (delta != 0) {
+            failures.addAndGet(delta);
+        }
+    }
+
+    @Override
+    public int calls() {
+        return calls.get();
+    }
+
+    @Override
+    public int failures() {
+        return failures.get();
+    }
+}
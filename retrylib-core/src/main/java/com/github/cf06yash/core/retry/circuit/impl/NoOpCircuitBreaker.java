@@ -0,0 +1,38 @@
+package com.github.cf06yash.core.retry.circuit.impl;
+
+import com.github.cf06yash.core.retry.circuit.CircuitBreaker;
+
+/**
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class NoOpCircuitBreaker
+        implements CircuitBreaker {
+
+    private static final NoOpCircuitBreaker INSTANCE = new NoOpCircuitBreaker();
+
+    private NoOpCircuitBreaker() {
+    }
+
+    public static CircuitBreaker get() {
+        return INSTANCE;
+    }
+
+    @Override
+    public boolean tryAcquirePermission() {
+        return true;
+    }
+
+    @Override
+    public void onSuccess() {
+    }
+
+    @Override
+    public void onFailure() {
+    }
+
+    @Override
+    public State getState() {
+        return State.CLOSED;
+    }
+}
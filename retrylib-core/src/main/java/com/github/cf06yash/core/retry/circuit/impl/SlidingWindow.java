@@ -0,0 +1,16 @@
+package com.github.cf06yash.core.retry.circuit.impl;
+
+/**
+ * Outcome statistics over the breaker's sliding window.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+interface SlidingWindow {
+
+    void record(boolean failure);
+
+    int calls();
+
+    int failures();
+}
@@ -0,0 +1,167 @@
+package com.github.cf06yash.core.retry.circuit.impl;
+
+import com.github.cf06yash.core.retry.circuit.CircuitBreaker;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free circuit breaker. The current state lives in an immutable phase object swapped by CAS, and
+ * each closed phase owns a fresh sliding window, so outcomes from an earlier phase never leak into the
+ * next one. The breaker opens once the window holds at least {@code minimumCalls} outcomes and the
+ * failure rate reaches the threshold, waits {@code openNanos}, then lets {@code halfOpenCalls} trial
+ * attempts through: all of them succeeding closes it, any failure opens it again.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class SlidingWindowCircuitBreaker
+        implements CircuitBreaker {
+
+    private final int failureRateThreshold;
+    private final int minimumCalls;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final Supplier<SlidingWindow> windowFactory;
+    private final LongSupplier clock;
+    private final AtomicReference<Phase> phase;
+
+    SlidingWindowCircuitBreaker(int failureRateThreshold, int minimumCalls, long openNanos, int halfOpenCalls,
+                                Supplier<SlidingWindow> windowFactory, LongSupplier clock) {
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumCalls = minimumCalls;
+        this.openNanos = openNanos;
+        this.halfOpenCalls = halfOpenCalls;
+        this.windowFactory = windowFactory;
+        this.clock = clock;
+        this.phase = new AtomicReference<>(closed());
+    }
+
+    /**
+     * Creates a breaker over a count-based window of {@code countWindowSize} calls, or over a time-based
+     * window of {@code timeWindowSeconds} seconds when that is positive.
+     */
+    public static CircuitBreaker of(int failureRateThreshold, int minimumCalls, int countWindowSize, int timeWindowSeconds,
+                                    Duration waitInOpenState, int permittedCallsInHalfOpenState) {
+        if (failureRateThreshold <= 0 || failureRateThreshold > 100) {
+            throw new IllegalArgumentException("failure rate threshold must be between 1 and 100");
+        }
+        if (minimumCalls <= 0) {
+            throw new IllegalArgumentException("minimum calls must be positive");
+        }
+        if (countWindowSize <= 0 && timeWindowSeconds <= 0) {
+            throw new IllegalArgumentException("sliding window size must be positive");
+        }
+        if (waitInOpenState == null || waitInOpenState.isNegative()) {
+            throw new IllegalArgumentException("wait in open state cannot be negative");
+        }
+        if (permittedCallsInHalfOpenState <= 0) {
+            throw new IllegalArgumentException("permitted calls in half-open state must be positive");
+        }
+        LongSupplier clock = System::nanoTime;
+        Supplier<SlidingWindow> windowFactory = timeWindowSeconds > 0
+                ? () -> new TimeSlidingWindow(timeWindowSeconds, clock)
+                : () -> new CountSlidingWindow(countWindowSize);
+        return new SlidingWindowCircuitBreaker(failureRateThreshold, minimumCalls, waitInOpenState.toNanos(),
+                permittedCallsInHalfOpenState, windowFactory, clock);
+    }
+
+    @Override
+    public boolean tryAcquirePermission() {
+        while (true) {
+            Phase current = phase.get();
+            switch (current.state) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    if (clock.getAsLong() - current.openedAt < openNanos) {
+                        return false;
+                    }
+                    phase.compareAndSet(current, halfOpen());
+                    break;
+                default:
+                    return tryTakeTrialPermit(current);
+            }
+        }
+    }
+
+    @Override
+    public void releasePermission() {
+        Phase current = phase.get();
+        if (current.state == State.HALF_OPEN) {
+            // capped, as the permit may have come from an earlier half-open phase
+            current.trialPermits.getAndUpdate(permits -> Math.min(permits + 1, halfOpenCalls));
+        }
+    }
+
+    @Override
+    public void onSuccess() {
+        Phase current = phase.get();
+        if (current.state == State.CLOSED) {
+            current.window.record(false);
+        } else if (current.state == State.HALF_OPEN && current.trialSuccesses.incrementAndGet() >= halfOpenCalls) {
+            phase.compareAndSet(current, closed());
+        }
+    }
+
+    @Override
+    public void onFailure() {
+        Phase current = phase.get();
+        if (current.state == State.CLOSED) {
+            SlidingWindow window = current.window;
+            window.record(true);
+            int calls = window.calls();
+            if (calls >= minimumCalls && window.failures() * 100L >= (long) failureRateThreshold * calls) {
+                phase.compareAndSet(current, open());
+            }
+        } else if (current.state == State.HALF_OPEN) {
+            phase.compareAndSet(current, open());
+        }
+    }
+
+    @Override
+    public State getState() {
+        return phase.get().state;
+    }
+
+    private static boolean tryTakeTrialPermit(Phase current) {
+        int permits;
+        do {
+            permits = current.trialPermits.get();
+            if (permits <= 0) {
+                return false;
+            }
+        } while (!current.trialPermits.compareAndSet(permits, permits - 1));
+        return true;
+    }
+
+    private Phase closed() {
+        return new Phase(State.CLOSED, 0, windowFactory.get(), 0);
+    }
+
+    private Phase open() {
+        return new Phase(State.OPEN, clock.getAsLong(), null, 0);
+    }
+
+    private Phase halfOpen() {
+        return new Phase(State.HALF_OPEN, 0, null, halfOpenCalls);
+    }
+
+    private static final class Phase {
+        final State state;
+        final long openedAt;
+        final SlidingWindow window;
+        final AtomicInteger trialPermits;
+        final AtomicInteger trialSuccesses = new AtomicInteger();
+
+        Phase(State state, long openedAt, SlidingWindow window, int trialPermits) {
+            this.state = state;
+            this.openedAt = openedAt;
+            this.window = window;
+            this.trialPermits = new AtomicInteger(trialPermits);
+        }
+    }
+}
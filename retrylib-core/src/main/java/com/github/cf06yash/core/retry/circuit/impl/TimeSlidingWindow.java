@@ -0,0 +1,79 @@
+package com.github.cf06yash.core.retry.circuit.impl;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Outcomes of the last {@code seconds} seconds in one bucket per second. A bucket is reset by the
+ * first record that lands in it after its second has passed; a record racing with that reset may be lost.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+final class TimeSlidingWindow
+        implements SlidingWindow {
+
+    private static final long BUCKET_NANOS = 1_000_000_000L;
+
+    private final int seconds;
+    private final LongSupplier clock;
+    private final long startNanos;
+    private final AtomicLong[] epochs;
+    private final AtomicInteger[] calls;
+    private final AtomicInteger[] failures;
+
+    TimeSlidingWindow(int seconds, LongSupplier clock) {
+        this.seconds = seconds;
+        this.clock = clock;
+        this.startNanos = clock.getAsLong();
+        this.epochs = new AtomicLong[seconds];
+        this.calls = new AtomicInteger[seconds];
+        this.failures = new AtomicInteger[seconds];
+        for (int i = 0; i < seconds; i++) {
+            epochs[i] = new AtomicLong();
+            calls[i] = new AtomicInteger();
+            failures[i] = new AtomicInteger();
+        }
+    }
+
+    @Override
+    public void record(boolean failure) {
+        long epoch = currentEpoch();
+        int index = (int) (epoch % seconds);
+        long seen = epochs[index].get();
+        if (seen < epoch && epochs[index].compareAndSet(seen, epoch)) {
+            calls[index].set(0);
+            failures[index].set(0);
+        }
+        calls[index].incrementAndGet();
+        if (failure) {
+            failures[index].incrementAndGet();
+        }
+    }
+
+    @Override
+    public int calls() {
+        return sum(calls);
+    }
+
+    @Override
+    public int failures() {
+        return sum(failures);
+    }
+
+    private int sum(AtomicInteger[] counters) {
+        long epoch = currentEpoch();
+        int total = 0;
+        for (int i = 0; i < seconds; i++) {
+            if (epoch - epochs[i].get() < seconds) {
+                total += counters[i].get();
+            }
+        }
+        return total;
+    }
+
+    private long currentEpoch() {
+        return (clock.getAsLong() - startNanos) / BUCKET_NANOS;
+    }
+}
@@ -0,0 +1,17 @@
+package com.github.cf06yash.core.retry.executor;
+
+import com.github.cf06yash.core.retry.tagging.RetryableException;
+
+/**
+ * Signals an attempt that did not finish within the executor's attempt timeout. It is retryable, so the
+ * next attempt follows the normal backoff, and carries no stack trace since it is raised on the timeout path.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class AttemptTimeoutException extends RuntimeException implements RetryableException {
+
+    public AttemptTimeoutException(long timeoutMillis) {
+        super("attempt timed out after " + timeoutMillis + " ms", null, false, false);
+    }
+}
@@ -1,6 +1,7 @@
 package com.github.cf06yash.core.retry.executor;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Supplier;
 
 /**
@@ -13,4 +14,14 @@ public interface IAsyncRetryExecutor {
     <T> CompletableFuture<T> executeAsyncWithFallback(Supplier<T> task, Supplier<T> fallback);
 
     <T> CompletableFuture<T> executeAsyncWithFallback(Supplier<T> task, Runnable fallback);
+
+    /**
+     * Retries a non-blocking task. Each attempt is the stage returned by {@code task}; the next attempt is
+     * scheduled when that stage fails, so no thread waits while the attempt is outstanding.
+     */
+    <T> CompletableFuture<T> executeStageAsync(Supplier<? extends CompletionStage<T>> task);
+
+    <T> CompletableFuture<T> executeStageAsyncWithFallback(Supplier<? extends CompletionStage<T>> task, Supplier<T> fallback);
+
+    <T> CompletableFuture<T> executeStageAsyncWithFallback(Supplier<? extends CompletionStage<T>> task, Runnable fallback);
 }
@@ -1,5 +1,9 @@
 package com.github.cf06yash.core.retry.executor;
 
+import com.github.cf06yash.core.retry.batch.BatchFunction;
+import com.github.cf06yash.core.retry.batch.BatchResult;
+
+import java.util.Collection;
 import java.util.concurrent.Callable;
 import java.util.function.Supplier;
 
@@ -17,4 +21,17 @@ public interface IRetryExecutor {
 
     <T> T executeWithFallback(Callable<T> task, Runnable fallback)
             throws Exception;
+
+    /**
+     * Calls {@code batch} with all items, then keeps calling it with only the items whose outcome failed with
+     * a retryable exception, one call per backoff round. Items that succeeded are never sent again. Partial
+     * failures do not throw; inspect the returned outcomes.
+     * <p>
+     * A default method, so implementations written before batches existed keep compiling; they throw
+     * {@link UnsupportedOperationException} until they override it.
+     */
+    default <I, R> BatchResult<R> executeBatch(Collection<? extends I> items, BatchFunction<I, R> batch)
+            throws Exception {
+        throw new UnsupportedOperationException(getClass().getName() + " does not execute batches");
+    }
 }
@@ -1,11 +1,39 @@
 package com.github.cf06yash.core.retry.executor;
 
 import com.github.cf06yash.core.backoff.strategy.BackoffStrategy;
+import com.github.cf06yash.core.retry.circuit.CircuitBreaker;
+import com.github.cf06yash.core.retry.circuit.impl.NoOpCircuitBreaker;
 import com.github.cf06yash.core.retry.executor.impl.AsyncRetryExecutor;
 import com.github.cf06yash.core.retry.executor.impl.SyncRetryExecutor;
+import com.github.cf06yash.core.retry.executor.impl.VirtualThreadRetryExecutor;
+import com.github.cf06yash.core.retry.flight.SingleFlightAsyncRetryExecutor;
+import com.github.cf06yash.core.retry.flight.SingleFlightRetryExecutor;
+import com.github.cf06yash.core.retry.flow.RetryingPublisher;
+import com.github.cf06yash.core.retry.hedge.HedgePolicy;
+import com.github.cf06yash.core.retry.journal.DurableRetryExecutor;
+import com.github.cf06yash.core.retry.journal.RetryJournal;
+import com.github.cf06yash.core.retry.journal.TaskCodec;
+import com.github.cf06yash.core.retry.limit.ConcurrencyLimiter;
+import com.github.cf06yash.core.retry.limit.RetryCapacity;
+import com.github.cf06yash.core.retry.limit.impl.NoOpConcurrencyLimiter;
+import com.github.cf06yash.core.retry.listener.RetryListener;
+import com.github.cf06yash.core.retry.listener.impl.LoggingRetryListener;
+import com.github.cf06yash.core.retry.metrics.RetryMetrics;
+import com.github.cf06yash.core.retry.metrics.impl.NoOpRetryMetrics;
 import com.github.cf06yash.core.retry.policy.RetryPolicy;
+import com.github.cf06yash.core.retry.ratelimit.RetryRateLimiter;
+import com.github.cf06yash.core.retry.ratelimit.impl.NoOpRetryRateLimiter;
+import com.github.cf06yash.core.retry.state.EndpointStateStore;
+import com.github.cf06yash.core.retry.state.impl.NoOpEndpointStateStore;
+import com.github.cf06yash.core.retry.timer.RetryTimer;
+import com.github.cf06yash.core.retry.timer.impl.ScheduledExecutorRetryTimer;
 
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+import java.util.function.LongFunction;
 
 /**
  * Developed by cf06yash.
@@ -15,6 +43,18 @@ public class RetryExecutorBuilder {
     private RetryPolicy retryPolicy;
     private BackoffStrategy backoffStrategy;
     private ScheduledExecutorService scheduler;
+    private RetryTimer timer;
+    private Executor taskExecutor;
+    private boolean inlineFirstAttempt;
+    private RetryListener retryListener = LoggingRetryListener.get();
+    private CircuitBreaker circuitBreaker = NoOpCircuitBreaker.get();
+    private ConcurrencyLimiter concurrencyLimiter = NoOpConcurrencyLimiter.get();
+    private long attemptTimeoutMillis;
+    private HedgePolicy hedgePolicy;
+    private RetryMetrics metrics = NoOpRetryMetrics.get();
+    private RetryCapacity retryCapacity;
+    private RetryRateLimiter retryRateLimiter = NoOpRetryRateLimiter.get();
+    private EndpointStateStore endpointStates = NoOpEndpointStateStore.get();
 
     private RetryExecutorBuilder() {
     }
@@ -38,17 +78,241 @@ public class RetryExecutorBuilder {
         return this;
     }
 
-    public IRetryExecutor build() {
-        if (retryPolicy == null || backoffStrategy == null) {
-            throw new IllegalStateException("RetryPolicy and BackoffStrategy must be set");
+    /**
+     * Alternative to {@link #scheduler(ScheduledExecutorService)}, e.g. a
+     * {@link com.github.cf06yash.core.retry.timer.impl.HashedWheelRetryTimer}. Takes precedence when both are set.
+     */
+    public RetryExecutorBuilder timer(RetryTimer timer) {
+        this.timer = timer;
+        return this;
+    }
+
+    /**
+     * Executor that runs async attempts, e.g. a work-stealing pool. When unset, attempts run on the
+     * scheduler or timer threads, which are then also busy with user code. Sync executors with an
+     * {@link #attemptTimeout(Duration)} run their bounded attempts on it.
+     */
+    public RetryExecutorBuilder taskExecutor(Executor taskExecutor) {
+        this.taskExecutor = taskExecutor;
+        return this;
+    }
+
+    /**
+     * Runs the first async attempt on the calling thread, saving one hand-off per call.
+     */
+    public RetryExecutorBuilder inlineFirstAttempt(boolean inlineFirstAttempt) {
+        this.inlineFirstAttempt = inlineFirstAttempt;
+        return this;
+    }
+
+    public RetryExecutorBuilder retryListener(RetryListener retryListener) {
+        this.retryListener = retryListener;
+        return this;
+    }
+
+    /**
+     * Breaker consulted before every attempt; share one instance between executors calling the same dependency.
+     */
+    public RetryExecutorBuilder circuitBreaker(CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+        return this;
+    }
+
+    /**
+     * Caps concurrent attempts; sync callers wait for a permit, async attempts queue or are rejected.
+     * Share one instance between executors calling the same dependency.
+     */
+    public RetryExecutorBuilder concurrencyLimiter(ConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = concurrencyLimiter;
+        return this;
+    }
+
+    /**
+     * Bounds every single attempt. A timed-out attempt is interrupted (async stages are cancelled) and fails
+     * with a retryable {@link AttemptTimeoutException}, so the next attempt follows the normal backoff. Sync
+     * callers then run attempts on another thread and wait for them at most this long. Async timeouts fire on
+     * the timer, so keep attempts off the timer threads with {@link #taskExecutor(Executor)}.
+     */
+    public RetryExecutorBuilder attemptTimeout(Duration attemptTimeout) {
+        if (attemptTimeout == null || attemptTimeout.isNegative() || attemptTimeout.isZero()) {
+            throw new IllegalArgumentException("attempt timeout must be positive");
         }
-        return new SyncRetryExecutor(retryPolicy, backoffStrategy);
+        this.attemptTimeoutMillis = attemptTimeout.toMillis();
+        return this;
+    }
+
+    /**
+     * Starts a speculative attempt when an async attempt runs longer than the policy's hedge delay. The first
+     * success completes the call and cancels the others; hedges count against the policy's max attempts, draw
+     * from its retry budget, and are skipped when the circuit breaker is not closed, the concurrency limiter has
+     * no free permit or the budget is spent.
+     */
+    public RetryExecutorBuilder hedgePolicy(HedgePolicy hedgePolicy) {
+        this.hedgePolicy = hedgePolicy;
+        return this;
+    }
+
+    /**
+     * Records calls, attempts, retries and latencies, e.g. a
+     * {@link com.github.cf06yash.core.retry.metrics.impl.StripedRetryMetrics}; read them with
+     * {@link RetryMetrics#snapshot()}.
+     */
+    public RetryExecutorBuilder metrics(RetryMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
+    /**
+     * Caps the async calls retrying at once, e.g. {@code RetryCapacity.of(10_000, Overflow.SHED)}; calls that
+     * need a retry beyond it are shed, rejected or displace the oldest retrying call. Unbounded when unset.
+     */
+    public RetryExecutorBuilder retryCapacity(RetryCapacity retryCapacity) {
+        this.retryCapacity = retryCapacity;
+        return this;
+    }
+
+    /**
+     * Paces retries per key, e.g. per endpoint, built with
+     * {@link com.github.cf06yash.core.retry.ratelimit.RetryRateLimiterBuilder}; first attempts are not limited.
+     */
+    public RetryExecutorBuilder retryRateLimiter(RetryRateLimiter retryRateLimiter) {
+        this.retryRateLimiter = retryRateLimiter;
+        return this;
+    }
+
+    /**
+     * Keeps a circuit breaker and error-rate and latency averages per endpoint, built with
+     * {@link com.github.cf06yash.core.retry.state.EndpointStateStoreBuilder}; share one store between executors
+     * calling the same endpoints.
+     */
+    public RetryExecutorBuilder endpointStates(EndpointStateStore endpointStates) {
+        this.endpointStates = endpointStates;
+        return this;
+    }
+
+    public IRetryExecutor build() {
+        return new SyncRetryExecutor(this);
+    }
+
+    /**
+     * Builds a sync executor that parks during backoff and runs bounded attempts on virtual threads (Java 21+).
+     */
+    public IRetryExecutor buildVirtual() {
+        return new VirtualThreadRetryExecutor(this);
     }
 
     public IAsyncRetryExecutor buildAsync() {
-        if (retryPolicy == null || backoffStrategy == null || scheduler == null) {
-            throw new IllegalStateException("RetryPolicy, BackoffStrategy, and Scheduler must be set for async");
+        return new AsyncRetryExecutor(this);
+    }
+
+    /**
+     * Builds a sync executor whose concurrent calls for the same key share one retry loop.
+     */
+    public <K> SingleFlightRetryExecutor<K> buildSingleFlight() {
+        return SingleFlightRetryExecutor.of(build());
+    }
+
+    /**
+     * Builds an async executor whose concurrent calls for the same key share one retry loop.
+     */
+    public <K> SingleFlightAsyncRetryExecutor<K> buildSingleFlightAsync() {
+        return SingleFlightAsyncRetryExecutor.of(buildAsync());
+    }
+
+    /**
+     * Builds an async executor that keeps every task in {@code journal} until its retry loop ends, e.g. a
+     * {@link com.github.cf06yash.core.retry.journal.impl.MappedRetryJournal}; tasks are descriptors that
+     * {@code handler} runs.
+     */
+    public <D, R> DurableRetryExecutor<D, R> buildDurable(RetryJournal journal, TaskCodec<D> codec,
+                                                          Function<? super D, ? extends R> handler) {
+        return DurableRetryExecutor.of(buildAsync(), journal, codec, handler);
+    }
+
+    /**
+     * Builds a publisher that resubscribes to {@code upstream} on the scheduler or timer after the stream fails,
+     * keeping the subscriber's outstanding demand. {@code upstream} is expected to restart on every subscription;
+     * the elements already delivered are dropped from the restarted stream.
+     */
+    public <T> RetryingPublisher<T> buildPublisher(Flow.Publisher<? extends T> upstream) {
+        requirePublisherComponents();
+        return RetryingPublisher.of(upstream, retryPolicy, backoffStrategy, getTimer(), retryListener);
+    }
+
+    /**
+     * Like {@link #buildPublisher(Flow.Publisher)} for an upstream that resumes after the given number of
+     * delivered elements, e.g. from an offset.
+     */
+    public <T> RetryingPublisher<T> buildResumingPublisher(LongFunction<? extends Flow.Publisher<? extends T>> upstream) {
+        requirePublisherComponents();
+        return RetryingPublisher.resuming(upstream, retryPolicy, backoffStrategy, getTimer(), retryListener);
+    }
+
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    public BackoffStrategy getBackoffStrategy() {
+        return backoffStrategy;
+    }
+
+    /**
+     * @return the timer, or one firing on the scheduler when only that is set; {@code null} when neither is
+     */
+    public RetryTimer getTimer() {
+        if (timer != null) {
+            return timer;
+        }
+        return scheduler != null ? ScheduledExecutorRetryTimer.of(scheduler) : null;
+    }
+
+    public Executor getTaskExecutor() {
+        return taskExecutor;
+    }
+
+    public boolean isInlineFirstAttempt() {
+        return inlineFirstAttempt;
+    }
+
+    public RetryListener getRetryListener() {
+        return retryListener;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public ConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    public long getAttemptTimeoutMillis() {
+        return attemptTimeoutMillis;
+    }
+
+    public HedgePolicy getHedgePolicy() {
+        return hedgePolicy;
+    }
+
+    public RetryMetrics getMetrics() {
+        return metrics;
+    }
+
+    public RetryCapacity getRetryCapacity() {
+        return retryCapacity;
+    }
+
+    public RetryRateLimiter getRetryRateLimiter() {
+        return retryRateLimiter;
+    }
+
+    public EndpointStateStore getEndpointStates() {
+        return endpointStates;
+    }
+
+    private void requirePublisherComponents() {
+        if (retryPolicy == null || backoffStrategy == null || (scheduler == null && timer == null) || retryListener == null) {
+            throw new IllegalStateException("RetryPolicy, BackoffStrategy, Scheduler or Timer and RetryListener must be set for a publisher");
         }
-        return new AsyncRetryExecutor(retryPolicy, backoffStrategy, scheduler);
     }
 }
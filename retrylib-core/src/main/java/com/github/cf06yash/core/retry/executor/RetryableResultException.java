@@ -0,0 +1,25 @@
+package com.github.cf06yash.core.retry.executor;
+
+import com.github.cf06yash.core.retry.tagging.StacklessRetryableException;
+
+/**
+ * Stands for an attempt whose result the policy wants retried, e.g. an HTTP 503 response, so backoff, budget,
+ * breaker, listeners and metrics treat it like a failed attempt. The executors raise it themselves; when the
+ * policy gives up, callers get the last result back instead of this exception.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class RetryableResultException extends StacklessRetryableException {
+
+    private final transient Object result;
+
+    public RetryableResultException(Object result) {
+        super("policy asked to retry the result");
+        this.result = result;
+    }
+
+    public Object getResult() {
+        return result;
+    }
+}
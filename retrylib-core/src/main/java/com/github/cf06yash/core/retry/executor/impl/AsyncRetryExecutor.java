@@ -1,14 +1,42 @@
 package com.github.cf06yash.core.retry.executor.impl;
 
+import com.github.cf06yash.core.backoff.strategy.BackoffContext;
 import com.github.cf06yash.core.backoff.strategy.BackoffStrategy;
+import com.github.cf06yash.core.retry.circuit.CircuitBreaker;
+import com.github.cf06yash.core.retry.circuit.CircuitBreakerOpenException;
+import com.github.cf06yash.core.retry.executor.AttemptTimeoutException;
 import com.github.cf06yash.core.retry.executor.IAsyncRetryExecutor;
+import com.github.cf06yash.core.retry.executor.RetryExecutorBuilder;
+import com.github.cf06yash.core.retry.executor.RetryableResultException;
+import com.github.cf06yash.core.retry.hedge.HedgePolicy;
+import com.github.cf06yash.core.retry.jfr.RetryAttemptEvent;
+import com.github.cf06yash.core.retry.jfr.RetryBackoffEvent;
+import com.github.cf06yash.core.retry.jfr.RetryEvents;
+import com.github.cf06yash.core.retry.limit.ConcurrencyLimitExceededException;
+import com.github.cf06yash.core.retry.limit.ConcurrencyLimiter;
+import com.github.cf06yash.core.retry.limit.RetryCapacity;
+import com.github.cf06yash.core.retry.limit.RetryCapacityExceededException;
+import com.github.cf06yash.core.retry.listener.RetryListener;
+import com.github.cf06yash.core.retry.metrics.RetryMetrics;
 import com.github.cf06yash.core.retry.policy.RetryPolicy;
+import com.github.cf06yash.core.retry.ratelimit.RetryRateLimitExceededException;
+import com.github.cf06yash.core.retry.ratelimit.RetryRateLimiter;
+import com.github.cf06yash.core.retry.state.EndpointState;
+import com.github.cf06yash.core.retry.state.EndpointStateStore;
+import com.github.cf06yash.core.retry.timer.RetryTimer;
+import com.github.cf06yash.core.retry.timer.ScheduledRetry;
 
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.function.Supplier;
-import java.util.logging.Logger;
 
 /**
  * Developed by cf06yash.
@@ -17,65 +45,880 @@ import java.util.logging.Logger;
 public class AsyncRetryExecutor
         implements IAsyncRetryExecutor {
 
-    private static final Logger log = Logger.getLogger(AsyncRetryExecutor.class.getName());
-
     private final RetryPolicy retryPolicy;
     private final BackoffStrategy backoffStrategy;
-    private final ScheduledExecutorService scheduler;
+    private final RetryTimer timer;
+    private final Executor taskExecutor;
+    private final boolean inlineFirstAttempt;
+    private final RetryListener retryListener;
+    private final CircuitBreaker circuitBreaker;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final long attemptTimeoutMillis;
+    private final HedgePolicy hedgePolicy;
+    private final RetryMetrics metrics;
+    private final RetryCapacity retryCapacity;
+    private final RetryRateLimiter retryRateLimiter;
+    private final EndpointStateStore endpointStates;
 
     public AsyncRetryExecutor(RetryPolicy retryPolicy, BackoffStrategy backoffStrategy, ScheduledExecutorService scheduler) {
-        this.retryPolicy = retryPolicy;
-        this.backoffStrategy = backoffStrategy;
-        this.scheduler = scheduler;
+        this(RetryExecutorBuilder.newBuilder().retryPolicy(retryPolicy).backoffStrategy(backoffStrategy).scheduler(scheduler));
+    }
+
+    /**
+     * Takes every option from {@code builder}, as {@link RetryExecutorBuilder#buildAsync()} does. Without a task
+     * executor attempts run on the timer's threads; without a hedge policy or retry capacity there is no hedging
+     * and no bound on the calls retrying at once.
+     */
+    public AsyncRetryExecutor(RetryExecutorBuilder builder) {
+        RetryTimer timer = builder.getTimer();
+        if (builder.getRetryPolicy() == null || builder.getBackoffStrategy() == null || timer == null || builder.getRetryListener() == null
+                || builder.getCircuitBreaker() == null || builder.getConcurrencyLimiter() == null || builder.getMetrics() == null
+                || builder.getRetryRateLimiter() == null || builder.getEndpointStates() == null) {
+            throw new IllegalStateException("RetryPolicy, BackoffStrategy, Scheduler or Timer, RetryListener, CircuitBreaker, "
+                    + "ConcurrencyLimiter, RetryMetrics, RetryRateLimiter and EndpointStateStore must be set for async");
+        }
+        this.retryPolicy = builder.getRetryPolicy();
+        this.backoffStrategy = builder.getBackoffStrategy();
+        this.timer = timer;
+        this.taskExecutor = builder.getTaskExecutor();
+        this.inlineFirstAttempt = builder.isInlineFirstAttempt();
+        this.retryListener = builder.getRetryListener();
+        this.circuitBreaker = builder.getCircuitBreaker();
+        this.concurrencyLimiter = builder.getConcurrencyLimiter();
+        this.attemptTimeoutMillis = builder.getAttemptTimeoutMillis();
+        this.hedgePolicy = builder.getHedgePolicy();
+        this.metrics = builder.getMetrics();
+        this.retryCapacity = builder.getRetryCapacity();
+        this.retryRateLimiter = builder.getRetryRateLimiter();
+        this.endpointStates = builder.getEndpointStates();
     }
 
     @Override
     public <T> CompletableFuture<T> executeAsync(Supplier<T> task) {
         CompletableFuture<T> future = new CompletableFuture<>();
-        executeInternal(task, future, 1, future::completeExceptionally);
+        executeInternal(task, future, e -> giveUp(future, e));
         return future;
     }
 
     @Override
     public <T> CompletableFuture<T> executeAsyncWithFallback(Supplier<T> task, Supplier<T> fallback) {
         CompletableFuture<T> future = new CompletableFuture<>();
-        executeInternal(task, future, 1, e -> future.complete(fallback.get()));
+        executeInternal(task, future, supplyFallback(future, fallback));
         return future;
     }
 
     @Override
     public <T> CompletableFuture<T> executeAsyncWithFallback(Supplier<T> task, Runnable fallback) {
         CompletableFuture<T> future = new CompletableFuture<>();
-        executeInternal(task, future, 1, e -> {
+        executeInternal(task, future, runFallback(future, fallback));
+        return future;
+    }
+
+    @Override
+    public <T> CompletableFuture<T> executeStageAsync(Supplier<? extends CompletionStage<T>> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        executeStageInternal(task, future, e -> giveUp(future, e));
+        return future;
+    }
+
+    @Override
+    public <T> CompletableFuture<T> executeStageAsyncWithFallback(Supplier<? extends CompletionStage<T>> task, Supplier<T> fallback) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        executeStageInternal(task, future, supplyFallback(future, fallback));
+        return future;
+    }
+
+    @Override
+    public <T> CompletableFuture<T> executeStageAsyncWithFallback(Supplier<? extends CompletionStage<T>> task, Runnable fallback) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        executeStageInternal(task, future, runFallback(future, fallback));
+        return future;
+    }
+
+    private <T> AsyncFallbackHandler supplyFallback(CompletableFuture<T> future, Supplier<T> fallback) {
+        return e -> {
+            metrics.onFallback();
+            future.complete(fallback.get());
+        };
+    }
+
+    private AsyncFallbackHandler runFallback(CompletableFuture<?> future, Runnable fallback) {
+        return e -> {
+            metrics.onFallback();
             fallback.run();
+            giveUp(future, e);
+        };
+    }
+
+    /**
+     * Completes a call the policy gave up on: with the last result when it kept retrying a result, otherwise
+     * with the last failure.
+     */
+    @SuppressWarnings("unchecked")
+    private static void giveUp(CompletableFuture<?> future, Exception e) {
+        if (e instanceof RetryableResultException r) {
+            ((CompletableFuture<Object>) future).complete(r.getResult());
+        } else {
             future.completeExceptionally(e);
-        });
-        return future;
+        }
     }
 
-    private <T> void executeInternal(Supplier<T> task, CompletableFuture<T> future, int attempt, AsyncFallbackHandler fallback) {
-        scheduler.execute(() -> {
-            try {
-                var t = task.get();
-                future.complete(t);
-            } catch (Exception e) {
-                if (!retryPolicy.shouldRetry(attempt, e)) {
-                    try {
-                        fallback.handle(e);
-                    } catch (Exception fallbackEx) {
-                        future.completeExceptionally(fallbackEx);
+    private <T> void executeInternal(Supplier<T> task, CompletableFuture<T> future, AsyncFallbackHandler fallback) {
+        Execution execution = startExecution(task, fallback);
+        if (inlineFirstAttempt) {
+            runAttempt(task, future, 1, execution);
+        } else if (taskExecutor != null) {
+            taskExecutor.execute(() -> runAttempt(task, future, 1, execution));
+        } else {
+            timer.execute(() -> runAttempt(task, future, 1, execution));
+        }
+    }
+
+    private <T> void executeStageInternal(Supplier<? extends CompletionStage<T>> task, CompletableFuture<T> future,
+                                          AsyncFallbackHandler fallback) {
+        Execution execution = startExecution(task, fallback);
+        if (inlineFirstAttempt) {
+            runStageAttempt(task, future, 1, execution);
+        } else if (taskExecutor != null) {
+            taskExecutor.execute(() -> runStageAttempt(task, future, 1, execution));
+        } else {
+            timer.execute(() -> runStageAttempt(task, future, 1, execution));
+        }
+    }
+
+    private Execution startExecution(Object task, AsyncFallbackHandler fallback) {
+        retryPolicy.onFirstAttempt();
+        metrics.onCall();
+        long now = System.nanoTime();
+        long timeoutNanos = retryPolicy.getTimeoutNanos();
+        return new Execution(task, endpointStates.forTask(task), backoffStrategy.newContext(), now, timeoutNanos > 0 ? now + timeoutNanos : 0, fallback,
+                hedgePolicy != null);
+    }
+
+    private <T> void runAttempt(Supplier<T> task, CompletableFuture<T> future, int attempt, Execution execution) {
+        if (future.isDone()) {
+            return;
+        }
+        if (concurrencyLimiter.tryAcquire()) {
+            runPermittedAttempt(task, future, attempt, execution, false);
+        } else if (!concurrencyLimiter.enqueue(() -> dispatch(() -> runPermittedAttempt(task, future, attempt, execution, false)))) {
+            reject(future, execution, new ConcurrencyLimitExceededException());
+        }
+    }
+
+    private <T> void runPermittedAttempt(Supplier<T> task, CompletableFuture<T> future, int attempt, Execution execution,
+                                         boolean asHedge) {
+        if (!(asHedge ? admitHedge(future, execution) : admit(future, execution))) {
+            return;
+        }
+        long start = System.nanoTime();
+        RetryAttemptEvent event = RetryEvents.beginAttempt(attempt);
+        AttemptGuard guard = guarded()
+                ? arm(Thread.currentThread(), start, event, future, attempt, execution, (n, hedged) -> {
+                    if (hedged) {
+                        runPermittedAttempt(task, future, n, execution, true);
+                    } else {
+                        runAttempt(task, future, n, execution);
                     }
+                })
+                : null;
+        try {
+            var t = task.get();
+            if (retryPolicy.isRetryableResult(t)) {
+                throw new RetryableResultException(t);
+            }
+            if (guard != null && !guard.finish()) {
+                return;
+            }
+            onAttemptSucceeded(System.nanoTime() - start, event, execution, guard);
+            future.complete(t);
+        } catch (Exception e) {
+            if (guard != null && !guard.finish()) {
+                return;
+            }
+            onAttemptFailed(e, System.nanoTime() - start, event, future, attempt, execution,
+                    (n, hedged) -> runAttempt(task, future, n, execution));
+        } catch (Error err) {
+            if (guard != null && !guard.finish()) {
+                return;
+            }
+            onAttemptError(err, System.nanoTime() - start, future, execution);
+        }
+    }
+
+    private <T> void runStageAttempt(Supplier<? extends CompletionStage<T>> task, CompletableFuture<T> future, int attempt,
+                                     Execution execution) {
+        if (future.isDone()) {
+            return;
+        }
+        if (concurrencyLimiter.tryAcquire()) {
+            runPermittedStageAttempt(task, future, attempt, execution, false);
+        } else if (!concurrencyLimiter.enqueue(() -> dispatch(() -> runPermittedStageAttempt(task, future, attempt, execution, false)))) {
+            reject(future, execution, new ConcurrencyLimitExceededException());
+        }
+    }
+
+    private <T> void runPermittedStageAttempt(Supplier<? extends CompletionStage<T>> task, CompletableFuture<T> future, int attempt,
+                                              Execution execution, boolean asHedge) {
+        if (!(asHedge ? admitHedge(future, execution) : admit(future, execution))) {
+            return;
+        }
+        long start = System.nanoTime();
+        AttemptLauncher next = (n, hedged) -> {
+            if (hedged) {
+                runPermittedStageAttempt(task, future, n, execution, true);
+            } else {
+                runStageAttempt(task, future, n, execution);
+            }
+        };
+        RetryAttemptEvent event = RetryEvents.beginAttempt(attempt);
+        AttemptGuard guard = guarded() ? arm(Thread.currentThread(), start, event, future, attempt, execution, next) : null;
+        CompletionStage<T> stage;
+        try {
+            stage = task.get();
+            if (stage == null) {
+                throw new NullPointerException("task returned a null CompletionStage");
+            }
+        } catch (Exception e) {
+            if (guard != null && !guard.finish()) {
+                return;
+            }
+            onAttemptFailed(e, System.nanoTime() - start, event, future, attempt, execution, next);
+            return;
+        }
+        if (guard != null && !guard.attach(stage)) {
+            return;
+        }
+        stage.whenComplete((result, error) -> {
+            if (guard != null && !guard.finish()) {
+                return;
+            }
+            long latency = System.nanoTime() - start;
+            if (error == null && retryPolicy.isRetryableResult(result)) {
+                onAttemptFailed(new RetryableResultException(result), latency, event, future, attempt, execution, next);
+                return;
+            }
+            if (error == null) {
+                onAttemptSucceeded(latency, event, execution, guard);
+                future.complete(result);
+                return;
+            }
+            Throwable cause = unwrap(error);
+            if (cause instanceof Exception e) {
+                onAttemptFailed(e, latency, event, future, attempt, execution, next);
+            } else {
+                onAttemptError(cause, latency, future, execution);
+            }
+        });
+    }
+
+    /**
+     * An {@link Error} is not retried: the attempt's permit and breakers see a failure and the call fails with it.
+     */
+    private void onAttemptError(Throwable error, long latencyNanos, CompletableFuture<?> future, Execution execution) {
+        concurrencyLimiter.onDropped(latencyNanos);
+        circuitBreaker.onFailure();
+        if (execution.endpoint != null) {
+            execution.endpoint.onFailure(latencyNanos);
+        }
+        future.completeExceptionally(error);
+    }
+
+    /**
+     * Last checks before an attempt holding a concurrency permit runs; returns the permit when it does not.
+     */
+    private boolean admit(CompletableFuture<?> future, Execution execution) {
+        if (future.isDone()) {
+            // cancelled while queued for a permit, or won by another hedged attempt
+            concurrencyLimiter.onIgnore();
+            return false;
+        }
+        if (!permitted(execution.endpoint)) {
+            concurrencyLimiter.onIgnore();
+            reject(future, execution, new CircuitBreakerOpenException());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * {@link #admit} for a hedge, which took its permits in {@link #hedge} already. A hedge is never the attempt
+     * that decides the call, so one that is no longer wanted gives its permits back and leaves the future alone.
+     */
+    private boolean admitHedge(CompletableFuture<?> future, Execution execution) {
+        if (!future.isDone()) {
+            return true;
+        }
+        concurrencyLimiter.onIgnore();
+        releasePermissions(execution.endpoint);
+        Execution.IN_FLIGHT.decrementAndGet(execution);
+        return false;
+    }
+
+    /**
+     * Asks the endpoint's breaker first, so an endpoint that is open does not take a trial permit of the shared
+     * one, and gives the endpoint's permit back when the shared breaker refuses, or a half-open endpoint would
+     * never close.
+     */
+    private boolean permitted(EndpointState endpoint) {
+        if (endpoint == null) {
+            return circuitBreaker.tryAcquirePermission();
+        }
+        if (!endpoint.tryAcquirePermission()) {
+            return false;
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            endpoint.releasePermission();
+            return false;
+        }
+        return true;
+    }
+
+    private void releasePermissions(EndpointState endpoint) {
+        circuitBreaker.releasePermission();
+        if (endpoint != null) {
+            endpoint.releasePermission();
+        }
+    }
+
+    private boolean guarded() {
+        return attemptTimeoutMillis > 0 || hedgePolicy != null;
+    }
+
+    /**
+     * Arms the attempt timeout and the hedge timer of an attempt that is about to run. A timeout that fires
+     * first interrupts the attempt's thread or cancels its stage and fails the attempt with a retryable
+     * {@link AttemptTimeoutException}. A hedge that fires first starts another attempt next to this one.
+     */
+    private AttemptGuard arm(Thread runner, long start, RetryAttemptEvent event, CompletableFuture<?> future, int attempt,
+                             Execution execution, AttemptLauncher next) {
+        AttemptGuard guard = new AttemptGuard(runner, start);
+        if (hedgePolicy != null) {
+            execution.attempts.add(guard);
+            long hedgeDelay = hedgePolicy.hedgeDelayMillis();
+            if (hedgeDelay >= 0 && execution.started < retryPolicy.getMaxAttempts()) {
+                guard.hedge = timer.schedule(() -> hedge(guard, future, execution, next), hedgeDelay);
+            }
+        }
+        if (attemptTimeoutMillis > 0) {
+            guard.timeout = timer.schedule(() -> {
+                if (guard.expire()) {
+                    onAttemptFailed(new AttemptTimeoutException(attemptTimeoutMillis), System.nanoTime() - start, event, future,
+                            attempt, execution, next);
+                }
+            }, attemptTimeoutMillis);
+        }
+        return guard;
+    }
+
+    /**
+     * Starts a speculative attempt next to a slow one. Hedges are extra load, so they are skipped rather than
+     * queued or rejected when the shared or the endpoint's breaker is not closed, no concurrency permit is free
+     * or the policy's retry budget has no token left. The breakers' permissions are taken here, so the hedge
+     * cannot be refused later and end the call while the slow attempt may still succeed.
+     */
+    private void hedge(AttemptGuard slow, CompletableFuture<?> future, Execution execution, AttemptLauncher next) {
+        EndpointState endpoint = execution.endpoint;
+        if (slow.isDone() || future.isDone() || circuitBreaker.getState() != CircuitBreaker.State.CLOSED
+                || (endpoint != null && endpoint.getCircuitBreaker().getState() != CircuitBreaker.State.CLOSED)
+                || !concurrencyLimiter.tryAcquire()) {
+            return;
+        }
+        if (!permitted(endpoint)) {
+            concurrencyLimiter.onIgnore();
+            return;
+        }
+        boolean allowed = retryPolicy.tryHedge();
+        int attempt = allowed ? execution.reserveAttempt(retryPolicy.getMaxAttempts()) : -1;
+        if (attempt < 0) {
+            if (allowed) {
+                retryPolicy.onRetryAbandoned();
+            }
+            concurrencyLimiter.onIgnore();
+            releasePermissions(endpoint);
+            return;
+        }
+        Execution.IN_FLIGHT.incrementAndGet(execution);
+        dispatch(() -> next.launch(attempt, true));
+    }
+
+    private void onAttemptSucceeded(long latencyNanos, RetryAttemptEvent event, Execution execution, AttemptGuard winner) {
+        RetryEvents.commitSuccess(event);
+        concurrencyLimiter.onSuccess(latencyNanos);
+        retryPolicy.onAttemptCompleted(latencyNanos);
+        if (hedgePolicy != null) {
+            hedgePolicy.onAttemptCompleted(latencyNanos);
+            cancelLosers(execution, winner);
+        }
+        circuitBreaker.onSuccess();
+        if (execution.endpoint != null) {
+            execution.endpoint.onSuccess(latencyNanos);
+        }
+        metrics.onAttemptSucceeded(latencyNanos);
+        metrics.onSuccess(System.nanoTime() - execution.startNanos);
+    }
+
+    /**
+     * Returns a failed attempt's permit. Only failures the policy would retry count as drops, so e.g. a
+     * validation error does not shrink the limit as overload would.
+     */
+    private void releaseFailed(Exception e, long latencyNanos) {
+        if (e != null && retryPolicy.getRetryClassifier().isRetryable(e)) {
+            concurrencyLimiter.onDropped(latencyNanos);
+        } else {
+            concurrencyLimiter.onIgnore();
+        }
+    }
+
+    private void cancelLosers(Execution execution, AttemptGuard winner) {
+        long now = System.nanoTime();
+        for (AttemptGuard attempt : execution.attempts) {
+            if (attempt != winner && attempt.expire()) {
+                concurrencyLimiter.onIgnore();
+                // a loser took at least this long; leaving it out would hide the slow tail the hedge delay is
+                // derived from and hedge ever more attempts
+                hedgePolicy.onAttemptCompleted(now - attempt.start);
+            }
+        }
+    }
+
+    private void onAttemptFailed(Exception e, long latencyNanos, RetryAttemptEvent event, CompletableFuture<?> future, int attempt,
+                                 Execution execution, AttemptLauncher next) {
+        RetryEvents.endAttempt(event);
+        releaseFailed(e, latencyNanos);
+        retryPolicy.onAttemptCompleted(latencyNanos);
+        circuitBreaker.onFailure();
+        if (execution.endpoint != null) {
+            execution.endpoint.onFailure(latencyNanos);
+        }
+        metrics.onAttemptFailed(e, latencyNanos);
+        if (hedgePolicy != null) {
+            hedgePolicy.onAttemptCompleted(latencyNanos);
+            if (Execution.IN_FLIGHT.decrementAndGet(execution) > 0) {
+                // a hedged attempt is still running and decides the outcome
+                RetryEvents.commitFailure(event, RetryEvents.SUPERSEDED, retryPolicy, e, -1);
+                return;
+            }
+            attempt = execution.started;
+        }
+        long delay = -1;
+        int nextAttempt = -1;
+        // an open breaker ends the call now rather than after a backoff that could only be rejected
+        boolean allowed = circuitBreaker.getState() != CircuitBreaker.State.OPEN
+                && (execution.endpoint == null || !execution.endpoint.isOpen()) && retryPolicy.shouldRetry(attempt, e);
+        if (allowed) {
+            delay = nextDelay(execution, attempt, e);
+        }
+        if (delay >= 0) {
+            nextAttempt = execution.reserveAttempt(retryPolicy.getMaxAttempts());
+        }
+        if (nextAttempt < 0) {
+            if (allowed) {
+                retryPolicy.onRetryAbandoned();
+            }
+            RetryEvents.commitFailure(event, RetryEvents.EXHAUSTED, retryPolicy, e, -1);
+            retryListener.onExhausted(attempt, e);
+            metrics.onExhausted(e, System.nanoTime() - execution.startNanos);
+            fallBack(future, execution, e);
+            return;
+        }
+        RetryingCall call = execution.retrying;
+        if (retryCapacity != null && call == null) {
+            call = new RetryingCall(execution, future);
+            if (!retryCapacity.tryAcquire(call)) {
+                RetryEvents.commitFailure(event, RetryEvents.EXHAUSTED, retryPolicy, e, -1);
+                overflow(future, execution, attempt, e);
+                return;
+            }
+            execution.retrying = call;
+            RetryingCall admitted = call;
+            future.whenComplete((result, error) -> retryCapacity.release(admitted));
+        }
+        delay = retryRateLimiter.reserve(execution.task, delay, rateLimitWaitNanos(execution, delay));
+        if (delay == RetryRateLimiter.PAST_DEADLINE) {
+            retryPolicy.onRetryAbandoned();
+            RetryEvents.commitFailure(event, RetryEvents.EXHAUSTED, retryPolicy, e, -1);
+            retryListener.onExhausted(attempt, e);
+            metrics.onExhausted(e, System.nanoTime() - execution.startNanos);
+            fallBack(future, execution, e);
+            return;
+        }
+        if (delay < 0) {
+            RetryEvents.commitFailure(event, RetryEvents.EXHAUSTED, retryPolicy, e, -1);
+            shed(future, execution, attempt, e, new RetryRateLimitExceededException(e));
+            return;
+        }
+        RetryEvents.commitFailure(event, RetryEvents.RETRY, retryPolicy, e, delay);
+        retryListener.onRetry(attempt, e, delay);
+        metrics.onRetry(delay);
+        if (hedgePolicy != null) {
+            Execution.IN_FLIGHT.incrementAndGet(execution);
+        }
+        int launched = nextAttempt;
+        RetryBackoffEvent backoffEvent = RetryEvents.beginBackoff(attempt, delay);
+        RetryingCall waiting = call;
+        int failedAttempt = attempt;
+        Runnable retry = new Runnable() {
+            @Override
+            public void run() {
+                // a pause another caller raised while this retry waited holds it too
+                long held = heldMillis(execution);
+                if (held > 0 && !future.isDone()) {
+                    schedule(this, held, waiting);
                     return;
                 }
-                long delay = backoffStrategy.computeDelay(attempt);
-                log.info("calculated delay async executor: " + delay);
-                scheduler.schedule(() -> executeInternal(task, future, attempt + 1, fallback), delay, TimeUnit.MILLISECONDS);
+                RetryEvents.commitBackoff(backoffEvent);
+                if (held < 0 && !future.isDone()) {
+                    retryPolicy.onRetryAbandoned();
+                    retryListener.onExhausted(failedAttempt, e);
+                    metrics.onExhausted(e, System.nanoTime() - execution.startNanos);
+                    fallBack(future, execution, e);
+                    return;
+                }
+                next.launch(launched, false);
             }
-        });
+        };
+        if (call != null) {
+            call.attempt = attempt;
+            call.lastFailure = e;
+        }
+        schedule(retry, delay, call);
+    }
+
+    private void schedule(Runnable retry, long delay, RetryingCall call) {
+        // the timer thread only hands the attempt over when a separate task executor is configured
+        ScheduledRetry scheduled = timer.schedule(taskExecutor != null ? () -> taskExecutor.execute(retry) : retry, delay);
+        if (call != null) {
+            call.pending = scheduled;
+        }
+    }
+
+    /**
+     * Ends a call whose retry found the capacity full, as the capacity's overflow policy says.
+     */
+    private void overflow(CompletableFuture<?> future, Execution execution, int attempt, Exception e) {
+        RetryCapacityExceededException reason = new RetryCapacityExceededException(e);
+        if (retryCapacity.getOverflow() == RetryCapacity.Overflow.REJECT) {
+            retryPolicy.onRetryAbandoned();
+            metrics.onRejected(reason, System.nanoTime() - execution.startNanos);
+            future.completeExceptionally(reason);
+            return;
+        }
+        shed(future, execution, attempt, e, reason);
+    }
+
+    /**
+     * Ends a call that may not retry any more, recording {@code reason} and falling back on its last failure.
+     */
+    private void shed(CompletableFuture<?> future, Execution execution, int attempt, Exception e, RuntimeException reason) {
+        retryPolicy.onRetryAbandoned();
+        metrics.onRejected(reason, System.nanoTime() - execution.startNanos);
+        retryListener.onExhausted(attempt, e);
+        fallBack(future, execution, e);
+    }
+
+    private static void fallBack(CompletableFuture<?> future, Execution execution, Exception e) {
+        try {
+            execution.fallback.handle(e);
+        } catch (Exception fallbackEx) {
+            future.completeExceptionally(fallbackEx);
+        }
+    }
+
+    /**
+     * @return the server's {@code Retry-After} for {@code e} if it gave one, otherwise the backoff, held until
+     * the endpoint's pause gate opens and cut to the time left before the execution's deadline; -1 when the
+     * policy gives up because the next attempt cannot finish in time or start when the server allows
+     */
+    private long nextDelay(Execution execution, int attempt, Exception e) {
+        EndpointState endpoint = execution.endpoint;
+        long retryAfter = retryPolicy.getRetryAfterMillis(e);
+        long delay;
+        if (retryAfter >= 0) {
+            delay = retryAfter;
+            if (endpoint != null) {
+                endpoint.pauseFor(retryAfter);
+            }
+        } else {
+            delay = execution.backoff.nextDelay(attempt);
+        }
+        if (endpoint != null) {
+            delay = Math.max(delay, endpoint.getPauseRemainingMillis());
+        }
+        if (retryPolicy.getTimeoutNanos() <= 0) {
+            return delay;
+        }
+        long delayNanos = TimeUnit.MILLISECONDS.toNanos(delay);
+        long fitted = retryPolicy.fitDelayNanos(delayNanos, execution.deadlineNanos - System.nanoTime());
+        // retrying before the server allows would only be throttled again
+        if (fitted < 0 || (fitted < delayNanos && (retryAfter >= 0 || endpoint != null && endpoint.getPauseRemainingMillis() > 0))) {
+            return -1;
+        }
+        return TimeUnit.NANOSECONDS.toMillis(fitted);
+    }
+
+    /**
+     * @return how much longer than {@code delayMillis} a retry may wait for a rate-limit slot and still make the
+     * execution's deadline
+     */
+    private long rateLimitWaitNanos(Execution execution, long delayMillis) {
+        if (retryPolicy.getTimeoutNanos() <= 0) {
+            return Long.MAX_VALUE;
+        }
+        long fits = retryPolicy.fitDelayNanos(Long.MAX_VALUE, execution.deadlineNanos - System.nanoTime());
+        return Math.max(0, fits - TimeUnit.MILLISECONDS.toNanos(delayMillis));
+    }
+
+    /**
+     * @return how much longer another caller's {@code Retry-After} holds the execution's endpoint, or -1 when
+     * that outlasts the execution's deadline and the call gives up as it would on {@link #nextDelay} returning -1
+     */
+    private static long heldMillis(Execution execution) {
+        if (execution.endpoint == null) {
+            return 0;
+        }
+        long held = execution.endpoint.getPauseRemainingMillis();
+        if (held > 0 && execution.deadlineNanos != 0
+                && TimeUnit.MILLISECONDS.toNanos(held) > execution.deadlineNanos - System.nanoTime()) {
+            return -1;
+        }
+        return held;
+    }
+
+    /**
+     * Hands an attempt that waited for a concurrency permit to the threads attempts normally run on.
+     */
+    private void dispatch(Runnable attempt) {
+        if (taskExecutor != null) {
+            taskExecutor.execute(attempt);
+        } else {
+            timer.execute(attempt);
+        }
+    }
+
+    private void reject(CompletableFuture<?> future, Execution execution, RuntimeException reason) {
+        metrics.onRejected(reason, System.nanoTime() - execution.startNanos);
+        fallBack(future, execution, reason);
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
     }
 
     @FunctionalInterface
     private interface AsyncFallbackHandler {
         void handle(Exception e);
     }
+
+    /**
+     * Starts attempt number {@code attempt} of a call, either through the concurrency limiter or, for hedges
+     * that already took a permit and the breakers' permissions, directly.
+     */
+    @FunctionalInterface
+    private interface AttemptLauncher {
+        void launch(int attempt, boolean hedged);
+    }
+
+    /**
+     * Decides whether an attempt's own outcome or its cancellation (timeout or a hedge winning) takes effect.
+     * Both sides decide under the guard's lock, so an attempt's thread is never interrupted after it has
+     * finished and moved on to other work.
+     */
+    private static final class AttemptGuard {
+        private final long start;
+        private Thread runner;
+        private CompletionStage<?> stage;
+        private boolean done;
+        private boolean interrupted;
+        private volatile ScheduledRetry timeout;
+        private volatile ScheduledRetry hedge;
+
+        AttemptGuard(Thread runner, long start) {
+            this.runner = runner;
+            this.start = start;
+        }
+
+        /**
+         * Hands cancellation over from the thread that created the stage to the stage itself.
+         *
+         * @return {@code false} if the attempt was cancelled while the stage was being created
+         */
+        boolean attach(CompletionStage<?> stage) {
+            synchronized (this) {
+                if (!done) {
+                    this.runner = null;
+                    this.stage = stage;
+                    return true;
+                }
+            }
+            cancel(stage);
+            clearInterrupt();
+            return false;
+        }
+
+        /**
+         * Called with the attempt's own outcome; {@code false} means it was already cancelled and the outcome
+         * must be ignored.
+         */
+        boolean finish() {
+            synchronized (this) {
+                if (!done) {
+                    done = true;
+                    runner = null;
+                    cancelTimers();
+                    return true;
+                }
+            }
+            clearInterrupt();
+            return false;
+        }
+
+        /**
+         * Cancels the attempt: interrupts its thread or cancels its stage.
+         *
+         * @return {@code false} if the attempt had already finished
+         */
+        boolean expire() {
+            CompletionStage<?> toCancel;
+            synchronized (this) {
+                if (done) {
+                    return false;
+                }
+                done = true;
+                if (runner != null) {
+                    interrupted = true;
+                    runner.interrupt();
+                }
+                toCancel = stage;
+                cancelTimers();
+            }
+            if (toCancel != null) {
+                cancel(toCancel);
+            }
+            return true;
+        }
+
+        synchronized boolean isDone() {
+            return done;
+        }
+
+        private void cancelTimers() {
+            ScheduledRetry scheduled = timeout;
+            if (scheduled != null) {
+                scheduled.cancel();
+            }
+            scheduled = hedge;
+            if (scheduled != null) {
+                scheduled.cancel();
+            }
+        }
+
+        /**
+         * Clears the interrupt of a cancelled attempt before its thread goes back to its pool.
+         */
+        private void clearInterrupt() {
+            boolean clear;
+            synchronized (this) {
+                clear = interrupted;
+            }
+            if (clear) {
+                Thread.interrupted();
+            }
+        }
+
+        private static void cancel(CompletionStage<?> stage) {
+            try {
+                stage.toCompletableFuture().cancel(true);
+            } catch (UnsupportedOperationException ignored) {
+                // the stage cannot be cancelled; its outcome is ignored once it arrives
+            }
+        }
+    }
+
+    /**
+     * A call holding a slot of the retry capacity, from its first retry until it completes.
+     */
+    private final class RetryingCall implements RetryCapacity.Retrying {
+        final Execution execution;
+        final CompletableFuture<?> future;
+        volatile int attempt;
+        volatile Exception lastFailure;
+        volatile ScheduledRetry pending;
+
+        RetryingCall(Execution execution, CompletableFuture<?> future) {
+            this.execution = execution;
+            this.future = future;
+        }
+
+        @Override
+        public boolean isDone() {
+            return future.isDone();
+        }
+
+        @Override
+        public boolean shed() {
+            ScheduledRetry retry = pending;
+            // a retry that already fired is running; only one still waiting out its backoff can be dropped
+            if (retry == null || !retry.cancel()) {
+                return false;
+            }
+            Exception e = lastFailure;
+            AsyncRetryExecutor.this.shed(future, execution, attempt, e, new RetryCapacityExceededException(e));
+            return true;
+        }
+    }
+
+    /**
+     * State shared by all attempts of one call.
+     */
+    private static final class Execution {
+        static final AtomicIntegerFieldUpdater<Execution> STARTED = AtomicIntegerFieldUpdater.newUpdater(Execution.class, "started");
+        static final AtomicIntegerFieldUpdater<Execution> IN_FLIGHT = AtomicIntegerFieldUpdater.newUpdater(Execution.class,
+                "inFlight");
+
+        // the task as submitted, which keys the retry rate limiter
+        final Object task;
+        // state of the endpoint the task calls, or null
+        final EndpointState endpoint;
+        final BackoffContext backoff;
+        final long startNanos;
+        final long deadlineNanos;
+        final AsyncFallbackHandler fallback;
+        // attempts of this call, only tracked when hedging
+        final Queue<AttemptGuard> attempts;
+        volatile int started = 1;
+        // attempts started or scheduled and not yet failed, only tracked when hedging
+        volatile int inFlight = 1;
+        // set once the call takes a slot of the retry capacity
+        volatile RetryingCall retrying;
+
+        Execution(Object task, EndpointState endpoint, BackoffContext backoff, long startNanos, long deadlineNanos,
+                  AsyncFallbackHandler fallback, boolean hedging) {
+            this.task = task;
+            this.endpoint = endpoint;
+            this.backoff = backoff;
+            this.startNanos = startNanos;
+            this.deadlineNanos = deadlineNanos;
+            this.fallback = fallback;
+            this.attempts = hedging ? new ConcurrentLinkedQueue<>() : null;
+        }
+
+        /**
+         * @return the number of a new attempt within {@code maxAttempts}, or -1 when the budget is spent
+         */
+        int reserveAttempt(int maxAttempts) {
+            int current;
+            do {
+                current = started;
+                if (current >= maxAttempts) {
+                    return -1;
+                }
+            } while (!STARTED.compareAndSet(this, current, current + 1));
+            return current + 1;
+        }
+    }
 }
@@ -1,13 +1,40 @@
 package com.github.cf06yash.core.retry.executor.impl;
 
+import com.github.cf06yash.core.backoff.strategy.BackoffContext;
 import com.github.cf06yash.core.backoff.strategy.BackoffStrategy;
+import com.github.cf06yash.core.retry.batch.BatchFunction;
+import com.github.cf06yash.core.retry.batch.BatchResult;
+import com.github.cf06yash.core.retry.batch.ItemOutcome;
+import com.github.cf06yash.core.retry.circuit.CircuitBreaker;
+import com.github.cf06yash.core.retry.circuit.CircuitBreakerOpenException;
+import com.github.cf06yash.core.retry.executor.AttemptTimeoutException;
 import com.github.cf06yash.core.retry.executor.IRetryExecutor;
+import com.github.cf06yash.core.retry.executor.RetryExecutorBuilder;
+import com.github.cf06yash.core.retry.executor.RetryableResultException;
+import com.github.cf06yash.core.retry.jfr.RetryAttemptEvent;
+import com.github.cf06yash.core.retry.jfr.RetryBackoffEvent;
+import com.github.cf06yash.core.retry.jfr.RetryEvents;
+import com.github.cf06yash.core.retry.limit.ConcurrencyLimiter;
+import com.github.cf06yash.core.retry.listener.RetryListener;
+import com.github.cf06yash.core.retry.metrics.RetryMetrics;
 import com.github.cf06yash.core.retry.policy.RetryPolicy;
+import com.github.cf06yash.core.retry.ratelimit.RetryRateLimitExceededException;
+import com.github.cf06yash.core.retry.ratelimit.RetryRateLimiter;
+import com.github.cf06yash.core.retry.state.EndpointState;
+import com.github.cf06yash.core.retry.state.EndpointStateStore;
 
-import java.util.Date;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
-import java.util.logging.Logger;
 
 /**
  * Developed by cf06yash.
@@ -16,64 +43,537 @@ import java.util.logging.Logger;
 public class SyncRetryExecutor
         implements IRetryExecutor {
 
-    private static final Logger log = Logger.getLogger(SyncRetryExecutor.class.getName());
+    // a result the policy kept retrying is still the caller's answer once retries run out
+    private static final FallbackHandler RETHROW = (e, fallback) -> {
+        if (e instanceof RetryableResultException r) {
+            return r.getResult();
+        }
+        throw e;
+    };
+    private static final FallbackHandler SUPPLY = (e, fallback) -> ((Supplier<?>) fallback).get();
+    private static final FallbackHandler RUN_AND_RETHROW = (e, fallback) -> {
+        ((Runnable) fallback).run();
+        return RETHROW.handle(e, null);
+    };
+
+    private static final AtomicInteger ATTEMPT_THREAD_IDS = new AtomicInteger();
 
     private final RetryPolicy retryPolicy;
     private final BackoffStrategy backoffStrategy;
+    private final RetryListener retryListener;
+    private final CircuitBreaker circuitBreaker;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final long attemptTimeoutMillis;
+    private final Executor attemptExecutor;
+    private final RetryMetrics metrics;
+    private final RetryRateLimiter retryRateLimiter;
+    private final EndpointStateStore endpointStates;
 
     public SyncRetryExecutor(RetryPolicy retryPolicy, BackoffStrategy backoffStrategy) {
-        this.retryPolicy = retryPolicy;
-        this.backoffStrategy = backoffStrategy;
+        this(RetryExecutorBuilder.newBuilder().retryPolicy(retryPolicy).backoffStrategy(backoffStrategy));
+    }
+
+    /**
+     * Takes every option from {@code builder}, as {@link RetryExecutorBuilder#build()} does. Bounded attempts
+     * run on the builder's task executor, or on a daemon thread each when it has none.
+     */
+    public SyncRetryExecutor(RetryExecutorBuilder builder) {
+        if (builder.getRetryPolicy() == null || builder.getBackoffStrategy() == null || builder.getRetryListener() == null
+                || builder.getCircuitBreaker() == null || builder.getConcurrencyLimiter() == null || builder.getMetrics() == null
+                || builder.getRetryRateLimiter() == null || builder.getEndpointStates() == null) {
+            throw new IllegalStateException("RetryPolicy, BackoffStrategy, RetryListener, CircuitBreaker, ConcurrencyLimiter, "
+                    + "RetryMetrics, RetryRateLimiter and EndpointStateStore must be set");
+        }
+        this.retryPolicy = builder.getRetryPolicy();
+        this.backoffStrategy = builder.getBackoffStrategy();
+        this.retryListener = builder.getRetryListener();
+        this.circuitBreaker = builder.getCircuitBreaker();
+        this.concurrencyLimiter = builder.getConcurrencyLimiter();
+        this.attemptTimeoutMillis = builder.getAttemptTimeoutMillis();
+        this.attemptExecutor = builder.getTaskExecutor();
+        this.metrics = builder.getMetrics();
+        this.retryRateLimiter = builder.getRetryRateLimiter();
+        this.endpointStates = builder.getEndpointStates();
     }
 
     @Override
     public <T> T execute(Callable<T> task)
             throws Exception {
-        return executeInternal(task, e -> {
-            throw e;
-        });
+        return executeInternal(task, RETHROW, null);
     }
 
     @Override
     public <T> T executeWithFallback(Callable<T> task, Supplier<T> fallback)
             throws Exception {
-        return executeInternal(task, e -> fallback.get());
+        return executeInternal(task, SUPPLY, fallback);
     }
 
     @Override
     public <T> T executeWithFallback(Callable<T> task, Runnable fallback)
             throws Exception {
-        return executeInternal(task, e -> {
-            fallback.run();
-            throw e;
-        });
+        return executeInternal(task, RUN_AND_RETHROW, fallback);
     }
 
-    private <T> T executeInternal(Callable<T> task, FallbackHandler<T> fallback)
+    @SuppressWarnings("unchecked")
+    private <T> T executeInternal(Callable<T> task, FallbackHandler handler, Object fallback)
             throws Exception {
+        retryPolicy.onFirstAttempt();
+        metrics.onCall();
+        long callStart = System.nanoTime();
+        long deadline = retryPolicy.getTimeoutNanos() > 0 ? System.nanoTime() + retryPolicy.getTimeoutNanos() : 0;
+        EndpointState endpoint = endpointStates.forTask(task);
         int attempt = 1;
+        // created on the first failure, keeping first-attempt success allocation-free
+        BackoffContext backoff = null;
         while (true) {
             try {
-                log.info("Inside execute internal at " + new Date() + " attempt: " + attempt);
-                return task.call();
+                concurrencyLimiter.acquire();
+            } catch (InterruptedException ix) {
+                Thread.currentThread().interrupt();
+                throw ix;
+            }
+            if (!permitted(endpoint)) {
+                concurrencyLimiter.onIgnore();
+                CircuitBreakerOpenException reason = new CircuitBreakerOpenException();
+                metrics.onRejected(reason, System.nanoTime() - callStart);
+                return (T) fallBack(handler, reason, fallback);
+            }
+            long start = System.nanoTime();
+            RetryAttemptEvent attemptEvent = RetryEvents.beginAttempt(attempt);
+            try {
+                T result = attemptTimeoutMillis > 0 ? callBounded(task) : task.call();
+                if (retryPolicy.isRetryableResult(result)) {
+                    throw new RetryableResultException(result);
+                }
+                long latency = System.nanoTime() - start;
+                RetryEvents.commitSuccess(attemptEvent);
+                concurrencyLimiter.onSuccess(latency);
+                retryPolicy.onAttemptCompleted(latency);
+                circuitBreaker.onSuccess();
+                if (endpoint != null) {
+                    endpoint.onSuccess(latency);
+                }
+                metrics.onAttemptSucceeded(latency);
+                metrics.onSuccess(System.nanoTime() - callStart);
+                return result;
             } catch (Exception e) {
-                if (!retryPolicy.shouldRetry(attempt, e)) {
-                    return fallback.handle(e);
+                long latency = System.nanoTime() - start;
+                RetryEvents.endAttempt(attemptEvent);
+                releaseFailed(e, latency);
+                retryPolicy.onAttemptCompleted(latency);
+                circuitBreaker.onFailure();
+                if (endpoint != null) {
+                    endpoint.onFailure(latency);
+                }
+                metrics.onAttemptFailed(e, latency);
+                long delay = -1;
+                // an open breaker ends the call now rather than after a backoff that could only be rejected
+                boolean allowed = !open(endpoint) && retryPolicy.shouldRetry(attempt, e);
+                if (allowed) {
+                    if (backoff == null) {
+                        backoff = backoffStrategy.newContext();
+                    }
+                    delay = nextDelay(backoff, attempt, deadline, e, endpoint);
+                }
+                boolean limited = false;
+                if (delay >= 0) {
+                    delay = retryRateLimiter.reserve(task, delay, rateLimitWaitNanos(deadline, delay));
+                    limited = delay == -1;
                 }
-                try{
-                    Thread.sleep(backoffStrategy.computeDelay(attempt));
-                } catch (InterruptedException ix){
+                if (delay < 0) {
+                    if (allowed) {
+                        retryPolicy.onRetryAbandoned();
+                    }
+                    RetryEvents.commitFailure(attemptEvent, RetryEvents.EXHAUSTED, retryPolicy, e, -1);
+                    retryListener.onExhausted(attempt, e);
+                    if (limited) {
+                        metrics.onRejected(new RetryRateLimitExceededException(e), System.nanoTime() - callStart);
+                    } else {
+                        metrics.onExhausted(e, System.nanoTime() - callStart);
+                    }
+                    return (T) fallBack(handler, e, fallback);
+                }
+                RetryEvents.commitFailure(attemptEvent, RetryEvents.RETRY, retryPolicy, e, delay);
+                retryListener.onRetry(attempt, e, delay);
+                metrics.onRetry(delay);
+                RetryBackoffEvent backoffEvent = RetryEvents.beginBackoff(attempt, delay);
+                boolean held;
+                try {
+                    pause(delay);
+                    held = holdWhilePaused(endpoint, deadline);
+                } catch (InterruptedException ix) {
                     Thread.currentThread().interrupt();
                     throw ix;
+                } finally {
+                    RetryEvents.commitBackoff(backoffEvent);
+                }
+                if (!held) {
+                    retryPolicy.onRetryAbandoned();
+                    retryListener.onExhausted(attempt, e);
+                    metrics.onExhausted(e, System.nanoTime() - callStart);
+                    return (T) fallBack(handler, e, fallback);
                 }
                 attempt++;
+            } catch (Error err) {
+                long latency = System.nanoTime() - start;
+                concurrencyLimiter.onDropped(latency);
+                circuitBreaker.onFailure();
+                if (endpoint != null) {
+                    endpoint.onFailure(latency);
+                }
+                throw err;
             }
         }
     }
 
+    /**
+     * Asks the endpoint's breaker first, so an endpoint that is open does not take a trial permit of the
+     * shared breaker, and gives the endpoint's permit back when the shared breaker refuses.
+     */
+    private boolean permitted(EndpointState endpoint) {
+        if (endpoint == null) {
+            return circuitBreaker.tryAcquirePermission();
+        }
+        if (!endpoint.tryAcquirePermission()) {
+            return false;
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            endpoint.releasePermission();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a failed attempt's permit. Only failures the policy would retry count as drops, so e.g. a
+     * validation error does not shrink the limit as overload would.
+     */
+    private void releaseFailed(Exception e, long latencyNanos) {
+        if (e != null && retryPolicy.getRetryClassifier().isRetryable(e)) {
+            concurrencyLimiter.onDropped(latencyNanos);
+        } else {
+            concurrencyLimiter.onIgnore();
+        }
+    }
+
+    private boolean open(EndpointState endpoint) {
+        return circuitBreaker.getState() == CircuitBreaker.State.OPEN || endpoint != null && endpoint.isOpen();
+    }
+
+    private Object fallBack(FallbackHandler handler, Exception e, Object fallback)
+            throws Exception {
+        if (handler != RETHROW) {
+            metrics.onFallback();
+        }
+        return handler.handle(e, fallback);
+    }
+
+    /**
+     * Budget, deadline, breaker, limiter and backoff see each downstream call as one attempt, whatever the
+     * number of items in it; the policy's classifier judges every failed item on its own. A successful item
+     * whose result the policy retries is retried too, and keeps its last result when retries run out.
+     */
+    @Override
+    public <I, R> BatchResult<R> executeBatch(Collection<? extends I> items, BatchFunction<I, R> batch)
+            throws Exception {
+        List<I> all = new ArrayList<>(items);
+        if (all.isEmpty()) {
+            return new BatchResult<>(List.of(), 0);
+        }
+        @SuppressWarnings("unchecked")
+        ItemOutcome<R>[] outcomes = new ItemOutcome[all.size()];
+        int[] pending = new int[all.size()];
+        for (int i = 0; i < pending.length; i++) {
+            pending[i] = i;
+        }
+        int pendingCount = pending.length;
+        List<ItemOutcome<R>> view = Arrays.asList(outcomes);
+        retryPolicy.onFirstAttempt();
+        metrics.onCall();
+        long callStart = System.nanoTime();
+        long deadline = retryPolicy.getTimeoutNanos() > 0 ? callStart + retryPolicy.getTimeoutNanos() : 0;
+        EndpointState endpoint = endpointStates.forTask(batch);
+        BackoffContext backoff = null;
+        int attempt = 1;
+        while (true) {
+            try {
+                concurrencyLimiter.acquire();
+            } catch (InterruptedException ix) {
+                Thread.currentThread().interrupt();
+                throw ix;
+            }
+            if (!permitted(endpoint)) {
+                concurrencyLimiter.onIgnore();
+                CircuitBreakerOpenException reason = new CircuitBreakerOpenException();
+                metrics.onRejected(reason, System.nanoTime() - callStart);
+                failAll(outcomes, pending, pendingCount, reason);
+                return new BatchResult<>(view, attempt - 1);
+            }
+            List<I> round = new ArrayList<>(pendingCount);
+            for (int i = 0; i < pendingCount; i++) {
+                round.add(all.get(pending[i]));
+            }
+            long start = System.nanoTime();
+            RetryAttemptEvent attemptEvent = RetryEvents.beginAttempt(attempt);
+            Exception callFailure = null;
+            List<ItemOutcome<R>> results = null;
+            try {
+                results = attemptTimeoutMillis > 0 ? callBounded(() -> batch.apply(round)) : batch.apply(round);
+                if (results == null || results.size() != pendingCount) {
+                    throw new IllegalStateException("batch function returned " + (results == null ? "null" : results.size())
+                            + " outcomes for " + pendingCount + " items");
+                }
+            } catch (Exception e) {
+                callFailure = e;
+            } catch (Error err) {
+                long latency = System.nanoTime() - start;
+                concurrencyLimiter.onDropped(latency);
+                circuitBreaker.onFailure();
+                if (endpoint != null) {
+                    endpoint.onFailure(latency);
+                }
+                throw err;
+            }
+            long latency = System.nanoTime() - start;
+            RetryEvents.endAttempt(attemptEvent);
+            retryPolicy.onAttemptCompleted(latency);
+
+            // failed items move to the front of pending, the retryable ones first
+            int retryable = 0;
+            int failed = 0;
+            Exception lastFailure = null;
+            Exception retryFailure = null;
+            ItemOutcome<R> callOutcome = callFailure != null ? ItemOutcome.failure(callFailure) : null;
+            for (int i = 0; i < pendingCount; i++) {
+                int index = pending[i];
+                ItemOutcome<R> outcome = callOutcome != null ? callOutcome : results.get(i);
+                if (outcome == null) {
+                    outcome = ItemOutcome.failure(new IllegalStateException("batch function returned a null outcome"));
+                }
+                outcomes[index] = outcome;
+                if (outcome.isSuccess()) {
+                    if (retryPolicy.isRetryableResult(outcome.getResult())) {
+                        failed++;
+                        pending[retryable++] = index;
+                        lastFailure = new RetryableResultException(outcome.getResult());
+                        if (retryFailure == null) {
+                            retryFailure = lastFailure;
+                        }
+                    }
+                } else {
+                    Exception failure = outcome.getFailure();
+                    failed++;
+                    if (callFailure != null || retryPolicy.getRetryClassifier().isRetryable(failure)) {
+                        pending[retryable++] = index;
+                        lastFailure = failure;
+                        if (retryFailure == null) {
+                            retryFailure = failure;
+                        }
+                    } else if (lastFailure == null) {
+                        lastFailure = failure;
+                    }
+                }
+            }
+            if (callFailure != null || failed == pendingCount) {
+                releaseFailed(callFailure != null ? callFailure : retryFailure, latency);
+                circuitBreaker.onFailure();
+                if (endpoint != null) {
+                    endpoint.onFailure(latency);
+                }
+            } else {
+                concurrencyLimiter.onSuccess(latency);
+                circuitBreaker.onSuccess();
+                if (endpoint != null) {
+                    endpoint.onSuccess(latency);
+                }
+            }
+            if (failed == 0) {
+                RetryEvents.commitSuccess(attemptEvent);
+                metrics.onAttemptSucceeded(latency);
+                metrics.onSuccess(System.nanoTime() - callStart);
+                return new BatchResult<>(view, attempt);
+            }
+            metrics.onAttemptFailed(lastFailure, latency);
+            long delay = -1;
+            // a whole-call failure is judged by the policy like a single call; item failures were classified above
+            boolean allowed = retryable > 0 && !open(endpoint)
+                    && retryPolicy.shouldRetry(attempt, callFailure != null ? callFailure : retryFailure);
+            if (allowed) {
+                if (backoff == null) {
+                    backoff = backoffStrategy.newContext();
+                }
+                delay = nextDelay(backoff, attempt, deadline, callFailure != null ? callFailure : retryFailure, endpoint);
+            }
+            boolean limited = false;
+            if (delay >= 0) {
+                delay = retryRateLimiter.reserve(batch, delay, rateLimitWaitNanos(deadline, delay));
+                limited = delay == -1;
+            }
+            if (delay < 0) {
+                if (allowed) {
+                    retryPolicy.onRetryAbandoned();
+                }
+                RetryEvents.commitFailure(attemptEvent, RetryEvents.EXHAUSTED, retryPolicy, lastFailure, -1);
+                retryListener.onExhausted(attempt, lastFailure);
+                if (limited) {
+                    metrics.onRejected(new RetryRateLimitExceededException(lastFailure), System.nanoTime() - callStart);
+                } else {
+                    metrics.onExhausted(lastFailure, System.nanoTime() - callStart);
+                }
+                return new BatchResult<>(view, attempt);
+            }
+            RetryEvents.commitFailure(attemptEvent, RetryEvents.RETRY, retryPolicy, lastFailure, delay);
+            retryListener.onRetry(attempt, lastFailure, delay);
+            metrics.onRetry(delay);
+            RetryBackoffEvent backoffEvent = RetryEvents.beginBackoff(attempt, delay);
+            boolean held;
+            try {
+                pause(delay);
+                held = holdWhilePaused(endpoint, deadline);
+            } catch (InterruptedException ix) {
+                Thread.currentThread().interrupt();
+                throw ix;
+            } finally {
+                RetryEvents.commitBackoff(backoffEvent);
+            }
+            if (!held) {
+                retryPolicy.onRetryAbandoned();
+                retryListener.onExhausted(attempt, lastFailure);
+                metrics.onExhausted(lastFailure, System.nanoTime() - callStart);
+                return new BatchResult<>(view, attempt);
+            }
+            pendingCount = retryable;
+            attempt++;
+        }
+    }
+
+    private static <R> void failAll(ItemOutcome<R>[] outcomes, int[] pending, int pendingCount, Exception reason) {
+        ItemOutcome<R> failure = ItemOutcome.failure(reason);
+        for (int i = 0; i < pendingCount; i++) {
+            outcomes[pending[i]] = failure;
+        }
+    }
+
+    /**
+     * Runs the attempt on another thread and waits for it at most {@code attemptTimeoutMillis}.
+     */
+    private <T> T callBounded(Callable<T> task)
+            throws Exception {
+        FutureTask<T> attempt = new FutureTask<>(task);
+        startAttempt(attempt);
+        try {
+            return attempt.get(attemptTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException te) {
+            attempt.cancel(true);
+            throw new AttemptTimeoutException(attemptTimeoutMillis);
+        } catch (ExecutionException ee) {
+            Throwable cause = ee.getCause();
+            if (cause instanceof Exception ex) {
+                throw ex;
+            }
+            if (cause instanceof Error err) {
+                throw err;
+            }
+            throw ee;
+        } catch (InterruptedException ix) {
+            attempt.cancel(true);
+            Thread.currentThread().interrupt();
+            throw ix;
+        }
+    }
+
+    /**
+     * Starts a bounded attempt. Without an attempt executor each attempt gets its own daemon thread, so a
+     * hung attempt never holds a pooled thread another call needs.
+     */
+    protected void startAttempt(Runnable attempt) {
+        if (attemptExecutor != null) {
+            attemptExecutor.execute(attempt);
+            return;
+        }
+        Thread thread = new Thread(attempt, "retrylib-attempt-" + ATTEMPT_THREAD_IDS.incrementAndGet());
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * @return the server's {@code Retry-After} for {@code e} if it gave one, otherwise the backoff, held until
+     * the endpoint's pause gate opens and cut to the time left before {@code deadline}; -1 when the policy
+     * gives up because the next attempt cannot finish in time or start when the server allows
+     */
+    private long nextDelay(BackoffContext backoff, int attempt, long deadline, Exception e, EndpointState endpoint) {
+        long retryAfter = retryPolicy.getRetryAfterMillis(e);
+        long delay;
+        if (retryAfter >= 0) {
+            delay = retryAfter;
+            if (endpoint != null) {
+                endpoint.pauseFor(retryAfter);
+            }
+        } else {
+            delay = backoff.nextDelay(attempt);
+        }
+        if (endpoint != null) {
+            delay = Math.max(delay, endpoint.getPauseRemainingMillis());
+        }
+        if (retryPolicy.getTimeoutNanos() <= 0) {
+            return delay;
+        }
+        long delayNanos = TimeUnit.MILLISECONDS.toNanos(delay);
+        long fitted = retryPolicy.fitDelayNanos(delayNanos, deadline - System.nanoTime());
+        // retrying before the server allows would only be throttled again
+        if (fitted < 0 || (fitted < delayNanos && (retryAfter >= 0 || endpoint != null && endpoint.getPauseRemainingMillis() > 0))) {
+            return -1;
+        }
+        return TimeUnit.NANOSECONDS.toMillis(fitted);
+    }
+
+    /**
+     * @return how much longer than {@code delayMillis} a retry may wait for a rate-limit slot and still make
+     * {@code deadline}
+     */
+    private long rateLimitWaitNanos(long deadline, long delayMillis) {
+        if (retryPolicy.getTimeoutNanos() <= 0) {
+            return Long.MAX_VALUE;
+        }
+        long fits = retryPolicy.fitDelayNanos(Long.MAX_VALUE, deadline - System.nanoTime());
+        return Math.max(0, fits - TimeUnit.MILLISECONDS.toNanos(delayMillis));
+    }
+
+    /**
+     * Keeps waiting while another caller's {@code Retry-After} holds the endpoint.
+     *
+     * @return {@code false} without waiting when the hold outlasts {@code deadline}; the call then gives up as it
+     * would on {@link #nextDelay} returning -1
+     */
+    private boolean holdWhilePaused(EndpointState endpoint, long deadline)
+            throws InterruptedException {
+        if (endpoint == null) {
+            return true;
+        }
+        long held;
+        while ((held = endpoint.getPauseRemainingMillis()) > 0) {
+            if (deadline != 0 && TimeUnit.MILLISECONDS.toNanos(held) > deadline - System.nanoTime()) {
+                return false;
+            }
+            pause(held);
+        }
+        return true;
+    }
+
+    /**
+     * Waits out the backoff delay between two attempts.
+     */
+    protected void pause(long delayMillis)
+            throws InterruptedException {
+        Thread.sleep(delayMillis);
+    }
+
+    /**
+     * Shared, non-capturing handlers keep the fallback out of a per-call lambda.
+     */
     @FunctionalInterface
-    private interface FallbackHandler<T> {
-        T handle(Exception e)
+    private interface FallbackHandler {
+        Object handle(Exception e, Object fallback)
                 throws Exception;
     }
 }
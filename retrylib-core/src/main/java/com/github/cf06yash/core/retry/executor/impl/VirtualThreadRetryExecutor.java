@@ -0,0 +1,63 @@
+package com.github.cf06yash.core.retry.executor.impl;
+
+import com.github.cf06yash.core.retry.executor.RetryExecutorBuilder;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sync executor that backs off by parking and runs bounded attempts on virtual threads of their own.
+ * A sync call cannot hand its caller's thread back, so only callers that already run on a virtual
+ * thread gain: their backoff unmounts from the carrier instead of holding it. Platform-thread callers
+ * block for the whole retry loop, as they would with {@link SyncRetryExecutor}; calls always run inline
+ * on the caller, with no thread hop of their own.
+ * <p>
+ * On Java 17 virtual threads are unavailable and bounded attempts use the attempt executor or a platform
+ * thread, as in {@link SyncRetryExecutor}. Exceptions and fallbacks behave exactly as there.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class VirtualThreadRetryExecutor
+        extends SyncRetryExecutor {
+
+    private final Executor attemptExecutor;
+
+    /**
+     * Takes every option from {@code builder}, as {@link RetryExecutorBuilder#buildVirtual()} does.
+     */
+    public VirtualThreadRetryExecutor(RetryExecutorBuilder builder) {
+        super(builder);
+        this.attemptExecutor = builder.getTaskExecutor();
+    }
+
+    public static boolean isVirtualThreadSupported() {
+        return VirtualThreads.isSupported();
+    }
+
+    /**
+     * Bounded attempts get a virtual thread of their own unless an attempt executor is configured.
+     */
+    @Override
+    protected void startAttempt(Runnable attempt) {
+        if (attemptExecutor == null && VirtualThreads.isSupported()) {
+            VirtualThreads.start(attempt);
+        } else {
+            super.startAttempt(attempt);
+        }
+    }
+
+    @Override
+    protected void pause(long delayMillis)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(this, remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.cf06yash.core.retry.executor.impl;
+
+/**
+ * Java 17 view of virtual threads: not available. The multi-release jar replaces this class
+ * with {@code META-INF/versions/21} when running on Java 21 or newer.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    static boolean isSupported() {
+        return false;
+    }
+
+    static boolean isVirtual(Thread thread) {
+        return false;
+    }
+
+    static Thread start(Runnable task) {
+        throw new UnsupportedOperationException("virtual threads require Java 21 or newer");
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.cf06yash.core.retry.flight;
+
+import com.github.cf06yash.core.retry.executor.IAsyncRetryExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Async counterpart of {@link SingleFlightRetryExecutor}: concurrent calls for the same key share the future
+ * of one retry loop on the wrapped executor. Every caller gets its own copy of that future, so cancelling or
+ * completing it affects no other caller and does not stop the shared loop.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class SingleFlightAsyncRetryExecutor<K> {
+
+    private final IAsyncRetryExecutor delegate;
+    private final ConcurrentHashMap<K, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private SingleFlightAsyncRetryExecutor(IAsyncRetryExecutor delegate) {
+        this.delegate = delegate;
+    }
+
+    public static <K> SingleFlightAsyncRetryExecutor<K> of(IAsyncRetryExecutor delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("retry executor cannot be null");
+        }
+        return new SingleFlightAsyncRetryExecutor<>(delegate);
+    }
+
+    public <T> CompletableFuture<T> executeAsync(K key, Supplier<T> task) {
+        return join(key, () -> delegate.executeAsync(task));
+    }
+
+    public <T> CompletableFuture<T> executeStageAsync(K key, Supplier<? extends CompletionStage<T>> task) {
+        return join(key, () -> delegate.executeStageAsync(task));
+    }
+
+    /**
+     * @return how many keys have a retry loop running
+     */
+    public int getInFlight() {
+        return inFlight.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> join(K key, Supplier<CompletableFuture<T>> start) {
+        if (key == null) {
+            throw new IllegalArgumentException("key cannot be null");
+        }
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            return (CompletableFuture<T>) running.copy();
+        }
+        CompletableFuture<T> loop;
+        try {
+            loop = start.get();
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+        loop.whenComplete((result, error) -> {
+            inFlight.remove(key, flight);
+            if (error != null) {
+                flight.completeExceptionally(error);
+            } else {
+                flight.complete(result);
+            }
+        });
+        return (CompletableFuture<T>) flight.copy();
+    }
+}
@@ -0,0 +1,103 @@
+package com.github.cf06yash.core.retry.flight;
+
+import com.github.cf06yash.core.retry.executor.IRetryExecutor;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Coalesces concurrent calls for the same key into one retry loop: the first caller runs the task through the
+ * wrapped executor while every caller arriving before it finishes waits and gets the same result or exception.
+ * A stampede on one key then costs the dependency at most {@code maxAttempts} attempts instead of one retry
+ * loop per caller. Calls for a key arriving after the loop finished start a new one.
+ * <p>
+ * The in-flight map only holds keys with a running loop; each entry is removed by the caller that added it
+ * before the result is handed out. A waiter that is interrupted stops waiting without affecting the loop. When the
+ * caller running the loop is interrupted, only it gets the {@link InterruptedException}; the waiters race to start
+ * a new loop. A task must not call back into the same key, it would wait for itself.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class SingleFlightRetryExecutor<K> {
+
+    // handed to the waiters when the caller running the loop was interrupted: the interrupt is not theirs
+    private static final Object LEADER_INTERRUPTED = new Object();
+
+    private final IRetryExecutor delegate;
+    private final ConcurrentHashMap<K, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private SingleFlightRetryExecutor(IRetryExecutor delegate) {
+        this.delegate = delegate;
+    }
+
+    public static <K> SingleFlightRetryExecutor<K> of(IRetryExecutor delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("retry executor cannot be null");
+        }
+        return new SingleFlightRetryExecutor<>(delegate);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(K key, Callable<T> task)
+            throws Exception {
+        if (key == null) {
+            throw new IllegalArgumentException("key cannot be null");
+        }
+        while (true) {
+            CompletableFuture<Object> flight = new CompletableFuture<>();
+            CompletableFuture<Object> running = inFlight.putIfAbsent(key, flight);
+            if (running == null) {
+                return lead(key, flight, task);
+            }
+            Object result = await(running);
+            if (result != LEADER_INTERRUPTED) {
+                return (T) result;
+            }
+        }
+    }
+
+    private <T> T lead(K key, CompletableFuture<Object> flight, Callable<T> task)
+            throws Exception {
+        T result;
+        try {
+            result = delegate.execute(task);
+        } catch (InterruptedException ie) {
+            inFlight.remove(key, flight);
+            flight.complete(LEADER_INTERRUPTED);
+            throw ie;
+        } catch (Exception | Error e) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+        inFlight.remove(key, flight);
+        flight.complete(result);
+        return result;
+    }
+
+    /**
+     * @return how many keys have a retry loop running
+     */
+    public int getInFlight() {
+        return inFlight.size();
+    }
+
+    private static Object await(CompletableFuture<Object> flight)
+            throws Exception {
+        try {
+            return flight.get();
+        } catch (ExecutionException ee) {
+            Throwable cause = ee.getCause();
+            if (cause instanceof Exception ex) {
+                throw ex;
+            }
+            if (cause instanceof Error err) {
+                throw err;
+            }
+            throw ee;
+        }
+    }
+}
@@ -0,0 +1,400 @@
+package com.github.cf06yash.core.retry.flow;
+
+import com.github.cf06yash.core.backoff.strategy.BackoffContext;
+import com.github.cf06yash.core.backoff.strategy.BackoffStrategy;
+import com.github.cf06yash.core.retry.listener.RetryListener;
+import com.github.cf06yash.core.retry.policy.RetryPolicy;
+import com.github.cf06yash.core.retry.timer.RetryTimer;
+import com.github.cf06yash.core.retry.timer.ScheduledRetry;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.LongFunction;
+
+/**
+ * Publisher that resubscribes to its upstream when the stream fails with an exception the policy retries,
+ * after the strategy's backoff on the timer. Demand the subscriber signalled and the upstream did not fill
+ * carries over to the next subscription, so backpressure holds across failures and nothing is buffered.
+ * <p>
+ * Attempts count the subscriptions that failed without delivering anything: once an element gets through,
+ * the next failure starts over at attempt 1 with a fresh backoff, as a long-running stream may fail now and
+ * then without ever exhausting the policy. Errors and policy refusals end the stream with that failure.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class RetryingPublisher<T> implements Flow.Publisher<T> {
+
+    private final LongFunction<? extends Flow.Publisher<? extends T>> upstream;
+    private final boolean skipDelivered;
+    private final RetryPolicy retryPolicy;
+    private final BackoffStrategy backoffStrategy;
+    private final RetryTimer timer;
+    private final RetryListener retryListener;
+
+    private RetryingPublisher(LongFunction<? extends Flow.Publisher<? extends T>> upstream, boolean skipDelivered,
+                              RetryPolicy retryPolicy, BackoffStrategy backoffStrategy, RetryTimer timer,
+                              RetryListener retryListener) {
+        this.upstream = upstream;
+        this.skipDelivered = skipDelivered;
+        this.retryPolicy = retryPolicy;
+        this.backoffStrategy = backoffStrategy;
+        this.timer = timer;
+        this.retryListener = retryListener;
+    }
+
+    /**
+     * For an upstream that restarts from the beginning on every subscription: the elements delivered before a
+     * failure are requested again and dropped, so subscribers never see them twice.
+     */
+    public static <T> RetryingPublisher<T> of(Flow.Publisher<? extends T> upstream, RetryPolicy retryPolicy,
+                                              BackoffStrategy backoffStrategy, RetryTimer timer, RetryListener retryListener) {
+        return create(requireUpstream(upstream), true, retryPolicy, backoffStrategy, timer, retryListener);
+    }
+
+    /**
+     * Like {@link #of}, but passes on everything a resubscription emits, including the elements delivered
+     * before the failure.
+     */
+    public static <T> RetryingPublisher<T> replaying(Flow.Publisher<? extends T> upstream, RetryPolicy retryPolicy,
+                                                     BackoffStrategy backoffStrategy, RetryTimer timer, RetryListener retryListener) {
+        return create(requireUpstream(upstream), false, retryPolicy, backoffStrategy, timer, retryListener);
+    }
+
+    /**
+     * For an upstream that can resume, e.g. from an offset: {@code upstream} gets the number of elements
+     * delivered so far and returns a publisher starting right after them.
+     */
+    public static <T> RetryingPublisher<T> resuming(LongFunction<? extends Flow.Publisher<? extends T>> upstream,
+                                                    RetryPolicy retryPolicy, BackoffStrategy backoffStrategy, RetryTimer timer,
+                                                    RetryListener retryListener) {
+        if (upstream == null) {
+            throw new IllegalArgumentException("upstream cannot be null");
+        }
+        return create(upstream, false, retryPolicy, backoffStrategy, timer, retryListener);
+    }
+
+    private static <T> LongFunction<Flow.Publisher<? extends T>> requireUpstream(Flow.Publisher<? extends T> upstream) {
+        if (upstream == null) {
+            throw new IllegalArgumentException("upstream cannot be null");
+        }
+        return delivered -> upstream;
+    }
+
+    private static <T> RetryingPublisher<T> create(LongFunction<? extends Flow.Publisher<? extends T>> upstream,
+                                                   boolean skipDelivered, RetryPolicy retryPolicy,
+                                                   BackoffStrategy backoffStrategy, RetryTimer timer,
+                                                   RetryListener retryListener) {
+        if (retryPolicy == null || backoffStrategy == null || timer == null || retryListener == null) {
+            throw new IllegalArgumentException("RetryPolicy, BackoffStrategy, RetryTimer and RetryListener cannot be null");
+        }
+        return new RetryingPublisher<>(upstream, skipDelivered, retryPolicy, backoffStrategy, timer, retryListener);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        RetrySubscription<T> subscription = new RetrySubscription<>(this, subscriber);
+        retryPolicy.onFirstAttempt();
+        subscriber.onSubscribe(subscription);
+        subscription.subscribeUpstream();
+    }
+
+    private static long addCap(long a, long b) {
+        long sum = a + b;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    /**
+     * The subscription handed downstream. Upstream signals, including those of successive subscriptions, never
+     * overlap, so the per-stream state is only touched by one thread at a time; demand and the switch between
+     * upstream subscriptions go through a work-in-progress counter, so requests never block or get lost.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final class RetrySubscription<T> implements Flow.Subscription {
+
+        private static final AtomicIntegerFieldUpdater<RetrySubscription> WIP =
+                AtomicIntegerFieldUpdater.newUpdater(RetrySubscription.class, "wip");
+        private static final AtomicLongFieldUpdater<RetrySubscription> MISSED_REQUESTED =
+                AtomicLongFieldUpdater.newUpdater(RetrySubscription.class, "missedRequested");
+        private static final AtomicLongFieldUpdater<RetrySubscription> MISSED_PRODUCED =
+                AtomicLongFieldUpdater.newUpdater(RetrySubscription.class, "missedProduced");
+        private static final AtomicReferenceFieldUpdater<RetrySubscription, UpstreamSubscriber> MISSED_UPSTREAM =
+                AtomicReferenceFieldUpdater.newUpdater(RetrySubscription.class, UpstreamSubscriber.class, "missedUpstream");
+
+        private final RetryingPublisher<T> parent;
+        private final Flow.Subscriber<? super T> downstream;
+
+        private volatile int wip;
+        private volatile long missedRequested;
+        private volatile long missedProduced;
+        private volatile UpstreamSubscriber<T> missedUpstream;
+        // owned by whoever holds wip: unfilled downstream demand and the subscription it is forwarded to
+        private long requested;
+        private Flow.Subscription actual;
+
+        private volatile boolean done;
+        private volatile UpstreamSubscriber<T> active;
+        private volatile ScheduledRetry pendingRetry;
+
+        // only touched by upstream signals and the resubscription they schedule
+        private long delivered;
+        private boolean progressed;
+        private int attempt = 1;
+        private BackoffContext backoff;
+
+        RetrySubscription(RetryingPublisher<T> parent, Flow.Subscriber<? super T> downstream) {
+            this.parent = parent;
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                if (!done) {
+                    cancel();
+                    downstream.onError(new IllegalArgumentException("requested " + n + " elements, must be positive"));
+                }
+                return;
+            }
+            if (wip == 0 && WIP.compareAndSet(this, 0, 1)) {
+                requested = addCap(requested, n);
+                Flow.Subscription current = actual;
+                if (WIP.decrementAndGet(this) != 0) {
+                    drainLoop();
+                }
+                if (current != null) {
+                    current.request(n);
+                }
+                return;
+            }
+            long r;
+            do {
+                r = missedRequested;
+            } while (!MISSED_REQUESTED.compareAndSet(this, r, addCap(r, n)));
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+            ScheduledRetry retry = pendingRetry;
+            if (retry != null) {
+                retry.cancel();
+            }
+            UpstreamSubscriber<T> current = active;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+
+        void subscribeUpstream() {
+            if (done) {
+                return;
+            }
+            UpstreamSubscriber<T> subscriber = new UpstreamSubscriber<>(this, parent.skipDelivered ? delivered : 0);
+            active = subscriber;
+            Flow.Publisher<? extends T> source;
+            try {
+                source = Objects.requireNonNull(parent.upstream.apply(delivered), "upstream returned a null publisher");
+            } catch (RuntimeException e) {
+                onError(subscriber, e);
+                return;
+            }
+            source.subscribe(subscriber);
+        }
+
+        void onSubscribe(UpstreamSubscriber<T> subscriber) {
+            if (done || active != subscriber) {
+                subscriber.cancel();
+                return;
+            }
+            MISSED_UPSTREAM.set(this, subscriber);
+            drain();
+            if (done) {
+                subscriber.cancel();
+            }
+        }
+
+        void onNext(UpstreamSubscriber<T> subscriber, T item) {
+            if (done || active != subscriber) {
+                return;
+            }
+            if (subscriber.skip > 0) {
+                subscriber.skip--;
+                return;
+            }
+            delivered++;
+            progressed = true;
+            downstream.onNext(item);
+            produced();
+        }
+
+        void onError(UpstreamSubscriber<T> subscriber, Throwable error) {
+            if (done || active != subscriber) {
+                return;
+            }
+            RetryPolicy retryPolicy = parent.retryPolicy;
+            if (!(error instanceof Exception e)) {
+                done = true;
+                downstream.onError(error);
+                return;
+            }
+            if (progressed) {
+                progressed = false;
+                attempt = 1;
+                backoff = null;
+                retryPolicy.onFirstAttempt();
+            }
+            long delay = -1;
+            if (retryPolicy.shouldRetry(attempt, e)) {
+                if (backoff == null) {
+                    backoff = parent.backoffStrategy.newContext();
+                }
+                long retryAfter = retryPolicy.getRetryAfterMillis(e);
+                delay = retryAfter >= 0 ? retryAfter : backoff.nextDelay(attempt);
+            }
+            if (delay < 0) {
+                done = true;
+                parent.retryListener.onExhausted(attempt, e);
+                downstream.onError(e);
+                return;
+            }
+            parent.retryListener.onRetry(attempt, e, delay);
+            attempt++;
+            pendingRetry = parent.timer.schedule(this::subscribeUpstream, delay);
+            if (done) {
+                pendingRetry.cancel();
+            }
+        }
+
+        void onComplete(UpstreamSubscriber<T> subscriber) {
+            if (done || active != subscriber) {
+                return;
+            }
+            done = true;
+            downstream.onComplete();
+        }
+
+        private void produced() {
+            if (wip == 0 && WIP.compareAndSet(this, 0, 1)) {
+                long r = requested;
+                if (r != Long.MAX_VALUE) {
+                    requested = r - 1;
+                }
+                if (WIP.decrementAndGet(this) == 0) {
+                    return;
+                }
+            } else {
+                MISSED_PRODUCED.getAndIncrement(this);
+                if (WIP.getAndIncrement(this) != 0) {
+                    return;
+                }
+            }
+            drainLoop();
+        }
+
+        private void drain() {
+            if (WIP.getAndIncrement(this) == 0) {
+                drainLoop();
+            }
+        }
+
+        /**
+         * Applies the demand, deliveries and upstream switch other threads left behind, then makes one request:
+         * a new upstream gets all unfilled demand plus the elements it will skip, the current one just the
+         * demand added meanwhile.
+         */
+        @SuppressWarnings("unchecked")
+        private void drainLoop() {
+            int missed = 1;
+            long ask = 0;
+            Flow.Subscription target = null;
+            while (true) {
+                long moreRequested = missedRequested != 0 ? MISSED_REQUESTED.getAndSet(this, 0) : 0;
+                long moreProduced = missedProduced != 0 ? MISSED_PRODUCED.getAndSet(this, 0) : 0;
+                UpstreamSubscriber<T> next = missedUpstream != null ? MISSED_UPSTREAM.getAndSet(this, null) : null;
+                long r = requested;
+                if (r != Long.MAX_VALUE) {
+                    r = addCap(r, moreRequested);
+                    if (r != Long.MAX_VALUE) {
+                        r = Math.max(0, r - moreProduced);
+                    }
+                    requested = r;
+                }
+                if (next != null) {
+                    actual = next.subscription;
+                    target = actual;
+                    ask = addCap(r, next.skip);
+                } else if (moreRequested != 0 && actual != null) {
+                    target = actual;
+                    ask = addCap(ask, moreRequested);
+                }
+                missed = WIP.addAndGet(this, -missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+            if (target != null && ask > 0) {
+                target.request(ask);
+            }
+        }
+    }
+
+    /**
+     * Subscribes to one upstream subscription; a retry always subscribes a new one.
+     */
+    private static final class UpstreamSubscriber<T> implements Flow.Subscriber<T> {
+
+        private final RetrySubscription<T> parent;
+        private volatile Flow.Subscription subscription;
+        private volatile boolean cancelled;
+        // elements the restarted upstream repeats before the first undelivered one
+        long skip;
+
+        UpstreamSubscriber(RetrySubscription<T> parent, long skip) {
+            this.parent = parent;
+            this.skip = skip;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            if (this.subscription != null) {
+                subscription.cancel();
+                return;
+            }
+            this.subscription = subscription;
+            if (cancelled) {
+                subscription.cancel();
+                return;
+            }
+            parent.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T item) {
+            parent.onNext(this, item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            parent.onError(this, throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            parent.onComplete(this);
+        }
+
+        void cancel() {
+            cancelled = true;
+            Flow.Subscription current = subscription;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+    }
+}
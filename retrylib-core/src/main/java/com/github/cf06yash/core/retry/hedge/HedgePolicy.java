@@ -0,0 +1,24 @@
+package com.github.cf06yash.core.retry.hedge;
+
+/**
+ * Decides when the async executor starts a speculative attempt next to one that is still running. The first
+ * attempt to succeed completes the call and the others are cancelled; hedges count against
+ * {@link com.github.cf06yash.core.retry.policy.RetryPolicy#getMaxAttempts()} and the policy's retry budget
+ * like retries do.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public interface HedgePolicy {
+
+    /**
+     * @return how long an attempt may run before a hedge starts, or a negative value to not hedge it
+     */
+    long hedgeDelayMillis();
+
+    /**
+     * Reports how long a finished attempt took, or how long a cancelled losing attempt had run.
+     */
+    default void onAttemptCompleted(long latencyNanos) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.cf06yash.core.retry.hedge.impl;
+
+import com.github.cf06yash.core.retry.hedge.HedgePolicy;
+
+import java.time.Duration;
+
+/**
+ * Hedges every attempt still running after a fixed delay.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class FixedDelayHedgePolicy
+        implements HedgePolicy {
+
+    private final long delayMillis;
+
+    private FixedDelayHedgePolicy(long delayMillis) {
+        this.delayMillis = delayMillis;
+    }
+
+    public static HedgePolicy of(Duration delay) {
+        if (delay == null || delay.isNegative()) {
+            throw new IllegalArgumentException("hedge delay cannot be negative");
+        }
+        return new FixedDelayHedgePolicy(delay.toMillis());
+    }
+
+    @Override
+    public long hedgeDelayMillis() {
+        return delayMillis;
+    }
+}
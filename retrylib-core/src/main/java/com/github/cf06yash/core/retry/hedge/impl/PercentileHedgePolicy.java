@@ -0,0 +1,72 @@
+package com.github.cf06yash.core.retry.hedge.impl;
+
+import com.github.cf06yash.core.retry.hedge.HedgePolicy;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Hedges attempts that run longer than a percentile of recent attempt latency, e.g. p95, so only the slow
+ * tail is duplicated. Latencies go into a ring of the last {@value #WINDOW} samples and the percentile is
+ * recomputed every {@value #RECOMPUTE_EVERY} samples, keeping the per-call cost to one volatile read. No
+ * attempt is hedged until {@value #MIN_SAMPLES} samples have been seen.
+ * <p>
+ * Share one instance between executors calling the same dependency.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class PercentileHedgePolicy
+        implements HedgePolicy {
+
+    private static final int WINDOW = 128;
+    private static final int RECOMPUTE_EVERY = 16;
+    private static final int MIN_SAMPLES = 32;
+
+    private final double percentile;
+    private final AtomicLongArray samples = new AtomicLongArray(WINDOW);
+    private final AtomicLong count = new AtomicLong();
+    private volatile long delayMillis = -1;
+
+    private PercentileHedgePolicy(double percentile) {
+        this.percentile = percentile;
+    }
+
+    /**
+     * @param percentile in (0, 1), e.g. 0.95
+     */
+    public static HedgePolicy of(double percentile) {
+        if (!(percentile > 0 && percentile < 1)) {
+            throw new IllegalArgumentException("percentile must be between 0 and 1");
+        }
+        return new PercentileHedgePolicy(percentile);
+    }
+
+    @Override
+    public long hedgeDelayMillis() {
+        return delayMillis;
+    }
+
+    @Override
+    public void onAttemptCompleted(long latencyNanos) {
+        long n = count.getAndIncrement();
+        samples.set((int) (n & (WINDOW - 1)), latencyNanos);
+        long seen = n + 1;
+        if (seen >= MIN_SAMPLES && seen % RECOMPUTE_EVERY == 0) {
+            recompute((int) Math.min(seen, WINDOW));
+        }
+    }
+
+    private void recompute(int size) {
+        long[] sorted = new long[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+        long nanos = sorted[Math.max(0, (int) Math.ceil(percentile * size) - 1)];
+        // round up so an attempt exactly at the percentile is not hedged
+        delayMillis = Math.max(1, (nanos + TimeUnit.MILLISECONDS.toNanos(1) - 1) / TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,46 @@
+package com.github.cf06yash.core.retry.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * One attempt of a retried call; its duration is the attempt's run time.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+@Name("com.github.cf06yash.retrylib.RetryAttempt")
+@Label("Retry Attempt")
+@Category("RetryLib")
+@Description("One attempt of a call run by a retry executor")
+@Enabled(false)
+@StackTrace(false)
+public class RetryAttemptEvent
+        extends Event {
+
+    @Label("Attempt")
+    @Description("Number of the attempt within its call, starting at 1")
+    int attempt;
+
+    @Label("Outcome")
+    @Description("success, retry, exhausted, or superseded when a hedged attempt of the call is still running")
+    String outcome;
+
+    @Label("Exception")
+    Class<?> exceptionType;
+
+    @Label("Retryable")
+    @Description("Verdict of the policy's classifier on the exception")
+    boolean retryable;
+
+    @Label("Next Delay")
+    @Description("Backoff chosen before the next attempt, -1 when none follows")
+    @Timespan(Timespan.MILLISECONDS)
+    long nextDelay;
+}
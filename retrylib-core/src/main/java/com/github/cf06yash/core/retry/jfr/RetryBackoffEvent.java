@@ -0,0 +1,36 @@
+package com.github.cf06yash.core.retry.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The wait between a failed attempt and the next one. Sync executors record the thread sleeping through it;
+ * async executors commit it from the thread the next attempt starts on.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+@Name("com.github.cf06yash.retrylib.RetryBackoff")
+@Label("Retry Backoff")
+@Category("RetryLib")
+@Description("Backoff wait between two attempts of a call run by a retry executor")
+@Enabled(false)
+@StackTrace(false)
+public class RetryBackoffEvent
+        extends Event {
+
+    @Label("Attempt")
+    @Description("Number of the failed attempt the wait follows")
+    int attempt;
+
+    @Label("Delay")
+    @Description("Delay chosen by the backoff strategy")
+    @Timespan(Timespan.MILLISECONDS)
+    long delay;
+}
@@ -0,0 +1,85 @@
+package com.github.cf06yash.core.retry.jfr;
+
+import com.github.cf06yash.core.retry.policy.RetryPolicy;
+
+/**
+ * Emits the executors' JDK Flight Recorder events. Both events are disabled by default; enable them in a
+ * recording, e.g. {@code jfr configure +com.github.cf06yash.retrylib.RetryAttempt#enabled=true}, or with
+ * {@link jdk.jfr.Recording#enable(Class)}. While disabled every method is a single check and allocates nothing:
+ * the begin methods return {@code null} and the others ignore it.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public final class RetryEvents {
+
+    public static final String SUCCESS = "success";
+    public static final String RETRY = "retry";
+    public static final String EXHAUSTED = "exhausted";
+    public static final String SUPERSEDED = "superseded";
+
+    // isEnabled() reads the event type's current setting, so one instance answers for all of them
+    private static final RetryAttemptEvent ATTEMPTS = new RetryAttemptEvent();
+    private static final RetryBackoffEvent BACKOFFS = new RetryBackoffEvent();
+
+    private RetryEvents() {
+    }
+
+    public static RetryAttemptEvent beginAttempt(int attempt) {
+        if (!ATTEMPTS.isEnabled()) {
+            return null;
+        }
+        RetryAttemptEvent event = new RetryAttemptEvent();
+        event.attempt = attempt;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Fixes the attempt's duration; the outcome is only known once the policy has decided.
+     */
+    public static void endAttempt(RetryAttemptEvent event) {
+        if (event != null) {
+            event.end();
+        }
+    }
+
+    public static void commitSuccess(RetryAttemptEvent event) {
+        if (event != null) {
+            event.outcome = SUCCESS;
+            event.nextDelay = -1;
+            event.commit();
+        }
+    }
+
+    /**
+     * @param nextDelayMillis the backoff before the next attempt, or -1 when none follows
+     */
+    public static void commitFailure(RetryAttemptEvent event, String outcome, RetryPolicy policy, Exception failure,
+                                     long nextDelayMillis) {
+        if (event != null && event.shouldCommit()) {
+            event.outcome = outcome;
+            event.exceptionType = failure.getClass();
+            event.retryable = policy.getRetryClassifier().isRetryable(failure);
+            event.nextDelay = nextDelayMillis;
+            event.commit();
+        }
+    }
+
+    public static RetryBackoffEvent beginBackoff(int attempt, long delayMillis) {
+        if (!BACKOFFS.isEnabled()) {
+            return null;
+        }
+        RetryBackoffEvent event = new RetryBackoffEvent();
+        event.attempt = attempt;
+        event.delay = delayMillis;
+        event.begin();
+        return event;
+    }
+
+    public static void commitBackoff(RetryBackoffEvent event) {
+        if (event != null) {
+            event.commit();
+        }
+    }
+}
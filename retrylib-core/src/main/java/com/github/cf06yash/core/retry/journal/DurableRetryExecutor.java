@@ -0,0 +1,101 @@
+package com.github.cf06yash.core.retry.journal;
+
+import com.github.cf06yash.core.retry.executor.IAsyncRetryExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Runs tasks named by descriptors on an async executor and keeps each one in a {@link RetryJournal} until its
+ * retry loop ends, whatever the outcome, so the retries still owed when the process stops are not lost.
+ * Call {@link #recover()} once on startup to run what the previous process left unfinished. Tasks may run
+ * again after a crash, so the handler must be idempotent.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class DurableRetryExecutor<D, R> {
+
+    private final IAsyncRetryExecutor delegate;
+    private final RetryJournal journal;
+    private final TaskCodec<D> codec;
+    private final Function<? super D, ? extends R> handler;
+    private final AtomicBoolean recovered = new AtomicBoolean();
+
+    private DurableRetryExecutor(IAsyncRetryExecutor delegate, RetryJournal journal, TaskCodec<D> codec,
+                                 Function<? super D, ? extends R> handler) {
+        this.delegate = delegate;
+        this.journal = journal;
+        this.codec = codec;
+        this.handler = handler;
+    }
+
+    /**
+     * @param handler runs the task a descriptor names; exceptions it throws are judged by the executor's policy
+     */
+    public static <D, R> DurableRetryExecutor<D, R> of(IAsyncRetryExecutor delegate, RetryJournal journal, TaskCodec<D> codec,
+                                                       Function<? super D, ? extends R> handler) {
+        if (delegate == null || journal == null || codec == null || handler == null) {
+            throw new IllegalArgumentException("retry executor, journal, codec and handler cannot be null");
+        }
+        return new DurableRetryExecutor<>(delegate, journal, codec, handler);
+    }
+
+    /**
+     * Journals the descriptor, then starts its retry loop.
+     */
+    public CompletableFuture<R> submit(D descriptor) {
+        return run(journal.append(codec.encode(descriptor)), descriptor);
+    }
+
+    /**
+     * Restarts every task the previous process left unfinished, from its first attempt. A descriptor that no
+     * longer decodes is dropped from the journal and its future fails.
+     *
+     * @return one future per recovered task
+     */
+    public List<CompletableFuture<R>> recover() {
+        if (!recovered.compareAndSet(false, true)) {
+            throw new IllegalStateException("journal already recovered");
+        }
+        List<CompletableFuture<R>> futures = new ArrayList<>();
+        for (JournalEntry entry : journal.unfinished()) {
+            D descriptor;
+            try {
+                descriptor = codec.decode(entry.getPayload());
+            } catch (RuntimeException e) {
+                journal.complete(entry.getId());
+                futures.add(CompletableFuture.failedFuture(e));
+                continue;
+            }
+            futures.add(run(entry.getId(), descriptor));
+        }
+        return futures;
+    }
+
+    public RetryJournal getJournal() {
+        return journal;
+    }
+
+    private CompletableFuture<R> run(long id, D descriptor) {
+        // callers see the outcome only once the entry is done, so a restart right after cannot rerun the task
+        return delegate.<R>executeAsync(() -> handler.apply(descriptor)).whenComplete((result, error) -> {
+            if (error == null || !stillOwed(error)) {
+                journal.complete(id);
+            }
+        });
+    }
+
+    /**
+     * A loop the executor could not carry on, e.g. because its scheduler shut down, is left for the next run.
+     */
+    private static boolean stillOwed(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof RejectedExecutionException;
+    }
+}
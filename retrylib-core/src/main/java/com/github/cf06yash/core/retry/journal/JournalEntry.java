@@ -0,0 +1,29 @@
+package com.github.cf06yash.core.retry.journal;
+
+/**
+ * An entry read back from a {@link RetryJournal}.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public final class JournalEntry {
+
+    private final long id;
+    private final byte[] payload;
+
+    public JournalEntry(long id, byte[] payload) {
+        this.id = id;
+        this.payload = payload;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * @return the appended bytes, not copied
+     */
+    public byte[] getPayload() {
+        return payload;
+    }
+}
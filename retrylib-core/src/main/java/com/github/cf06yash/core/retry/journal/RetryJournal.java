@@ -0,0 +1,38 @@
+package com.github.cf06yash.core.retry.journal;
+
+import java.util.List;
+
+/**
+ * Durable record of the retries a process still owes, so a restart during an outage does not drop them.
+ * Entries are opaque task descriptors; an entry stays in the journal from {@link #append(byte[])} until
+ * {@link #complete(long)}, and everything left over is handed back by {@link #unfinished()} on the next open.
+ * Delivery is at least once: an entry completed just before a crash may come back.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public interface RetryJournal extends AutoCloseable {
+
+    /**
+     * @return the id to {@link #complete(long)} the entry with
+     */
+    long append(byte[] payload);
+
+    /**
+     * Marks the entry done; call once per id.
+     */
+    void complete(long id);
+
+    /**
+     * Returns once every entry appended before the call is on disk. Concurrent callers share one flush.
+     */
+    void sync();
+
+    /**
+     * @return the entries the previous run left unfinished, as found when the journal was opened
+     */
+    List<JournalEntry> unfinished();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,15 @@
+package com.github.cf06yash.core.retry.journal;
+
+/**
+ * Turns the descriptor of a durable task into journal bytes and back. A descriptor names the work, e.g. an
+ * order id and an operation, rather than carrying code, as closures cannot outlive the process.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public interface TaskCodec<D> {
+
+    byte[] encode(D descriptor);
+
+    D decode(byte[] payload);
+}
@@ -0,0 +1,374 @@
+package com.github.cf06yash.core.retry.journal.impl;
+
+import com.github.cf06yash.core.retry.journal.JournalEntry;
+import com.github.cf06yash.core.retry.journal.RetryJournal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * {@link RetryJournal} of memory-mapped segment files in one directory. An append is a copy into the mapping
+ * under a short lock, so it survives a crash of the process as soon as it returns; {@link #sync()} flushes
+ * the mappings to disk for power loss, and concurrent syncs share one flush (group commit). With
+ * {@code syncOnAppend} every append does that before returning.
+ * <p>
+ * Each record is a 4-byte size, a state byte and a CRC32C of the payload. Completing an entry flips its
+ * state byte in place, so completion writes nothing new, and a segment file is deleted once every entry in it
+ * is done. Replay stops a segment at the first unwritten or torn record and skips records whose checksum
+ * does not match.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class MappedRetryJournal implements RetryJournal {
+
+    public static final int DEFAULT_SEGMENT_BYTES = 16 << 20;
+
+    private static final int HEADER_BYTES = 9;
+    private static final int STATE_OFFSET = 4;
+    private static final int CRC_OFFSET = 5;
+    private static final int END_OF_SEGMENT = -1;
+    private static final byte PENDING = 1;
+    private static final byte DONE = 2;
+    private static final String PREFIX = "retry-";
+    private static final String SUFFIX = ".journal";
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final boolean syncOnAppend;
+    private final ConcurrentHashMap<Integer, Segment> segments = new ConcurrentHashMap<>();
+    private final List<JournalEntry> unfinished;
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final Object syncLock = new Object();
+    // guarded by appendLock
+    private final CRC32C crc = new CRC32C();
+    private final List<Segment> sealedSinceSync = new ArrayList<>();
+    private Segment active;
+
+    private volatile long appended;
+    private volatile long synced;
+    private volatile boolean closed;
+
+    private MappedRetryJournal(Path directory, int segmentBytes, boolean syncOnAppend, List<JournalEntry> unfinished) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.syncOnAppend = syncOnAppend;
+        this.unfinished = unfinished;
+    }
+
+    public static MappedRetryJournal open(Path directory)
+            throws IOException {
+        return open(directory, DEFAULT_SEGMENT_BYTES, false);
+    }
+
+    /**
+     * Opens the journal in {@code directory}, creating it if needed, and reads back the entries left unfinished.
+     * Only one journal may have a directory open at a time.
+     *
+     * @param segmentBytes size of each segment file, which also bounds the size of one entry
+     * @param syncOnAppend whether appends wait until they are on disk
+     */
+    public static MappedRetryJournal open(Path directory, int segmentBytes, boolean syncOnAppend)
+            throws IOException {
+        if (directory == null) {
+            throw new IllegalArgumentException("journal directory cannot be null");
+        }
+        if (segmentBytes < 4096) {
+            throw new IllegalArgumentException("segment size must be at least 4096 bytes");
+        }
+        Files.createDirectories(directory);
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(MappedRetryJournal::isSegment)
+                           .sorted((a, b) -> Integer.compare(sequenceOf(a), sequenceOf(b)))
+                           .toList();
+        }
+        List<JournalEntry> unfinished = new ArrayList<>();
+        List<Segment> recovered = new ArrayList<>();
+        int nextSequence = 0;
+        for (Path file : files) {
+            Segment segment = Segment.map(file, sequenceOf(file), (int) Files.size(file));
+            segment.sealed = true;
+            scan(segment, unfinished);
+            recovered.add(segment);
+            nextSequence = segment.sequence + 1;
+        }
+        MappedRetryJournal journal = new MappedRetryJournal(directory, segmentBytes, syncOnAppend, List.copyOf(unfinished));
+        for (Segment segment : recovered) {
+            if (segment.live.get() == 0) {
+                segment.delete();
+            } else {
+                journal.segments.put(segment.sequence, segment);
+            }
+        }
+        journal.active = journal.newSegment(nextSequence);
+        return journal;
+    }
+
+    @Override
+    public long append(byte[] payload) {
+        if (payload == null) {
+            throw new IllegalArgumentException("payload cannot be null");
+        }
+        int size = HEADER_BYTES + payload.length;
+        if (size > segmentBytes - Integer.BYTES) {
+            throw new IllegalArgumentException("entry of " + payload.length + " bytes does not fit a segment of " + segmentBytes);
+        }
+        long id;
+        appendLock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("journal is closed");
+            }
+            Segment segment = active;
+            if (segment.position + size > segment.capacity - Integer.BYTES) {
+                segment = roll(segment);
+            }
+            int offset = segment.position;
+            MappedByteBuffer buffer = segment.buffer;
+            crc.reset();
+            crc.update(payload);
+            buffer.put(offset + STATE_OFFSET, PENDING);
+            buffer.putInt(offset + CRC_OFFSET, (int) crc.getValue());
+            buffer.put(offset + HEADER_BYTES, payload);
+            // the size goes last: replay treats a record without one as never written
+            buffer.putInt(offset, size);
+            segment.position = offset + size;
+            segment.live.incrementAndGet();
+            appended++;
+            id = ((long) segment.sequence << 32) | offset;
+        } finally {
+            appendLock.unlock();
+        }
+        if (syncOnAppend) {
+            sync();
+        }
+        return id;
+    }
+
+    @Override
+    public void complete(long id) {
+        Segment segment = segments.get((int) (id >>> 32));
+        if (segment == null) {
+            return;
+        }
+        segment.buffer.put((int) id + STATE_OFFSET, DONE);
+        if (segment.live.decrementAndGet() == 0 && segment.sealed) {
+            discard(segment);
+        }
+    }
+
+    @Override
+    public void sync() {
+        long target = appended;
+        if (synced >= target) {
+            return;
+        }
+        synchronized (syncLock) {
+            // a flush that ran while this caller waited may already cover its entries
+            if (synced >= target) {
+                return;
+            }
+            long upTo;
+            Segment current;
+            int currentEnd;
+            Segment[] sealed;
+            appendLock.lock();
+            try {
+                upTo = appended;
+                current = active;
+                currentEnd = current.position;
+                sealed = sealedSinceSync.toArray(new Segment[0]);
+                sealedSinceSync.clear();
+            } finally {
+                appendLock.unlock();
+            }
+            for (Segment segment : sealed) {
+                if (!segment.deleted.get()) {
+                    segment.force(segment.capacity);
+                }
+            }
+            current.force(currentEnd);
+            synced = upTo;
+        }
+    }
+
+    @Override
+    public List<JournalEntry> unfinished() {
+        return unfinished;
+    }
+
+    /**
+     * @return how many segment files the journal keeps, the one being appended to included
+     */
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    @Override
+    public void close() {
+        appendLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        } finally {
+            appendLock.unlock();
+        }
+        sync();
+    }
+
+    /**
+     * Seals the full segment and continues in a new one; called with the append lock held.
+     */
+    private Segment roll(Segment full) {
+        if (full.position + Integer.BYTES <= full.capacity) {
+            full.buffer.putInt(full.position, END_OF_SEGMENT);
+        }
+        Segment next = newSegment(full.sequence + 1);
+        active = next;
+        sealedSinceSync.add(full);
+        full.sealed = true;
+        if (full.live.get() == 0) {
+            discard(full);
+        }
+        return next;
+    }
+
+    private Segment newSegment(int sequence) {
+        try {
+            Segment segment = Segment.map(directory.resolve(PREFIX + sequence + SUFFIX), sequence, segmentBytes);
+            segments.put(sequence, segment);
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot create journal segment " + sequence, e);
+        }
+    }
+
+    private void discard(Segment segment) {
+        if (segment.delete()) {
+            segments.remove(segment.sequence, segment);
+        }
+    }
+
+    private static void scan(Segment segment, List<JournalEntry> unfinished) {
+        MappedByteBuffer buffer = segment.buffer;
+        CRC32C crc = new CRC32C();
+        int position = 0;
+        while (position + HEADER_BYTES <= segment.capacity) {
+            int size = buffer.getInt(position);
+            if (size < HEADER_BYTES || position + size > segment.capacity) {
+                break;
+            }
+            byte state = buffer.get(position + STATE_OFFSET);
+            if (state != PENDING && state != DONE) {
+                break;
+            }
+            if (state == PENDING) {
+                byte[] payload = new byte[size - HEADER_BYTES];
+                buffer.get(position + HEADER_BYTES, payload);
+                crc.reset();
+                crc.update(payload);
+                if ((int) crc.getValue() == buffer.getInt(position + CRC_OFFSET)) {
+                    unfinished.add(new JournalEntry(((long) segment.sequence << 32) | position, payload));
+                    segment.live.incrementAndGet();
+                }
+            }
+            position += size;
+        }
+        segment.position = position;
+    }
+
+    private static boolean isSegment(Path file) {
+        String name = file.getFileName().toString();
+        if (!name.startsWith(PREFIX) || !name.endsWith(SUFFIX)) {
+            return false;
+        }
+        try {
+            sequenceOf(file);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static int sequenceOf(Path file) {
+        String name = file.getFileName().toString();
+        return Integer.parseInt(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    private static final class Segment {
+        final int sequence;
+        final Path path;
+        final int capacity;
+        final MappedByteBuffer buffer;
+        final AtomicInteger live = new AtomicInteger();
+        final AtomicBoolean deleted = new AtomicBoolean();
+        volatile boolean sealed;
+        // guarded by the append lock once the journal is open
+        int position;
+        // guarded by the sync lock
+        int syncedPosition;
+
+        private Segment(int sequence, Path path, MappedByteBuffer buffer) {
+            this.sequence = sequence;
+            this.path = path;
+            this.capacity = buffer.capacity();
+            this.buffer = buffer;
+        }
+
+        static Segment map(Path path, int sequence, int bytes)
+                throws IOException {
+            // the mapping stays valid once the channel is closed
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE)) {
+                return new Segment(sequence, path, channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes));
+            }
+        }
+
+        /**
+         * Flushes what was written since the last flush, up to {@code end}; only those pages go to disk.
+         */
+        void force(int end) {
+            if (end > syncedPosition) {
+                buffer.force(syncedPosition, end - syncedPosition);
+                syncedPosition = end;
+            }
+        }
+
+        /**
+         * @return whether this call deleted the segment; a file the platform will not delete while mapped is
+         * left for the next open, which finds nothing pending in it
+         */
+        boolean delete() {
+            if (!deleted.compareAndSet(false, true)) {
+                return false;
+            }
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException ignored) {
+                // retried by the next open
+            }
+            return true;
+        }
+    }
+}
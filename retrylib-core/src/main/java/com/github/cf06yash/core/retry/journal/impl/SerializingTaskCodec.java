@@ -0,0 +1,56 @@
+package com.github.cf06yash.core.retry.journal.impl;
+
+import com.github.cf06yash.core.retry.journal.TaskCodec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+
+/**
+ * {@link TaskCodec} for {@link Serializable} descriptors using Java serialization. Decoding runs
+ * {@link ObjectInputStream}, so only use it on a journal directory no one else can write to; a compact
+ * hand-written codec is smaller and faster for high append rates.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class SerializingTaskCodec<D extends Serializable> implements TaskCodec<D> {
+
+    @SuppressWarnings("rawtypes")
+    private static final SerializingTaskCodec INSTANCE = new SerializingTaskCodec();
+
+    private SerializingTaskCodec() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <D extends Serializable> TaskCodec<D> get() {
+        return INSTANCE;
+    }
+
+    @Override
+    public byte[] encode(D descriptor) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(descriptor);
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot serialize task descriptor", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public D decode(byte[] payload) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(payload))) {
+            return (D) in.readObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot deserialize task descriptor", e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("task descriptor class is gone: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.github.cf06yash.core.retry.limit;
+
+import com.github.cf06yash.core.retry.tagging.NonRetryableException;
+
+/**
+ * Signals an async attempt rejected because the {@link ConcurrencyLimiter} and its waiting queue are full.
+ * It carries no stack trace, so shedding load stays cheap.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException implements NonRetryableException {
+
+    public ConcurrencyLimitExceededException() {
+        super("concurrency limit exceeded", null, false, false);
+    }
+}
@@ -0,0 +1,53 @@
+package com.github.cf06yash.core.retry.limit;
+
+/**
+ * Caps how many attempts run at once against a dependency. The retry executors take a permit before every
+ * attempt and hand it back with the attempt's outcome, which adaptive implementations use to move the limit
+ * towards the dependency's actual capacity.
+ * <p>
+ * Sync executors wait in {@link #acquire()}; async executors call {@link #tryAcquire()} and fall back to
+ * {@link #enqueue(Runnable)}, so no thread ever blocks on a permit.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public interface ConcurrencyLimiter {
+
+    /**
+     * @return {@code true} if a permit was taken
+     */
+    boolean tryAcquire();
+
+    /**
+     * Waits until a permit is available and takes it.
+     */
+    void acquire()
+            throws InterruptedException;
+
+    /**
+     * Parks {@code onPermit} until a permit frees up; it then runs on the releasing thread with the permit
+     * already taken, so it should only hand the attempt off.
+     *
+     * @return {@code false} if the waiting queue is full and the caller should reject the attempt
+     */
+    boolean enqueue(Runnable onPermit);
+
+    /**
+     * Returns the permit of an attempt that completed normally after {@code latencyNanos}.
+     */
+    void onSuccess(long latencyNanos);
+
+    /**
+     * Returns the permit of an attempt that failed, which adaptive implementations treat as overload.
+     */
+    void onDropped(long latencyNanos);
+
+    /**
+     * Returns a permit without a sample, e.g. when the attempt never reached the dependency.
+     */
+    void onIgnore();
+
+    int getLimit();
+
+    int getInFlight();
+}
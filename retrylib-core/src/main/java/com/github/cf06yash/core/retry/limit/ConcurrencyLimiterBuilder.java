@@ -0,0 +1,92 @@
+package com.github.cf06yash.core.retry.limit;
+
+import com.github.cf06yash.core.retry.limit.impl.AdaptiveConcurrencyLimiter;
+
+import java.time.Duration;
+
+/**
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class ConcurrencyLimiterBuilder {
+
+    private boolean gradient;
+    private int initialLimit = 20;
+    private int minLimit = 1;
+    private int maxLimit = 200;
+    private int maxQueued;
+    private double backoffRatio = 0.9;
+    private Duration latencyThreshold = Duration.ofSeconds(1);
+
+    private ConcurrencyLimiterBuilder() {
+    }
+
+    public static ConcurrencyLimiterBuilder newBuilder() {
+        return new ConcurrencyLimiterBuilder();
+    }
+
+    /**
+     * Additive increase, multiplicative decrease: the limit grows by one per successful attempt that ran near
+     * the limit and shrinks by {@link #backoffRatio(double)} on every failure or attempt slower than
+     * {@link #latencyThreshold(Duration)}. This is the default.
+     */
+    public ConcurrencyLimiterBuilder aimd() {
+        this.gradient = false;
+        return this;
+    }
+
+    /**
+     * Vegas-style gradient: the limit follows the ratio of long-term to short-term average latency, so it
+     * shrinks as soon as queueing builds up at the dependency, before errors appear.
+     */
+    public ConcurrencyLimiterBuilder gradient() {
+        this.gradient = true;
+        return this;
+    }
+
+    public ConcurrencyLimiterBuilder initialLimit(int initialLimit) {
+        this.initialLimit = initialLimit;
+        return this;
+    }
+
+    public ConcurrencyLimiterBuilder minLimit(int minLimit) {
+        this.minLimit = minLimit;
+        return this;
+    }
+
+    public ConcurrencyLimiterBuilder maxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+        return this;
+    }
+
+    /**
+     * Async attempts allowed to wait for a permit; beyond this they are rejected. Defaults to 0, which
+     * rejects as soon as the limit is reached.
+     */
+    public ConcurrencyLimiterBuilder maxQueued(int maxQueued) {
+        this.maxQueued = maxQueued;
+        return this;
+    }
+
+    /**
+     * AIMD only: factor in (0, 1) the limit is multiplied by on a drop.
+     */
+    public ConcurrencyLimiterBuilder backoffRatio(double backoffRatio) {
+        this.backoffRatio = backoffRatio;
+        return this;
+    }
+
+    /**
+     * AIMD only: successful attempts slower than this count as drops.
+     */
+    public ConcurrencyLimiterBuilder latencyThreshold(Duration latencyThreshold) {
+        this.latencyThreshold = latencyThreshold;
+        return this;
+    }
+
+    public ConcurrencyLimiter build() {
+        return gradient
+                ? AdaptiveConcurrencyLimiter.gradient(initialLimit, minLimit, maxLimit, maxQueued)
+                : AdaptiveConcurrencyLimiter.aimd(initialLimit, minLimit, maxLimit, maxQueued, backoffRatio, latencyThreshold);
+    }
+}
@@ -0,0 +1,144 @@
+package com.github.cf06yash.core.retry.limit;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps the async calls that are retrying at once, i.e. waiting out a backoff or running a retry, so a long
+ * outage cannot grow the timer queue and the state its retries hold without bound. A call takes a slot when
+ * it schedules its first retry and frees it when it completes; calls that succeed on the first attempt never
+ * touch it. The depth lives in striped counters, so the cap is soft: calls admitted concurrently may exceed
+ * it by the number of threads failing at that moment. Share one instance between executors to cap them
+ * together and read {@link #getDepth()} for alerting.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public final class RetryCapacity {
+
+    // calls found running an attempt are passed over; this bounds how many before the newcomer is shed instead
+    private static final int DROP_SCAN = 8;
+
+    /**
+     * What happens to a call that needs a retry while the capacity is full.
+     */
+    public enum Overflow {
+        /**
+         * The call ends now as if its retries were exhausted: the fallback runs, or it fails with its last failure.
+         */
+        SHED,
+        /**
+         * The call fails with a {@link RetryCapacityExceededException}, whatever its fallback.
+         */
+        REJECT,
+        /**
+         * The call that has been retrying longest and is waiting out a backoff is shed to make room; when none
+         * is, the newcomer is shed.
+         */
+        DROP_OLDEST
+    }
+
+    /**
+     * A retrying call as the executor exposes it to {@link Overflow#DROP_OLDEST}.
+     */
+    public interface Retrying {
+
+        boolean isDone();
+
+        /**
+         * Cancels the call's pending retry and ends it like {@link Overflow#SHED}.
+         *
+         * @return {@code false} if no retry was pending, e.g. an attempt is running
+         */
+        boolean shed();
+    }
+
+    private final int maxRetrying;
+    private final Overflow overflow;
+    private final LongAdder depth = new LongAdder();
+    private final LongAdder overflowed = new LongAdder();
+    // admission order, only kept to drop the oldest; a call leaves it when released or dropped. Removal scans,
+    // but the queue holds at most the admitted calls, so it stays bounded by maxRetrying plus the soft overshoot
+    private final ConcurrentLinkedQueue<Retrying> oldestFirst;
+
+    private RetryCapacity(int maxRetrying, Overflow overflow) {
+        this.maxRetrying = maxRetrying;
+        this.overflow = overflow;
+        this.oldestFirst = overflow == Overflow.DROP_OLDEST ? new ConcurrentLinkedQueue<>() : null;
+    }
+
+    public static RetryCapacity of(int maxRetrying, Overflow overflow) {
+        if (maxRetrying <= 0) {
+            throw new IllegalArgumentException("max retrying calls must be positive");
+        }
+        if (overflow == null) {
+            throw new IllegalArgumentException("overflow policy cannot be null");
+        }
+        return new RetryCapacity(maxRetrying, overflow);
+    }
+
+    /**
+     * @return whether {@code call} took a slot; otherwise the executor ends it as {@link #getOverflow()} says
+     */
+    public boolean tryAcquire(Retrying call) {
+        if (depth.sum() < maxRetrying || (oldestFirst != null && dropOldest())) {
+            depth.increment();
+            if (oldestFirst != null) {
+                oldestFirst.offer(call);
+            }
+            return true;
+        }
+        overflowed.increment();
+        return false;
+    }
+
+    public void release(Retrying call) {
+        depth.decrement();
+        if (oldestFirst != null) {
+            oldestFirst.remove(call);
+        }
+    }
+
+    private boolean dropOldest() {
+        int busy = 0;
+        Retrying oldest;
+        while (busy < DROP_SCAN && (oldest = oldestFirst.poll()) != null) {
+            if (oldest.isDone()) {
+                continue;
+            }
+            if (oldest.shed()) {
+                overflowed.increment();
+                return true;
+            }
+            oldestFirst.offer(oldest);
+            busy++;
+        }
+        return false;
+    }
+
+    /**
+     * @return the calls retrying right now
+     */
+    public long getDepth() {
+        return depth.sum();
+    }
+
+    /**
+     * @return the calls shed, rejected or dropped so far because the capacity was full
+     */
+    public long getOverflowed() {
+        return overflowed.sum();
+    }
+
+    int getTracked() {
+        return oldestFirst != null ? oldestFirst.size() : 0;
+    }
+
+    public int getMaxRetrying() {
+        return maxRetrying;
+    }
+
+    public Overflow getOverflow() {
+        return overflow;
+    }
+}
@@ -0,0 +1,18 @@
+package com.github.cf06yash.core.retry.limit;
+
+import com.github.cf06yash.core.retry.tagging.NonRetryableException;
+
+/**
+ * Signals an async call that failed and could not schedule its retry because the {@link RetryCapacity} was
+ * full. The cause is the failure that would have been retried. It carries no stack trace, so shedding load
+ * stays cheap.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class RetryCapacityExceededException extends RuntimeException implements NonRetryableException {
+
+    public RetryCapacityExceededException(Throwable cause) {
+        super("retry capacity exceeded", cause, false, false);
+    }
+}
@@ -0,0 +1,208 @@
+package com.github.cf06yash.core.retry.limit.impl;
+
+import com.github.cf06yash.core.retry.limit.ConcurrencyLimiter;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limiter whose limit is moved by a {@link LimitAlgorithm} after every attempt and clamped to
+ * [minLimit, maxLimit]. Taking and returning a permit are CAS operations on the in-flight counter; the lock
+ * is only touched when a sync caller has to wait, and queued async attempts are handed a permit by whichever
+ * thread releases one.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class AdaptiveConcurrencyLimiter
+        implements ConcurrencyLimiter {
+
+    private final LimitAlgorithm algorithm;
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueued;
+    private final AtomicInteger limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Queue<Runnable> queued = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queuedCount = new AtomicInteger();
+    private final AtomicInteger blockedCount = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+
+    AdaptiveConcurrencyLimiter(LimitAlgorithm algorithm, int initialLimit, int minLimit, int maxLimit, int maxQueued) {
+        this.algorithm = algorithm;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxQueued = maxQueued;
+        this.limit = new AtomicInteger(initialLimit);
+    }
+
+    public static ConcurrencyLimiter aimd(int initialLimit, int minLimit, int maxLimit, int maxQueued, double backoffRatio,
+                                          Duration latencyThreshold) {
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoff ratio must be between 0 and 1");
+        }
+        if (latencyThreshold == null || latencyThreshold.isNegative() || latencyThreshold.isZero()) {
+            throw new IllegalArgumentException("latency threshold must be positive");
+        }
+        validate(initialLimit, minLimit, maxLimit, maxQueued);
+        return new AdaptiveConcurrencyLimiter(new AimdLimitAlgorithm(backoffRatio, latencyThreshold.toNanos()), initialLimit,
+                minLimit, maxLimit, maxQueued);
+    }
+
+    public static ConcurrencyLimiter gradient(int initialLimit, int minLimit, int maxLimit, int maxQueued) {
+        validate(initialLimit, minLimit, maxLimit, maxQueued);
+        return new AdaptiveConcurrencyLimiter(new GradientLimitAlgorithm(), initialLimit, minLimit, maxLimit, maxQueued);
+    }
+
+    private static void validate(int initialLimit, int minLimit, int maxLimit, int maxQueued) {
+        if (minLimit <= 0 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("limits must satisfy 0 < minLimit <= maxLimit");
+        }
+        if (initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("initial limit must be between minLimit and maxLimit");
+        }
+        if (maxQueued < 0) {
+            throw new IllegalArgumentException("max queued cannot be negative");
+        }
+    }
+
+    @Override
+    public boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit.get()) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    @Override
+    public void acquire()
+            throws InterruptedException {
+        if (tryAcquire()) {
+            return;
+        }
+        blockedCount.incrementAndGet();
+        try {
+            lock.lockInterruptibly();
+            try {
+                // registered before the re-check, so a release in between signals this waiter
+                while (!tryAcquire()) {
+                    permitReleased.await();
+                }
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            blockedCount.decrementAndGet();
+        }
+    }
+
+    @Override
+    public boolean enqueue(Runnable onPermit) {
+        int count;
+        do {
+            count = queuedCount.get();
+            if (count >= maxQueued) {
+                return false;
+            }
+        } while (!queuedCount.compareAndSet(count, count + 1));
+        queued.offer(onPermit);
+        // a permit released before the offer found nothing to hand over
+        drainQueued();
+        return true;
+    }
+
+    @Override
+    public void onSuccess(long latencyNanos) {
+        release(latencyNanos, false);
+    }
+
+    @Override
+    public void onDropped(long latencyNanos) {
+        release(latencyNanos, true);
+    }
+
+    @Override
+    public void onIgnore() {
+        inFlight.decrementAndGet();
+        handOver();
+    }
+
+    @Override
+    public int getLimit() {
+        return limit.get();
+    }
+
+    @Override
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Number of async attempts waiting for a permit.
+     */
+    public int getQueued() {
+        return queuedCount.get();
+    }
+
+    private void release(long latencyNanos, boolean dropped) {
+        int running = inFlight.getAndDecrement();
+        int current = limit.get();
+        int next = Math.max(minLimit, Math.min(maxLimit, algorithm.update(current, running, latencyNanos, dropped)));
+        // a lost race means another outcome has just moved the limit, which is as good as this one
+        boolean grew = next > current && limit.compareAndSet(current, next);
+        if (next < current) {
+            limit.compareAndSet(current, next);
+        }
+        handOver();
+        if (grew && blockedCount.get() > 0) {
+            signal(true);
+        }
+    }
+
+    private void handOver() {
+        if (queuedCount.get() > 0) {
+            drainQueued();
+        }
+        if (blockedCount.get() > 0) {
+            signal(false);
+        }
+    }
+
+    private void drainQueued() {
+        while (queuedCount.get() > 0 && tryAcquire()) {
+            Runnable next = queued.poll();
+            if (next == null) {
+                // counted but not offered yet; its enqueue call drains again
+                inFlight.decrementAndGet();
+                if (blockedCount.get() > 0) {
+                    signal(false);
+                }
+                return;
+            }
+            queuedCount.decrementAndGet();
+            next.run();
+        }
+    }
+
+    private void signal(boolean all) {
+        lock.lock();
+        try {
+            if (all) {
+                permitReleased.signalAll();
+            } else {
+                permitReleased.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
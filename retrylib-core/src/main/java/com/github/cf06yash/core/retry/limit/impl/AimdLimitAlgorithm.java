@@ -0,0 +1,28 @@
+package com.github.cf06yash.core.retry.limit.impl;
+
+/**
+ * Additive increase while attempts succeed quickly, multiplicative decrease on failures and slow attempts.
+ * The limit only grows while at least half of it is in use, so an idle caller cannot inflate it.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+final class AimdLimitAlgorithm
+        implements LimitAlgorithm {
+
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+
+    AimdLimitAlgorithm(double backoffRatio, long latencyThresholdNanos) {
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+    }
+
+    @Override
+    public int update(int limit, int inFlight, long latencyNanos, boolean dropped) {
+        if (dropped || latencyNanos > latencyThresholdNanos) {
+            return (int) (limit * backoffRatio);
+        }
+        return inFlight * 2 >= limit ? limit + 1 : limit;
+    }
+}
@@ -0,0 +1,42 @@
+package com.github.cf06yash.core.retry.limit.impl;
+
+/**
+ * Vegas-style gradient. A short and a long exponentially weighted average of latency are tracked; their
+ * ratio, clamped to [0.5, 1], scales the limit, and a headroom of sqrt(limit) lets it probe upwards while
+ * latency is flat. A failed attempt applies the minimum gradient straight away.
+ * <p>
+ * Updates synchronize on the algorithm: the averages are two doubles that must move together, and the
+ * section is a few arithmetic operations per attempt.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+final class GradientLimitAlgorithm
+        implements LimitAlgorithm {
+
+    private static final double SHORT_WEIGHT = 2.0 / (10 + 1);
+    private static final double LONG_WEIGHT = 2.0 / (600 + 1);
+    private static final double SMOOTHING = 0.2;
+
+    private double shortLatency;
+    private double longLatency;
+
+    @Override
+    public synchronized int update(int limit, int inFlight, long latencyNanos, boolean dropped) {
+        if (shortLatency == 0) {
+            shortLatency = longLatency = latencyNanos;
+        } else {
+            shortLatency += (latencyNanos - shortLatency) * SHORT_WEIGHT;
+            longLatency += (latencyNanos - longLatency) * LONG_WEIGHT;
+        }
+        if (inFlight * 2 < limit && !dropped) {
+            // an underused limit says nothing about the dependency's capacity
+            return limit;
+        }
+        double gradient = dropped ? 0.5 : Math.max(0.5, Math.min(1.0, longLatency / Math.max(1.0, shortLatency)));
+        double target = limit * gradient + Math.sqrt(limit);
+        double next = limit * (1 - SMOOTHING) + target * SMOOTHING;
+        // round growth up, otherwise the headroom of a small limit is truncated away
+        return next > limit ? (int) Math.ceil(next) : (int) next;
+    }
+}
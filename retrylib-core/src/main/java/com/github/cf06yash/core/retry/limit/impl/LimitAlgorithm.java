@@ -0,0 +1,17 @@
+package com.github.cf06yash.core.retry.limit.impl;
+
+/**
+ * Computes the next limit from one attempt's outcome.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+interface LimitAlgorithm {
+
+    /**
+     * @param limit    limit the attempt ran under
+     * @param inFlight attempts in flight as this one finishes, including itself
+     * @return the new limit, before clamping to the configured bounds
+     */
+    int update(int limit, int inFlight, long latencyNanos, boolean dropped);
+}
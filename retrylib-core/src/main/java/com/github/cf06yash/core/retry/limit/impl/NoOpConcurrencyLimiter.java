@@ -0,0 +1,57 @@
+package com.github.cf06yash.core.retry.limit.impl;
+
+import com.github.cf06yash.core.retry.limit.ConcurrencyLimiter;
+
+/**
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class NoOpConcurrencyLimiter
+        implements ConcurrencyLimiter {
+
+    private static final NoOpConcurrencyLimiter INSTANCE = new NoOpConcurrencyLimiter();
+
+    private NoOpConcurrencyLimiter() {
+    }
+
+    public static ConcurrencyLimiter get() {
+        return INSTANCE;
+    }
+
+    @Override
+    public boolean tryAcquire() {
+        return true;
+    }
+
+    @Override
+    public void acquire() {
+    }
+
+    @Override
+    public boolean enqueue(Runnable onPermit) {
+        onPermit.run();
+        return true;
+    }
+
+    @Override
+    public void onSuccess(long latencyNanos) {
+    }
+
+    @Override
+    public void onDropped(long latencyNanos) {
+    }
+
+    @Override
+    public void onIgnore() {
+    }
+
+    @Override
+    public int getLimit() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int getInFlight() {
+        return 0;
+    }
+}
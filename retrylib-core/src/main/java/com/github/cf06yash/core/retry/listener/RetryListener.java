@@ -0,0 +1,22 @@
+package com.github.cf06yash.core.retry.listener;
+
+/**
+ * Receives attempt diagnostics from the retry executors. Callbacks are only made when
+ * an attempt fails, so a call that succeeds on its first attempt never reaches the listener.
+ * Implementations must be thread-safe and should not throw.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public interface RetryListener {
+
+    /**
+     * Called after attempt {@code attempt} failed and another attempt will follow in {@code delayMillis}.
+     */
+    void onRetry(int attempt, Exception lastException, long delayMillis);
+
+    /**
+     * Called when the policy gives up after {@code attempt} attempts, before any fallback runs.
+     */
+    void onExhausted(int attempt, Exception lastException);
+}
@@ -0,0 +1,51 @@
+package com.github.cf06yash.core.retry.listener.impl;
+
+import com.github.cf06yash.core.retry.listener.RetryListener;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Logs retry events through {@code java.util.logging}. Messages are only built when the
+ * logger is enabled for the configured level.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class LoggingRetryListener
+        implements RetryListener {
+
+    private static final Logger log = Logger.getLogger(LoggingRetryListener.class.getName());
+    private static final LoggingRetryListener DEFAULT = new LoggingRetryListener(Level.FINE);
+
+    private final Level level;
+
+    private LoggingRetryListener(Level level) {
+        this.level = level;
+    }
+
+    public static RetryListener get() {
+        return DEFAULT;
+    }
+
+    public static RetryListener withLevel(Level level) {
+        if (level == null) {
+            throw new IllegalArgumentException("log level cannot be null");
+        }
+        return new LoggingRetryListener(level);
+    }
+
+    @Override
+    public void onRetry(int attempt, Exception lastException, long delayMillis) {
+        if (log.isLoggable(level)) {
+            log.log(level, "attempt " + attempt + " failed with " + lastException + ", retrying in " + delayMillis + " ms");
+        }
+    }
+
+    @Override
+    public void onExhausted(int attempt, Exception lastException) {
+        if (log.isLoggable(level)) {
+            log.log(level, "giving up after " + attempt + " attempts, last failure " + lastException);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.github.cf06yash.core.retry.listener.impl;
+
+import com.github.cf06yash.core.retry.listener.RetryListener;
+
+/**
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class NoOpRetryListener
+        implements RetryListener {
+
+    private static final NoOpRetryListener INSTANCE = new NoOpRetryListener();
+
+    private NoOpRetryListener() {
+    }
+
+    public static RetryListener get() {
+        return INSTANCE;
+    }
+
+    @Override
+    public void onRetry(int attempt, Exception lastException, long delayMillis) {
+    }
+
+    @Override
+    public void onExhausted(int attempt, Exception lastException) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.github.cf06yash.core.retry.metrics;
+
+/**
+ * Aggregates what the retry executors do, for dashboards rather than per-event diagnostics. Unlike a
+ * {@link com.github.cf06yash.core.retry.listener.RetryListener} it also sees successful attempts, so
+ * implementations must be cheap enough to sit on every call's hot path. Implementations must be thread-safe.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public interface RetryMetrics {
+
+    /**
+     * Called once when a call starts, before its first attempt.
+     */
+    void onCall();
+
+    void onAttemptSucceeded(long latencyNanos);
+
+    void onAttemptFailed(Exception failure, long latencyNanos);
+
+    /**
+     * Called when another attempt follows after {@code delayMillis}.
+     */
+    void onRetry(long delayMillis);
+
+    /**
+     * Called when a call completes with a result.
+     */
+    void onSuccess(long callNanos);
+
+    /**
+     * Called when the policy gives up on a call after its last failed attempt.
+     */
+    void onExhausted(Exception lastFailure, long callNanos);
+
+    /**
+     * Called when an attempt is not even started, e.g. because the circuit breaker is open.
+     */
+    void onRejected(Exception reason, long callNanos);
+
+    /**
+     * Called when a call's fallback runs.
+     */
+    void onFallback();
+
+    /**
+     * Reads the current values without stopping writers.
+     */
+    RetryMetricsSnapshot snapshot();
+}
@@ -0,0 +1,115 @@
+package com.github.cf06yash.core.retry.metrics;
+
+import java.util.Map;
+
+/**
+ * Point-in-time copy of {@link RetryMetrics}. Counters are read one after another while writers keep going,
+ * so they need not add up exactly, e.g. a call can be counted before its attempt is.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class RetryMetricsSnapshot {
+
+    public static final RetryMetricsSnapshot EMPTY = new RetryMetricsSnapshot(0, 0, 0, 0, 0, 0, 0, Map.of(), Map.of(),
+            HistogramSnapshot.EMPTY, HistogramSnapshot.EMPTY, HistogramSnapshot.EMPTY);
+
+    private final long calls;
+    private final long attempts;
+    private final long retries;
+    private final long successes;
+    private final long fallbacks;
+    private final long exhaustions;
+    private final long rejections;
+    private final Map<Class<?>, Long> failuresByType;
+    private final Map<Class<?>, Long> exhaustionsByType;
+    private final HistogramSnapshot attemptLatencyNanos;
+    private final HistogramSnapshot backoffDelayMillis;
+    private final HistogramSnapshot callLatencyNanos;
+
+    public RetryMetricsSnapshot(long calls, long attempts, long retries, long successes, long fallbacks, long exhaustions,
+                                long rejections, Map<Class<?>, Long> failuresByType, Map<Class<?>, Long> exhaustionsByType,
+                                HistogramSnapshot attemptLatencyNanos, HistogramSnapshot backoffDelayMillis,
+                                HistogramSnapshot callLatencyNanos) {
+        this.calls = calls;
+        this.attempts = attempts;
+        this.retries = retries;
+        this.successes = successes;
+        this.fallbacks = fallbacks;
+        this.exhaustions = exhaustions;
+        this.rejections = rejections;
+        this.failuresByType = failuresByType;
+        this.exhaustionsByType = exhaustionsByType;
+        this.attemptLatencyNanos = attemptLatencyNanos;
+        this.backoffDelayMillis = backoffDelayMillis;
+        this.callLatencyNanos = callLatencyNanos;
+    }
+
+    public long getCalls() {
+        return calls;
+    }
+
+    public long getAttempts() {
+        return attempts;
+    }
+
+    public long getRetries() {
+        return retries;
+    }
+
+    public long getSuccesses() {
+        return successes;
+    }
+
+    public long getFallbacks() {
+        return fallbacks;
+    }
+
+    public long getExhaustions() {
+        return exhaustions;
+    }
+
+    /**
+     * Calls turned away before an attempt ran, e.g. by an open circuit breaker or a full concurrency limiter.
+     */
+    public long getRejections() {
+        return rejections;
+    }
+
+    /**
+     * Failed attempts per exception class.
+     */
+    public Map<Class<?>, Long> getFailuresByType() {
+        return failuresByType;
+    }
+
+    /**
+     * Exhausted calls per class of their last exception.
+     */
+    public Map<Class<?>, Long> getExhaustionsByType() {
+        return exhaustionsByType;
+    }
+
+    public HistogramSnapshot getAttemptLatencyNanos() {
+        return attemptLatencyNanos;
+    }
+
+    public HistogramSnapshot getBackoffDelayMillis() {
+        return backoffDelayMillis;
+    }
+
+    /**
+     * End-to-end latency of calls that succeeded or were exhausted, backoff included.
+     */
+    public HistogramSnapshot getCallLatencyNanos() {
+        return callLatencyNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "calls=" + calls + ", attempts=" + attempts + ", retries=" + retries + ", successes=" + successes + ", fallbacks="
+                + fallbacks + ", exhaustions=" + exhaustions + ", rejections=" + rejections + ", failures=" + failuresByType
+                + ", attemptLatencyNanos=[" + attemptLatencyNanos + "], backoffDelayMillis=[" + backoffDelayMillis
+                + "], callLatencyNanos=[" + callLatencyNanos + "]";
+    }
+}
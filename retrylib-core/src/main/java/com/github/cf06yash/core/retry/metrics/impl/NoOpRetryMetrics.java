@@ -0,0 +1,58 @@
+package com.github.cf06yash.core.retry.metrics.impl;
+
+import com.github.cf06yash.core.retry.metrics.RetryMetrics;
+import com.github.cf06yash.core.retry.metrics.RetryMetricsSnapshot;
+
+/**
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class NoOpRetryMetrics
+        implements RetryMetrics {
+
+    private static final NoOpRetryMetrics INSTANCE = new NoOpRetryMetrics();
+
+    private NoOpRetryMetrics() {
+    }
+
+    public static RetryMetrics get() {
+        return INSTANCE;
+    }
+
+    @Override
+    public void onCall() {
+    }
+
+    @Override
+    public void onAttemptSucceeded(long latencyNanos) {
+    }
+
+    @Override
+    public void onAttemptFailed(Exception failure, long latencyNanos) {
+    }
+
+    @Override
+    public void onRetry(long delayMillis) {
+    }
+
+    @Override
+    public void onSuccess(long callNanos) {
+    }
+
+    @Override
+    public void onExhausted(Exception lastFailure, long callNanos) {
+    }
+
+    @Override
+    public void onRejected(Exception reason, long callNanos) {
+    }
+
+    @Override
+    public void onFallback() {
+    }
+
+    @Override
+    public RetryMetricsSnapshot snapshot() {
+        return RetryMetricsSnapshot.EMPTY;
+    }
+}
@@ -0,0 +1,121 @@
+package com.github.cf06yash.core.retry.metrics.impl;
+
+import com.github.cf06yash.core.retry.metrics.LogHistogram;
+import com.github.cf06yash.core.retry.metrics.RetryMetrics;
+import com.github.cf06yash.core.retry.metrics.RetryMetricsSnapshot;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts with {@link LongAdder}s, which stripe contended increments over per-CPU cells, and records latencies
+ * into {@link LogHistogram}s, so recording never takes a lock and, once an exception type has been seen, never
+ * allocates. Failures are counted per exception class for the first {@value #MAX_TYPES} classes seen; later
+ * classes are counted under {@link Exception}.
+ * <p>
+ * Share one instance between executors to aggregate them, or give each executor its own.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class StripedRetryMetrics
+        implements RetryMetrics {
+
+    private static final int MAX_TYPES = 256;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder attempts = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+    private final LongAdder exhaustions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private final ConcurrentHashMap<Class<?>, LongAdder> failuresByType = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Class<?>, LongAdder> exhaustionsByType = new ConcurrentHashMap<>();
+    private final LogHistogram attemptLatency = new LogHistogram();
+    private final LogHistogram backoffDelay = new LogHistogram();
+    private final LogHistogram callLatency = new LogHistogram();
+
+    private StripedRetryMetrics() {
+    }
+
+    public static RetryMetrics create() {
+        return new StripedRetryMetrics();
+    }
+
+    @Override
+    public void onCall() {
+        calls.increment();
+    }
+
+    @Override
+    public void onAttemptSucceeded(long latencyNanos) {
+        attempts.increment();
+        attemptLatency.record(latencyNanos);
+    }
+
+    @Override
+    public void onAttemptFailed(Exception failure, long latencyNanos) {
+        attempts.increment();
+        attemptLatency.record(latencyNanos);
+        counterOf(failuresByType, failure).increment();
+    }
+
+    @Override
+    public void onRetry(long delayMillis) {
+        retries.increment();
+        backoffDelay.record(delayMillis);
+    }
+
+    @Override
+    public void onSuccess(long callNanos) {
+        successes.increment();
+        callLatency.record(callNanos);
+    }
+
+    @Override
+    public void onExhausted(Exception lastFailure, long callNanos) {
+        exhaustions.increment();
+        callLatency.record(callNanos);
+        counterOf(exhaustionsByType, lastFailure).increment();
+    }
+
+    @Override
+    public void onRejected(Exception reason, long callNanos) {
+        rejections.increment();
+    }
+
+    @Override
+    public void onFallback() {
+        fallbacks.increment();
+    }
+
+    @Override
+    public RetryMetricsSnapshot snapshot() {
+        return new RetryMetricsSnapshot(calls.sum(), attempts.sum(), retries.sum(), successes.sum(), fallbacks.sum(),
+                exhaustions.sum(), rejections.sum(), copy(failuresByType), copy(exhaustionsByType), attemptLatency.snapshot(),
+                backoffDelay.snapshot(), callLatency.snapshot());
+    }
+
+    private static LongAdder counterOf(ConcurrentHashMap<Class<?>, LongAdder> counters, Exception e) {
+        Class<?> type = e != null ? e.getClass() : Exception.class;
+        // plain get first: computeIfAbsent may lock the bin even when the counter exists
+        LongAdder counter = counters.get(type);
+        if (counter != null) {
+            return counter;
+        }
+        if (counters.size() >= MAX_TYPES) {
+            type = Exception.class;
+        }
+        return counters.computeIfAbsent(type, t -> new LongAdder());
+    }
+
+    private static Map<Class<?>, Long> copy(ConcurrentHashMap<Class<?>, LongAdder> counters) {
+        Map<Class<?>, Long> copy = new HashMap<>();
+        counters.forEach((type, counter) -> copy.put(type, counter.sum()));
+        return Collections.unmodifiableMap(copy);
+    }
+}
@@ -10,4 +10,72 @@ public interface RetryPolicy {
     boolean shouldRetry(int attempts, Exception lastException);
     RetryClassifier getRetryClassifier();
     int getMaxAttempts();
+
+    /**
+     * Called by the executors once per call, before its first attempt. Stateful policies such as
+     * retry budgets use it to track traffic; the default does nothing.
+     */
+    default void onFirstAttempt() {
+    }
+
+    /**
+     * Whether a successful attempt's result should be retried anyway, e.g. an HTTP 503 response. The executors
+     * then treat the attempt as failed with a {@link com.github.cf06yash.core.retry.executor.RetryableResultException}
+     * and return the last result if the policy gives up. The default retries no result.
+     */
+    default boolean isRetryableResult(Object result) {
+        return false;
+    }
+
+    /**
+     * The delay the server asked for before retrying after {@code lastException}, read from a
+     * {@link com.github.cf06yash.core.retry.tagging.RetryAfterHint} on the exception or on the result it
+     * retries, and clamped to the policy's maximum. The executors wait it instead of the backoff.
+     *
+     * @return the delay in milliseconds, or -1 to back off as usual; the default ignores hints
+     */
+    default long getRetryAfterMillis(Exception lastException) {
+        return -1;
+    }
+
+    /**
+     * Called when a retry that {@link #shouldRetry} or {@link #tryHedge()} allowed is abandoned before it runs,
+     * e.g. because it cannot make the deadline, the rate limit or the retry capacity refused it. Budgeted
+     * policies refund the retry's token; the default does nothing.
+     */
+    default void onRetryAbandoned() {
+    }
+
+    /**
+     * Asked before the async executor starts a hedged attempt next to a slow one. Hedges add load like
+     * retries do, so budgeted policies charge them to their budget; the default always allows them.
+     */
+    default boolean tryHedge() {
+        return true;
+    }
+
+    /**
+     * Time budget of one execution, counted from before its first attempt; the executors turn it into an
+     * absolute deadline per call. 0, the default, means no deadline.
+     */
+    default long getTimeoutNanos() {
+        return 0;
+    }
+
+    /**
+     * Reports how long a finished attempt took, successful or not.
+     */
+    default void onAttemptCompleted(long latencyNanos) {
+    }
+
+    /**
+     * Fits the next backoff into the time left before the deadline; only called when {@link #getTimeoutNanos()}
+     * is positive.
+     *
+     * @return the delay to wait in nanoseconds, or a negative value to stop retrying because the next attempt
+     * cannot finish in time
+     */
+    default long fitDelayNanos(long delayNanos, long remainingNanos) {
+        return remainingNanos > 0 ? Math.min(delayNanos, remainingNanos) : -1;
+    }
 }
@@ -1,9 +1,15 @@
 package com.github.cf06yash.core.retry.policy;
 
+import com.github.cf06yash.core.retry.budget.RetryBudget;
+import com.github.cf06yash.core.retry.policy.impl.BudgetedRetryPolicy;
 import com.github.cf06yash.core.retry.policy.impl.ConfigurableRetryPolicy;
+import com.github.cf06yash.core.retry.policy.impl.DeadlineRetryPolicy;
 import com.github.cf06yash.core.retry.tagging.RetryClassifier;
 import com.github.cf06yash.core.retry.tagging.impl.DefaultRetryClassifier;
 
+import java.time.Duration;
+import java.util.function.Predicate;
+
 /**
  * Developed by cf06yash.
  * Created on 06-10-2025.
@@ -12,6 +18,10 @@ public class RetryPolicyBuilder {
 
     private int maxAttempts = 3;
     private RetryClassifier retryClassifier;
+    private RetryBudget retryBudget;
+    private Duration timeout;
+    private Predicate<Object> retryableResult;
+    private Duration maxRetryAfter = Duration.ofMillis(ConfigurableRetryPolicy.DEFAULT_MAX_RETRY_AFTER_MILLIS);
 
     private RetryPolicyBuilder() {
     }
@@ -25,15 +35,64 @@ public class RetryPolicyBuilder {
         return this;
     }
 
+    /**
+     * Decides which exceptions are retried; defaults to {@link DefaultRetryClassifier}. Use
+     * {@link com.github.cf06yash.core.retry.tagging.RetryClassifierBuilder} to retry third-party exception types.
+     */
     public RetryPolicyBuilder classifier(RetryClassifier classifier) {
         this.retryClassifier = classifier;
         return this;
     }
 
+    /**
+     * Retries successful attempts whose result is a {@code type} matching {@code predicate}, e.g. an HTTP 503
+     * response, without the task having to throw. Results of other types never match; repeated calls add
+     * predicates, any of which triggers a retry. When the policy gives up, the caller gets the last result.
+     */
+    public <T> RetryPolicyBuilder retryOnResult(Class<T> type, Predicate<? super T> predicate) {
+        if (type == null || predicate == null) {
+            throw new IllegalArgumentException("result type and predicate cannot be null");
+        }
+        Predicate<Object> rule = result -> type.isInstance(result) && predicate.test(type.cast(result));
+        this.retryableResult = this.retryableResult == null ? rule : this.retryableResult.or(rule);
+        return this;
+    }
+
+    /**
+     * Longest server-requested delay honoured, see {@link com.github.cf06yash.core.retry.tagging.RetryAfterHint};
+     * longer ones are cut to it and {@link Duration#ZERO} ignores hints. Defaults to one minute.
+     */
+    public RetryPolicyBuilder maxRetryAfter(Duration maxRetryAfter) {
+        if (maxRetryAfter == null || maxRetryAfter.isNegative()) {
+            throw new IllegalArgumentException("max retry-after cannot be negative");
+        }
+        this.maxRetryAfter = maxRetryAfter;
+        return this;
+    }
+
+    public RetryPolicyBuilder retryBudget(RetryBudget retryBudget) {
+        this.retryBudget = retryBudget;
+        return this;
+    }
+
+    /**
+     * Overall time budget of one execution, attempts and backoff included. Backoff is cut to the time left
+     * and retrying stops once the average attempt latency no longer fits before the deadline.
+     */
+    public RetryPolicyBuilder timeout(Duration timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
     public RetryPolicy build() {
         RetryClassifier classifier = this.retryClassifier != null
                 ? this.retryClassifier
                 : DefaultRetryClassifier.INSTANCE;
-        return ConfigurableRetryPolicy.of(classifier, this.maxAttempts);
+        RetryPolicy policy = ConfigurableRetryPolicy.of(classifier, this.maxAttempts, this.retryableResult,
+                this.maxRetryAfter.toMillis());
+        if (this.timeout != null) {
+            policy = DeadlineRetryPolicy.of(policy, this.timeout);
+        }
+        return this.retryBudget != null ? BudgetedRetryPolicy.of(policy, this.retryBudget) : policy;
     }
 }
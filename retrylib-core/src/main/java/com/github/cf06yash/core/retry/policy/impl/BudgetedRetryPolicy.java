@@ -0,0 +1,96 @@
+package com.github.cf06yash.core.retry.policy.impl;
+
+import com.github.cf06yash.core.retry.budget.RetryBudget;
+import com.github.cf06yash.core.retry.policy.RetryPolicy;
+import com.github.cf06yash.core.retry.tagging.RetryClassifier;
+
+/**
+ * Decorates a policy with a shared {@link RetryBudget}: a retry the delegate allows still needs a token
+ * from the budget, and gets it back if the executor abandons the retry before it runs. Share one budget
+ * between all policies that call the same dependency.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class BudgetedRetryPolicy
+        implements RetryPolicy {
+
+    private final RetryPolicy delegate;
+    private final RetryBudget retryBudget;
+
+    private BudgetedRetryPolicy(RetryPolicy delegate, RetryBudget retryBudget) {
+        this.delegate = delegate;
+        this.retryBudget = retryBudget;
+    }
+
+    public static RetryPolicy of(RetryPolicy delegate, RetryBudget retryBudget) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("retry policy cannot be null");
+        }
+        if (retryBudget == null) {
+            throw new IllegalArgumentException("retry budget cannot be null");
+        }
+        return new BudgetedRetryPolicy(delegate, retryBudget);
+    }
+
+    @Override
+    public boolean shouldRetry(int attempts, Exception lastException) {
+        return delegate.shouldRetry(attempts, lastException) && retryBudget.tryWithdraw();
+    }
+
+    @Override
+    public boolean tryHedge() {
+        return delegate.tryHedge() && retryBudget.tryWithdraw();
+    }
+
+    @Override
+    public void onRetryAbandoned() {
+        delegate.onRetryAbandoned();
+        retryBudget.refund();
+    }
+
+    @Override
+    public boolean isRetryableResult(Object result) {
+        return delegate.isRetryableResult(result);
+    }
+
+    @Override
+    public long getRetryAfterMillis(Exception lastException) {
+        return delegate.getRetryAfterMillis(lastException);
+    }
+
+    @Override
+    public void onFirstAttempt() {
+        delegate.onFirstAttempt();
+        retryBudget.deposit();
+    }
+
+    @Override
+    public long getTimeoutNanos() {
+        return delegate.getTimeoutNanos();
+    }
+
+    @Override
+    public void onAttemptCompleted(long latencyNanos) {
+        delegate.onAttemptCompleted(latencyNanos);
+    }
+
+    @Override
+    public long fitDelayNanos(long delayNanos, long remainingNanos) {
+        return delegate.fitDelayNanos(delayNanos, remainingNanos);
+    }
+
+    @Override
+    public RetryClassifier getRetryClassifier() {
+        return delegate.getRetryClassifier();
+    }
+
+    @Override
+    public int getMaxAttempts() {
+        return delegate.getMaxAttempts();
+    }
+
+    public RetryBudget getRetryBudget() {
+        return retryBudget;
+    }
+}
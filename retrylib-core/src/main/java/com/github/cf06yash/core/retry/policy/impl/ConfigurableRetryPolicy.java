@@ -1,8 +1,13 @@
 package com.github.cf06yash.core.retry.policy.impl;
 
+import com.github.cf06yash.core.retry.executor.RetryableResultException;
 import com.github.cf06yash.core.retry.policy.RetryPolicy;
+import com.github.cf06yash.core.retry.tagging.RetryAfterHint;
 import com.github.cf06yash.core.retry.tagging.RetryClassifier;
 
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
 /**
  * Developed by cf06yash.
  * Created on 06-10-2025.
@@ -10,22 +15,50 @@ import com.github.cf06yash.core.retry.tagging.RetryClassifier;
 public class ConfigurableRetryPolicy
         implements RetryPolicy {
 
+    /**
+     * Cap on server-requested delays when none is given; {@code RetryPolicyBuilder} uses it too.
+     */
+    public static final long DEFAULT_MAX_RETRY_AFTER_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
     private final RetryClassifier retryClassifier;
     private final int maxAttempts;
+    private final Predicate<Object> retryableResult;
+    private final long maxRetryAfterMillis;
 
-    ConfigurableRetryPolicy(RetryClassifier retryClassifier, int maxAttempts) {
+    ConfigurableRetryPolicy(RetryClassifier retryClassifier, int maxAttempts, Predicate<Object> retryableResult,
+                            long maxRetryAfterMillis) {
         this.retryClassifier = retryClassifier;
         this.maxAttempts = maxAttempts;
+        this.retryableResult = retryableResult;
+        this.maxRetryAfterMillis = maxRetryAfterMillis;
     }
 
     public static RetryPolicy of(RetryClassifier classifier, int maxAttempts) {
+        return of(classifier, maxAttempts, null);
+    }
+
+    /**
+     * @param retryableResult results to retry; {@code null} retries no result
+     */
+    public static RetryPolicy of(RetryClassifier classifier, int maxAttempts, Predicate<Object> retryableResult) {
+        return of(classifier, maxAttempts, retryableResult, DEFAULT_MAX_RETRY_AFTER_MILLIS);
+    }
+
+    /**
+     * @param maxRetryAfterMillis server-requested delays are cut to this; 0 ignores them
+     */
+    public static RetryPolicy of(RetryClassifier classifier, int maxAttempts, Predicate<Object> retryableResult,
+                                 long maxRetryAfterMillis) {
         if (maxAttempts <= 0) {
             throw new IllegalArgumentException("maxAttempts must be positive");
         }
         if (classifier == null) {
             throw new IllegalArgumentException("retry classifier cannot be null");
         }
-        return new ConfigurableRetryPolicy(classifier, maxAttempts);
+        if (maxRetryAfterMillis < 0) {
+            throw new IllegalArgumentException("max retry-after cannot be negative");
+        }
+        return new ConfigurableRetryPolicy(classifier, maxAttempts, retryableResult, maxRetryAfterMillis);
     }
 
     public RetryClassifier getRetryClassifier() {
@@ -40,4 +73,22 @@ public class ConfigurableRetryPolicy
     public boolean shouldRetry(int attempts, Exception lastException) {
         return attempts < maxAttempts && retryClassifier.isRetryable(lastException);
     }
+
+    @Override
+    public boolean isRetryableResult(Object result) {
+        return retryableResult != null && retryableResult.test(result);
+    }
+
+    @Override
+    public long getRetryAfterMillis(Exception lastException) {
+        if (maxRetryAfterMillis == 0) {
+            return -1;
+        }
+        Object carrier = lastException instanceof RetryableResultException r ? r.getResult() : lastException;
+        if (!(carrier instanceof RetryAfterHint hint)) {
+            return -1;
+        }
+        long millis = hint.getRetryAfterMillis();
+        return millis < 0 ? -1 : Math.min(millis, maxRetryAfterMillis);
+    }
 }
@@ -0,0 +1,114 @@
+package com.github.cf06yash.core.retry.policy.impl;
+
+import com.github.cf06yash.core.retry.policy.RetryPolicy;
+import com.github.cf06yash.core.retry.tagging.RetryClassifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decorates a policy with an overall time budget per execution. The policy keeps an exponentially weighted
+ * moving average of attempt latency across all executions that share it; the next backoff is cut so that an
+ * average attempt still fits before the deadline, and retrying stops when even an immediate attempt would not.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class DeadlineRetryPolicy
+        implements RetryPolicy {
+
+    // each sample moves the average by 1/8 of its distance, as in TCP's smoothed RTT
+    private static final int EWMA_SHIFT = 3;
+    private static final long NO_SAMPLE = -1;
+
+    private final RetryPolicy delegate;
+    private final long timeoutNanos;
+    private final AtomicLong averageLatencyNanos = new AtomicLong(NO_SAMPLE);
+
+    private DeadlineRetryPolicy(RetryPolicy delegate, long timeoutNanos) {
+        this.delegate = delegate;
+        this.timeoutNanos = timeoutNanos;
+    }
+
+    public static RetryPolicy of(RetryPolicy delegate, Duration timeout) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("retry policy cannot be null");
+        }
+        if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("timeout must be positive");
+        }
+        return new DeadlineRetryPolicy(delegate, timeout.toNanos());
+    }
+
+    @Override
+    public boolean shouldRetry(int attempts, Exception lastException) {
+        return delegate.shouldRetry(attempts, lastException);
+    }
+
+    @Override
+    public boolean tryHedge() {
+        return delegate.tryHedge();
+    }
+
+    @Override
+    public void onRetryAbandoned() {
+        delegate.onRetryAbandoned();
+    }
+
+    @Override
+    public boolean isRetryableResult(Object result) {
+        return delegate.isRetryableResult(result);
+    }
+
+    @Override
+    public long getRetryAfterMillis(Exception lastException) {
+        return delegate.getRetryAfterMillis(lastException);
+    }
+
+    @Override
+    public void onFirstAttempt() {
+        delegate.onFirstAttempt();
+    }
+
+    @Override
+    public long getTimeoutNanos() {
+        return timeoutNanos;
+    }
+
+    @Override
+    public void onAttemptCompleted(long latencyNanos) {
+        long current;
+        long next;
+        do {
+            current = averageLatencyNanos.get();
+            next = current == NO_SAMPLE ? latencyNanos : current + ((latencyNanos - current) >> EWMA_SHIFT);
+        } while (!averageLatencyNanos.compareAndSet(current, next));
+        delegate.onAttemptCompleted(latencyNanos);
+    }
+
+    @Override
+    public long fitDelayNanos(long delayNanos, long remainingNanos) {
+        long slack = remainingNanos - getPredictedLatencyNanos();
+        if (slack <= 0) {
+            return -1;
+        }
+        return delegate.fitDelayNanos(Math.min(delayNanos, slack), remainingNanos);
+    }
+
+    /**
+     * Average attempt latency the next attempt is expected to take; 0 before the first sample.
+     */
+    public long getPredictedLatencyNanos() {
+        return Math.max(0, averageLatencyNanos.get());
+    }
+
+    @Override
+    public RetryClassifier getRetryClassifier() {
+        return delegate.getRetryClassifier();
+    }
+
+    @Override
+    public int getMaxAttempts() {
+        return delegate.getMaxAttempts();
+    }
+}
@@ -0,0 +1,16 @@
+package com.github.cf06yash.core.retry.ratelimit;
+
+/**
+ * Implemented by tasks that name the key their retries are rate limited under, which the default key
+ * extractor of {@link RetryRateLimiterBuilder} reads.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public interface RateLimitedTask {
+
+    /**
+     * @return the rate limit key, e.g. the partner endpoint; {@code null} does not limit the task
+     */
+    Object rateLimitKey();
+}
@@ -0,0 +1,18 @@
+package com.github.cf06yash.core.retry.ratelimit;
+
+import com.github.cf06yash.core.retry.tagging.NonRetryableException;
+
+/**
+ * Recorded for a call that stopped retrying because its key's {@link RetryRateLimiter} had no slot within the
+ * maximum wait. The cause is the failure that would have been retried. It carries no stack trace, so giving
+ * up stays cheap.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class RetryRateLimitExceededException extends RuntimeException implements NonRetryableException {
+
+    public RetryRateLimitExceededException(Throwable cause) {
+        super("retry rate limit exceeded", cause, false, false);
+    }
+}
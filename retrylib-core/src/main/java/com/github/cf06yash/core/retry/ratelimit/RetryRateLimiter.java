@@ -0,0 +1,37 @@
+package com.github.cf06yash.core.retry.ratelimit;
+
+/**
+ * Paces retry attempts per key, e.g. per partner endpoint, so retries against a throttled dependency do not
+ * spend its quota any faster than allowed. First attempts are never limited. Executors ask for a slot when
+ * they schedule a retry: async calls wait longer before the retry, sync calls sleep longer, and calls whose
+ * wait would be too long end as if their retries were exhausted.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public interface RetryRateLimiter {
+
+    /**
+     * Returned by {@link #reserve(Object, long, long)} when the key has a slot within the maximum wait, but not
+     * within the wait the call can still afford before its deadline.
+     */
+    long PAST_DEADLINE = -2;
+
+    /**
+     * Reserves a slot for the next attempt of {@code task} of a call without a deadline.
+     */
+    default long reserve(Object task, long delayMillis) {
+        return reserve(task, delayMillis, Long.MAX_VALUE);
+    }
+
+    /**
+     * Reserves a slot for the next attempt of {@code task}, which the backoff would start in {@code delayMillis}.
+     *
+     * @param deadlineWaitNanos longest the call can wait for a slot on top of {@code delayMillis} and still make
+     *                          its deadline
+     * @return the delay to start the attempt after, at least {@code delayMillis}; -1 when the key's limit allows
+     * no slot within the maximum wait or {@link #PAST_DEADLINE} when it allows none within
+     * {@code deadlineWaitNanos}, in both cases without reserving anything
+     */
+    long reserve(Object task, long delayMillis, long deadlineWaitNanos);
+}
@@ -0,0 +1,69 @@
+package com.github.cf06yash.core.retry.ratelimit;
+
+import com.github.cf06yash.core.retry.ratelimit.impl.GcraRetryRateLimiter;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class RetryRateLimiterBuilder {
+
+    private Function<Object, ?> keyExtractor = task -> task instanceof RateLimitedTask keyed ? keyed.rateLimitKey() : null;
+    private final Map<Object, GcraRetryRateLimiter.Rate> rates = new HashMap<>();
+    private GcraRetryRateLimiter.Rate defaultRate;
+    private Duration maxWait = Duration.ofSeconds(30);
+
+    private RetryRateLimiterBuilder() {
+    }
+
+    public static RetryRateLimiterBuilder newBuilder() {
+        return new RetryRateLimiterBuilder();
+    }
+
+    /**
+     * Derives the key from the task passed to the executor, i.e. the {@code Callable}, {@code Supplier} or
+     * batch function. Defaults to {@link RateLimitedTask#rateLimitKey()}; tasks mapped to {@code null} are not
+     * limited.
+     */
+    public RetryRateLimiterBuilder keyExtractor(Function<Object, ?> keyExtractor) {
+        this.keyExtractor = keyExtractor;
+        return this;
+    }
+
+    /**
+     * Limit of every key without its own {@link #limit(Object, double, int)}. Unset, those keys are unlimited.
+     */
+    public RetryRateLimiterBuilder limit(double permitsPerSecond, int burst) {
+        this.defaultRate = GcraRetryRateLimiter.Rate.of(permitsPerSecond, burst);
+        return this;
+    }
+
+    public RetryRateLimiterBuilder limit(Object key, double permitsPerSecond, int burst) {
+        if (key == null) {
+            throw new IllegalArgumentException("key cannot be null");
+        }
+        this.rates.put(key, GcraRetryRateLimiter.Rate.of(permitsPerSecond, burst));
+        return this;
+    }
+
+    /**
+     * Longest a retry may wait for a slot on top of its backoff; beyond it the call stops retrying. Defaults
+     * to 30 seconds.
+     */
+    public RetryRateLimiterBuilder maxWait(Duration maxWait) {
+        if (maxWait == null || maxWait.isNegative()) {
+            throw new IllegalArgumentException("max wait cannot be negative");
+        }
+        this.maxWait = maxWait;
+        return this;
+    }
+
+    public RetryRateLimiter build() {
+        return GcraRetryRateLimiter.of(keyExtractor, rates, defaultRate, maxWait.toNanos());
+    }
+}
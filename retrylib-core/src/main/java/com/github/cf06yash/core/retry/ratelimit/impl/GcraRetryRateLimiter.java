@@ -0,0 +1,124 @@
+package com.github.cf06yash.core.retry.ratelimit.impl;
+
+import com.github.cf06yash.core.retry.ratelimit.RetryRateLimiter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * {@link RetryRateLimiter} running the generic cell rate algorithm per key. A key's whole state is its
+ * theoretical arrival time in one {@link AtomicLong}: a slot is free from that time minus the burst tolerance
+ * on, and taking it pushes the time one emission interval further, all in a single compare-and-set. Keys
+ * get their bucket on first use and keep it, so they should come from a bounded set such as endpoints.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class GcraRetryRateLimiter
+        implements RetryRateLimiter {
+
+    private final Function<Object, ?> keyExtractor;
+    private final Map<Object, Rate> rates;
+    private final Rate defaultRate;
+    private final long maxWaitNanos;
+    private final ConcurrentHashMap<Object, Bucket> buckets = new ConcurrentHashMap<>();
+
+    private GcraRetryRateLimiter(Function<Object, ?> keyExtractor, Map<Object, Rate> rates, Rate defaultRate, long maxWaitNanos) {
+        this.keyExtractor = keyExtractor;
+        this.rates = rates;
+        this.defaultRate = defaultRate;
+        this.maxWaitNanos = maxWaitNanos;
+    }
+
+    /**
+     * @param rates       limits of individual keys
+     * @param defaultRate limit of every other key; {@code null} leaves them unlimited
+     * @param maxWaitNanos longest a retry may wait for a slot on top of its backoff
+     */
+    public static RetryRateLimiter of(Function<Object, ?> keyExtractor, Map<Object, Rate> rates, Rate defaultRate,
+                                      long maxWaitNanos) {
+        if (keyExtractor == null || rates == null) {
+            throw new IllegalArgumentException("key extractor and rates cannot be null");
+        }
+        if (maxWaitNanos < 0) {
+            throw new IllegalArgumentException("max wait cannot be negative");
+        }
+        return new GcraRetryRateLimiter(keyExtractor, Map.copyOf(rates), defaultRate, maxWaitNanos);
+    }
+
+    @Override
+    public long reserve(Object task, long delayMillis, long deadlineWaitNanos) {
+        Object key = keyExtractor.apply(task);
+        if (key == null) {
+            return delayMillis;
+        }
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            Rate rate = rates.getOrDefault(key, defaultRate);
+            if (rate == null) {
+                return delayMillis;
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new Bucket(rate, System.nanoTime()));
+        }
+        long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+        while (true) {
+            long arrival = bucket.get();
+            long begin = Math.max(start, arrival - bucket.toleranceNanos);
+            long wait = begin - start;
+            if (wait > maxWaitNanos) {
+                return -1;
+            }
+            if (wait > deadlineWaitNanos) {
+                return PAST_DEADLINE;
+            }
+            if (bucket.compareAndSet(arrival, Math.max(arrival, begin) + bucket.intervalNanos)) {
+                return delayMillis + (wait + 999_999) / 1_000_000;
+            }
+        }
+    }
+
+    /**
+     * @return the number of keys seen so far that have a limit
+     */
+    public int getKeyCount() {
+        return buckets.size();
+    }
+
+    /**
+     * A limit of {@code permitsPerSecond} attempts, of which up to {@code burst} may start back to back.
+     */
+    public static final class Rate {
+        final long intervalNanos;
+        final long toleranceNanos;
+
+        private Rate(long intervalNanos, long toleranceNanos) {
+            this.intervalNanos = intervalNanos;
+            this.toleranceNanos = toleranceNanos;
+        }
+
+        public static Rate of(double permitsPerSecond, int burst) {
+            if (!(permitsPerSecond > 0) || burst < 1) {
+                throw new IllegalArgumentException("permits per second and burst must be positive");
+            }
+            long interval = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+            return new Rate(interval, interval * (burst - 1));
+        }
+    }
+
+    /**
+     * The theoretical arrival time of a key, next to the limit it is paced by.
+     */
+    private static final class Bucket extends AtomicLong {
+        final long intervalNanos;
+        final long toleranceNanos;
+
+        Bucket(Rate rate, long now) {
+            super(now);
+            this.intervalNanos = rate.intervalNanos;
+            this.toleranceNanos = rate.toleranceNanos;
+        }
+    }
+}
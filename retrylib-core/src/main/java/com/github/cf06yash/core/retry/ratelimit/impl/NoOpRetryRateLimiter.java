@@ -0,0 +1,25 @@
+package com.github.cf06yash.core.retry.ratelimit.impl;
+
+import com.github.cf06yash.core.retry.ratelimit.RetryRateLimiter;
+
+/**
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class NoOpRetryRateLimiter
+        implements RetryRateLimiter {
+
+    private static final NoOpRetryRateLimiter INSTANCE = new NoOpRetryRateLimiter();
+
+    private NoOpRetryRateLimiter() {
+    }
+
+    public static RetryRateLimiter get() {
+        return INSTANCE;
+    }
+
+    @Override
+    public long reserve(Object task, long delayMillis, long deadlineWaitNanos) {
+        return delayMillis;
+    }
+}
@@ -0,0 +1,117 @@
+package com.github.cf06yash.core.retry.state;
+
+import com.github.cf06yash.core.retry.circuit.CircuitBreaker;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * What the executors learned about one endpoint: its own circuit breaker, moving averages of its error rate
+ * and attempt latency, and a pause gate. Averages are updated without locks; two attempts recording at the
+ * same moment may drop one sample, which an average tolerates.
+ * <p>
+ * The gate is the latest deadline any caller was given by the server's {@code Retry-After}, raised with a
+ * compare-and-set; every retry to the endpoint waits until it has passed, so the whole fleet of callers holds
+ * off as soon as one of them is told to.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public final class EndpointState {
+
+    // weight of the newest sample, as in TCP's smoothed round-trip time
+    private static final double ERROR_RATE_WEIGHT = 0.125;
+    private static final int LATENCY_SHIFT = 3;
+    private static final AtomicLongFieldUpdater<EndpointState> PAUSED_UNTIL = AtomicLongFieldUpdater.newUpdater(EndpointState.class,
+            "pausedUntilNanos");
+
+    private final Object key;
+    private final CircuitBreaker circuitBreaker;
+    private volatile double errorRate;
+    private volatile long latencyNanos;
+    // compared by difference, as nano times may be negative; a deadline in the past means no pause
+    private volatile long pausedUntilNanos = System.nanoTime();
+
+    public EndpointState(Object key, CircuitBreaker circuitBreaker) {
+        this.key = key;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    /**
+     * Holds retries to the endpoint for {@code delayMillis} from now, unless a later deadline is already set.
+     */
+    public void pauseFor(long delayMillis) {
+        long until = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+        long current;
+        do {
+            current = pausedUntilNanos;
+            if (until - current <= 0) {
+                return;
+            }
+        } while (!PAUSED_UNTIL.compareAndSet(this, current, until));
+    }
+
+    /**
+     * @return how long retries to the endpoint are still held, rounded up to whole milliseconds, or 0
+     */
+    public long getPauseRemainingMillis() {
+        long remaining = pausedUntilNanos - System.nanoTime();
+        return remaining > 0 ? (remaining + 999_999) / 1_000_000 : 0;
+    }
+
+    public boolean tryAcquirePermission() {
+        return circuitBreaker.tryAcquirePermission();
+    }
+
+    public void releasePermission() {
+        circuitBreaker.releasePermission();
+    }
+
+    public void onSuccess(long latencyNanos) {
+        circuitBreaker.onSuccess();
+        record(0, latencyNanos);
+    }
+
+    public void onFailure(long latencyNanos) {
+        circuitBreaker.onFailure();
+        record(1, latencyNanos);
+    }
+
+    public boolean isOpen() {
+        return circuitBreaker.getState() == CircuitBreaker.State.OPEN;
+    }
+
+    private void record(double failed, long latency) {
+        errorRate += (failed - errorRate) * ERROR_RATE_WEIGHT;
+        long average = latencyNanos;
+        latencyNanos = average == 0 ? latency : average + ((latency - average) >> LATENCY_SHIFT);
+    }
+
+    public Object getKey() {
+        return key;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * @return the share of recent attempts that failed, between 0 and 1
+     */
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    /**
+     * @return the moving average of attempt latency, 0 before the first attempt
+     */
+    public long getLatencyNanos() {
+        return latencyNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "EndpointState{key=" + key + ", breaker=" + circuitBreaker.getState() + ", errorRate=" + errorRate
+                + ", latencyNanos=" + latencyNanos + ", pausedMillis=" + getPauseRemainingMillis() + '}';
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.cf06yash.core.retry.state;
+
+/**
+ * Keeps an {@link EndpointState} per downstream endpoint for the executors, which look it up once per call
+ * and consult and update it on every attempt.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public interface EndpointStateStore {
+
+    /**
+     * @return the state of the endpoint {@code task} calls, or {@code null} when the task names none
+     */
+    EndpointState forTask(Object task);
+
+    /**
+     * @return the state of {@code key}, created on first use
+     */
+    EndpointState get(Object key);
+
+    /**
+     * @return the number of endpoints holding state
+     */
+    int size();
+}
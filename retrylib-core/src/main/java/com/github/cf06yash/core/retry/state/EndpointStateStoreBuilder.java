@@ -0,0 +1,56 @@
+package com.github.cf06yash.core.retry.state;
+
+import com.github.cf06yash.core.retry.circuit.CircuitBreaker;
+import com.github.cf06yash.core.retry.circuit.impl.NoOpCircuitBreaker;
+import com.github.cf06yash.core.retry.state.impl.TinyLfuEndpointStateStore;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class EndpointStateStoreBuilder {
+
+    private int maximumSize = 10_000;
+    private Function<Object, ?> keyExtractor = task -> task instanceof EndpointTask endpoint ? endpoint.endpointKey() : null;
+    private Supplier<? extends CircuitBreaker> circuitBreakers = NoOpCircuitBreaker::get;
+
+    private EndpointStateStoreBuilder() {
+    }
+
+    public static EndpointStateStoreBuilder newBuilder() {
+        return new EndpointStateStoreBuilder();
+    }
+
+    /**
+     * The number of endpoints kept at most; the least used are evicted beyond it. Defaults to 10,000.
+     */
+    public EndpointStateStoreBuilder maximumSize(int maximumSize) {
+        this.maximumSize = maximumSize;
+        return this;
+    }
+
+    /**
+     * Derives the endpoint from the task passed to the executor, i.e. the {@code Callable}, {@code Supplier} or
+     * batch function. Defaults to {@link EndpointTask#endpointKey()}; tasks mapped to {@code null} keep no state.
+     */
+    public EndpointStateStoreBuilder keyExtractor(Function<Object, ?> keyExtractor) {
+        this.keyExtractor = keyExtractor;
+        return this;
+    }
+
+    /**
+     * Gives every endpoint a circuit breaker of its own, e.g. {@code () -> CircuitBreakerBuilder.newBuilder().build()};
+     * none by default.
+     */
+    public EndpointStateStoreBuilder circuitBreaker(Supplier<? extends CircuitBreaker> circuitBreakers) {
+        this.circuitBreakers = circuitBreakers;
+        return this;
+    }
+
+    public EndpointStateStore build() {
+        return TinyLfuEndpointStateStore.of(maximumSize, keyExtractor, circuitBreakers);
+    }
+}
@@ -0,0 +1,16 @@
+package com.github.cf06yash.core.retry.state;
+
+/**
+ * Implemented by tasks that name the downstream endpoint they call, which the default key extractor of
+ * {@link EndpointStateStoreBuilder} reads.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public interface EndpointTask {
+
+    /**
+     * @return the endpoint key, e.g. a host or tenant; {@code null} keeps no state for the task
+     */
+    Object endpointKey();
+}
@@ -0,0 +1,118 @@
+package com.github.cf06yash.core.retry.state.impl;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Count-min sketch of how often keys were looked up, with 4-bit counters that are halved after a sample of
+ * ten lookups per entry, so the counts follow recent popularity. The four counters of a key sit in four
+ * different words of one 64-byte block, so a lookup touches one cache line while the counters of two keys
+ * rarely all collide. Each counter is bumped with a compare-and-set, and a saturated counter is only read,
+ * which keeps the hottest endpoints from contending on their block.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+final class FrequencySketch {
+
+    private static final long RESET_MASK = 0x7777_7777_7777_7777L;
+    private static final int MAX_COUNT = 15;
+    // the sample is checked on one increment in this many, keeping the sum of the adder off the hot path
+    private static final int CHECK_MASK = 63;
+    private static final int BLOCK_WORDS = 8;
+
+    private final AtomicLongArray table;
+    private final int mask;
+    private final long sampleSize;
+    private final LongAdder additions = new LongAdder();
+    private final AtomicBoolean resetting = new AtomicBoolean();
+
+    FrequencySketch(int maximumSize) {
+        int words = Integer.highestOneBit(Math.max(16, Math.min(maximumSize, 1 << 30) - 1) << 1);
+        this.table = new AtomicLongArray(words);
+        this.mask = (words - 1) & ~(BLOCK_WORDS - 1);
+        this.sampleSize = 10L * maximumSize;
+    }
+
+    void increment(Object key) {
+        long hash = hash(key);
+        int block = (int) (hash >>> 32) & mask;
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            int index = block + index(hash, i);
+            int shift = shift(hash, i);
+            long word;
+            do {
+                word = table.get(index);
+                if (((word >>> shift) & MAX_COUNT) == MAX_COUNT) {
+                    break;
+                }
+            } while (!table.compareAndSet(index, word, word + (1L << shift)));
+            added |= ((word >>> shift) & MAX_COUNT) != MAX_COUNT;
+        }
+        if (!added) {
+            return;
+        }
+        additions.increment();
+        if ((ThreadLocalRandom.current().nextInt() & CHECK_MASK) == 0 && additions.sum() >= sampleSize) {
+            reset();
+        }
+    }
+
+    int frequency(Object key) {
+        long hash = hash(key);
+        int block = (int) (hash >>> 32) & mask;
+        int frequency = MAX_COUNT;
+        for (int i = 0; i < 4; i++) {
+            frequency = Math.min(frequency, (int) (table.get(block + index(hash, i)) >>> shift(hash, i)) & MAX_COUNT);
+        }
+        return frequency;
+    }
+
+    /**
+     * Counter {@code i} lives in word {@code 2i} or {@code 2i + 1} of the block, so each counter of a key is in
+     * a word of its own.
+     */
+    private static int index(long hash, int i) {
+        return (i << 1) + ((int) (hash >>> (16 + i)) & 1);
+    }
+
+    private static int shift(long hash, int i) {
+        return ((int) (hash >>> (i << 2)) & 15) << 2;
+    }
+
+    /**
+     * Halves every counter. Increments racing with it may be halved or not; the counts are estimates anyway.
+     */
+    private void reset() {
+        if (!resetting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            additions.reset();
+            for (int i = 0; i < table.length(); i++) {
+                long word;
+                do {
+                    word = table.get(i);
+                } while (!table.compareAndSet(i, word, (word >>> 1) & RESET_MASK));
+            }
+        } finally {
+            resetting.set(false);
+        }
+    }
+
+    /**
+     * Murmur3's finalizer, so that the word index and the counter slots come from independent bits.
+     */
+    private static long hash(Object key) {
+        long h = key.hashCode();
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.cf06yash.core.retry.state.impl;
+
+import com.github.cf06yash.core.retry.state.EndpointState;
+import com.github.cf06yash.core.retry.state.EndpointStateStore;
+
+/**
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class NoOpEndpointStateStore
+        implements EndpointStateStore {
+
+    private static final NoOpEndpointStateStore INSTANCE = new NoOpEndpointStateStore();
+
+    private NoOpEndpointStateStore() {
+    }
+
+    public static EndpointStateStore get() {
+        return INSTANCE;
+    }
+
+    @Override
+    public EndpointState forTask(Object task) {
+        return null;
+    }
+
+    @Override
+    public EndpointState get(Object key) {
+        return null;
+    }
+
+    @Override
+    public int size() {
+        return 0;
+    }
+}
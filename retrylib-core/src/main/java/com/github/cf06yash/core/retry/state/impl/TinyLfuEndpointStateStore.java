@@ -0,0 +1,172 @@
+package com.github.cf06yash.core.retry.state.impl;
+
+import com.github.cf06yash.core.retry.circuit.CircuitBreaker;
+import com.github.cf06yash.core.retry.state.EndpointState;
+import com.github.cf06yash.core.retry.state.EndpointStateStore;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * {@link EndpointStateStore} bounded to a maximum number of endpoints with W-TinyLFU-style eviction. New
+ * endpoints enter a small admission window; when it overflows, its oldest entry competes with the oldest
+ * entry of the main region, and the one a {@link FrequencySketch} of recent lookups has seen less often is
+ * evicted. A flood of one-off tenant keys therefore cycles through the window while endpoints in steady use
+ * keep their state. Lookups of stored endpoints are a map read and a sketch update without locks; only
+ * inserting a new endpoint takes the eviction lock.
+ * <p>
+ * Both regions are queues in insertion order rather than LRU lists, so hits never reorder anything: a hit
+ * only bumps a small reference count. The main region is a clock whose hand takes one reference from each
+ * entry it passes and stops at one with none left, so endpoints hit about as often as the hand comes round
+ * are never the victim. That shields them from the sketch's estimation error the way a protected segment
+ * would. Concurrent inserts may exceed the bound by
+ * the number of inserting threads until they take the lock.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class TinyLfuEndpointStateStore
+        implements EndpointStateStore {
+
+    private static final int MAX_REFERENCES = 3;
+
+    private final Function<Object, ?> keyExtractor;
+    private final Supplier<? extends CircuitBreaker> circuitBreakers;
+    private final int windowSize;
+    private final int mainSize;
+    private final ConcurrentHashMap<Object, Node> states;
+    private final FrequencySketch sketch;
+    private final LongAdder evictions = new LongAdder();
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    // guarded by evictionLock
+    private final ArrayDeque<Node> window = new ArrayDeque<>();
+    private final ArrayDeque<Node> main = new ArrayDeque<>();
+
+    private TinyLfuEndpointStateStore(int maximumSize, Function<Object, ?> keyExtractor,
+                                      Supplier<? extends CircuitBreaker> circuitBreakers) {
+        this.keyExtractor = keyExtractor;
+        this.circuitBreakers = circuitBreakers;
+        this.windowSize = Math.max(1, maximumSize / 100);
+        this.mainSize = maximumSize - windowSize;
+        this.states = new ConcurrentHashMap<>(Math.min(maximumSize, 1 << 16));
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    /**
+     * @param maximumSize     the number of endpoints kept at most
+     * @param keyExtractor    derives the endpoint key from the task passed to the executor
+     * @param circuitBreakers creates the circuit breaker of each new endpoint
+     */
+    public static TinyLfuEndpointStateStore of(int maximumSize, Function<Object, ?> keyExtractor,
+                                               Supplier<? extends CircuitBreaker> circuitBreakers) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximum size must be positive");
+        }
+        if (keyExtractor == null || circuitBreakers == null) {
+            throw new IllegalArgumentException("key extractor and circuit breaker factory cannot be null");
+        }
+        return new TinyLfuEndpointStateStore(maximumSize, keyExtractor, circuitBreakers);
+    }
+
+    @Override
+    public EndpointState forTask(Object task) {
+        Object key = keyExtractor.apply(task);
+        return key == null ? null : get(key);
+    }
+
+    @Override
+    public EndpointState get(Object key) {
+        sketch.increment(key);
+        Node node = states.get(key);
+        if (node != null) {
+            // read before writing, so hits on a hot endpoint do not dirty its cache line; racing hits may count once
+            int references = node.references;
+            if (references < MAX_REFERENCES) {
+                node.references = references + 1;
+            }
+            return node.state;
+        }
+        Node created = new Node(new EndpointState(key, circuitBreakers.get()));
+        Node raced = states.putIfAbsent(key, created);
+        if (raced != null) {
+            return raced.state;
+        }
+        evictionLock.lock();
+        try {
+            window.addLast(created);
+            evict();
+        } finally {
+            evictionLock.unlock();
+        }
+        return created.state;
+    }
+
+    /**
+     * Moves what overflows the window to the main region, evicting the less frequent of each window candidate
+     * and the main region's victim once it is full; called with the eviction lock held.
+     */
+    private void evict() {
+        while (window.size() > windowSize) {
+            Node candidate = window.pollFirst();
+            if (main.size() < mainSize) {
+                main.addLast(candidate);
+                continue;
+            }
+            Node victim = nextVictim();
+            if (victim == null || sketch.frequency(candidate.state.getKey()) <= sketch.frequency(victim.state.getKey())) {
+                remove(candidate);
+                if (victim != null) {
+                    main.addLast(victim);
+                }
+            } else {
+                remove(victim);
+                main.addLast(candidate);
+            }
+        }
+    }
+
+    /**
+     * Advances the clock hand past entries that still have references, taking one from each; the turns are
+     * bounded, since hits racing with the hand could otherwise keep it going.
+     */
+    private Node nextVictim() {
+        for (int i = 0, n = main.size() * MAX_REFERENCES; i < n && main.peekFirst().references > 0; i++) {
+            Node spared = main.pollFirst();
+            spared.references--;
+            main.addLast(spared);
+        }
+        return main.pollFirst();
+    }
+
+    private void remove(Node node) {
+        states.remove(node.state.getKey(), node);
+        evictions.increment();
+    }
+
+    @Override
+    public int size() {
+        return states.size();
+    }
+
+    /**
+     * @return the number of endpoints evicted so far
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private static final class Node {
+        final EndpointState state;
+        // raised by hits, lowered by the clock hand
+        volatile int references;
+
+        Node(EndpointState state) {
+            this.state = state;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.github.cf06yash.core.retry.tagging;
+
+import java.time.Duration;
+
+/**
+ * Retryable exception carrying the server's {@code Retry-After}, for tasks that throw on a throttled response.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class RetryAfterException extends StacklessRetryableException implements RetryAfterHint {
+
+    private final long retryAfterMillis;
+
+    public RetryAfterException(String message, Duration retryAfter) {
+        this(message, retryAfter, null);
+    }
+
+    public RetryAfterException(String message, Duration retryAfter, Throwable cause) {
+        super(message, cause);
+        if (retryAfter == null || retryAfter.isNegative()) {
+            throw new IllegalArgumentException("retry-after cannot be negative");
+        }
+        this.retryAfterMillis = retryAfter.toMillis();
+    }
+
+    @Override
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
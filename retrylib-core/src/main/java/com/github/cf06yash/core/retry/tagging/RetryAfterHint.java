@@ -0,0 +1,18 @@
+package com.github.cf06yash.core.retry.tagging;
+
+/**
+ * Implemented by exceptions, or by results retried through
+ * {@link com.github.cf06yash.core.retry.policy.RetryPolicyBuilder#retryOnResult}, that carry the delay a server
+ * asked for, e.g. an HTTP {@code Retry-After} header. The executors wait that long, clamped by the policy,
+ * instead of the backoff strategy's delay.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public interface RetryAfterHint {
+
+    /**
+     * @return the delay before the next attempt in milliseconds, or a negative value when the server gave none
+     */
+    long getRetryAfterMillis();
+}
@@ -0,0 +1,68 @@
+package com.github.cf06yash.core.retry.tagging;
+
+import com.github.cf06yash.core.retry.tagging.impl.RuleBasedRetryClassifier;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds a classifier that decides on exception types, so third-party exceptions such as
+ * {@code SocketTimeoutException} need no wrapping. {@link NonRetryableException} and {@link RetryableException}
+ * stay honoured as markers.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class RetryClassifierBuilder {
+
+    private final List<Class<? extends Throwable>> retryOn = new ArrayList<>();
+    private final List<Class<? extends Throwable>> abortOn = new ArrayList<>();
+    private int maxCauseDepth = 8;
+    private boolean retryUnmatched;
+
+    private RetryClassifierBuilder() {
+    }
+
+    public static RetryClassifierBuilder newBuilder() {
+        return new RetryClassifierBuilder();
+    }
+
+    /**
+     * Retries exceptions of these types and their subtypes.
+     */
+    @SafeVarargs
+    public final RetryClassifierBuilder retryOn(Class<? extends Throwable>... types) {
+        this.retryOn.addAll(List.of(types));
+        return this;
+    }
+
+    /**
+     * Never retries exceptions of these types and their subtypes; takes precedence over {@link #retryOn(Class[])}.
+     */
+    @SafeVarargs
+    public final RetryClassifierBuilder abortOn(Class<? extends Throwable>... types) {
+        this.abortOn.addAll(List.of(types));
+        return this;
+    }
+
+    /**
+     * How many causes are inspected when an exception's own type matches no rule, e.g. an
+     * {@code ExecutionException} wrapping a timeout. 0 only looks at the exception itself; default 8.
+     */
+    public RetryClassifierBuilder maxCauseDepth(int maxCauseDepth) {
+        this.maxCauseDepth = maxCauseDepth;
+        return this;
+    }
+
+    /**
+     * Verdict for exceptions no rule matches, neither on the exception nor on its causes; default {@code false}.
+     */
+    public RetryClassifierBuilder retryUnmatched(boolean retryUnmatched) {
+        this.retryUnmatched = retryUnmatched;
+        return this;
+    }
+
+    public RetryClassifier build() {
+        return RuleBasedRetryClassifier.of(retryOn, abortOn, maxCauseDepth, retryUnmatched);
+    }
+}
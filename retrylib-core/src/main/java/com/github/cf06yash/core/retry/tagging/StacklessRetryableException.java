@@ -0,0 +1,20 @@
+package com.github.cf06yash.core.retry.tagging;
+
+/**
+ * Retryable exception that skips {@link Throwable#fillInStackTrace()}, for code that has to throw to trigger a
+ * retry. Filling in a stack trace is most of the cost of creating an exception, and under an error storm it is
+ * paid on every failed attempt. Subclass it to keep distinct types for classification and metrics.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class StacklessRetryableException extends RuntimeException implements RetryableException {
+
+    public StacklessRetryableException(String message) {
+        super(message, null, false, false);
+    }
+
+    public StacklessRetryableException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+}
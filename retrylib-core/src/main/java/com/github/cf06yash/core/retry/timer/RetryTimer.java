@@ -0,0 +1,16 @@
+package com.github.cf06yash.core.retry.timer;
+
+/**
+ * Runs retry attempts, either right away or after a backoff delay. This is the seam between
+ * {@link com.github.cf06yash.core.retry.executor.impl.AsyncRetryExecutor} and whatever keeps the
+ * pending retries, so a scheduled executor and a timing wheel can be swapped freely.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public interface RetryTimer {
+
+    void execute(Runnable task);
+
+    ScheduledRetry schedule(Runnable task, long delayMillis);
+}
@@ -0,0 +1,19 @@
+package com.github.cf06yash.core.retry.timer;
+
+/**
+ * Handle to a task registered with a {@link RetryTimer}.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public interface ScheduledRetry {
+
+    /**
+     * Cancels the task if it has not fired yet.
+     *
+     * @return {@code true} if this call cancelled the task
+     */
+    boolean cancel();
+
+    boolean isCancelled();
+}
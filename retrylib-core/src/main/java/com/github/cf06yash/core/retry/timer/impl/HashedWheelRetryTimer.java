@@ -0,0 +1,282 @@
+package com.github.cf06yash.core.retry.timer.impl;
+
+import com.github.cf06yash.core.retry.timer.RetryTimer;
+import com.github.cf06yash.core.retry.timer.ScheduledRetry;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Hashed timing wheel for pending retries. {@link #schedule} and {@link ScheduledRetry#cancel()} are O(1):
+ * scheduling appends to a lock-free queue and cancelling is a single CAS. A single worker thread moves new
+ * entries into wheel buckets, advances one bucket per tick, unlinks cancelled entries as it passes them and
+ * hands expired tasks to the task executor, so user code never runs on the wheel thread unless a direct
+ * executor is supplied.
+ * <p>
+ * With the default 1 ms tick a retry fires no earlier than its delay and at most about one tick later.
+ * The worker parks without a timeout while nothing is pending.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class HashedWheelRetryTimer
+        implements RetryTimer, AutoCloseable {
+
+    private static final Logger log = Logger.getLogger(HashedWheelRetryTimer.class.getName());
+    private static final AtomicInteger WORKER_IDS = new AtomicInteger();
+    private static final long DEFAULT_TICK_MILLIS = 1;
+    private static final int DEFAULT_TICKS_PER_WHEEL = 1024;
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private final Executor taskExecutor;
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final long startTime;
+    private final Queue<Entry> newEntries = new ConcurrentLinkedQueue<>();
+    private final LongAdder pending = new LongAdder();
+    private final Thread worker;
+    private volatile boolean running = true;
+    private volatile boolean idle;
+    // worker-local count of entries currently held in buckets
+    private long wheelEntries;
+
+    private HashedWheelRetryTimer(Executor taskExecutor, long tickNanos, int ticksPerWheel) {
+        this.taskExecutor = taskExecutor;
+        this.tickNanos = tickNanos;
+        this.wheel = new Bucket[ticksPerWheel];
+        for (int i = 0; i < ticksPerWheel; i++) {
+            this.wheel[i] = new Bucket();
+        }
+        this.mask = ticksPerWheel - 1;
+        this.startTime = System.nanoTime();
+        this.worker = new Thread(this::runWorker, "retrylib-wheel-timer-" + WORKER_IDS.incrementAndGet());
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    public static HashedWheelRetryTimer of(Executor taskExecutor) {
+        return of(taskExecutor, DEFAULT_TICK_MILLIS, DEFAULT_TICKS_PER_WHEEL);
+    }
+
+    public static HashedWheelRetryTimer of(Executor taskExecutor, long tickMillis, int ticksPerWheel) {
+        if (taskExecutor == null) {
+            throw new IllegalArgumentException("task executor cannot be null");
+        }
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tick duration must be positive");
+        }
+        if (ticksPerWheel <= 0 || Integer.bitCount(ticksPerWheel) != 1) {
+            throw new IllegalArgumentException("ticks per wheel must be a positive power of two");
+        }
+        return new HashedWheelRetryTimer(taskExecutor, TimeUnit.MILLISECONDS.toNanos(tickMillis), ticksPerWheel);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        taskExecutor.execute(task);
+    }
+
+    @Override
+    public ScheduledRetry schedule(Runnable task, long delayMillis) {
+        if (!running) {
+            throw new RejectedExecutionException("timer is closed");
+        }
+        if (delayMillis <= 0) {
+            Entry entry = new Entry(this, task, 0);
+            entry.state = Entry.EXPIRED;
+            taskExecutor.execute(task);
+            return entry;
+        }
+        long deadline = System.nanoTime() - startTime + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+        Entry entry = new Entry(this, task, deadline < 0 ? Long.MAX_VALUE : deadline);
+        pending.increment();
+        newEntries.offer(entry);
+        if (idle) {
+            LockSupport.unpark(worker);
+        }
+        return entry;
+    }
+
+    /**
+     * Number of retries scheduled and neither fired nor cancelled yet.
+     */
+    public long pendingCount() {
+        return pending.sum();
+    }
+
+    /**
+     * Stops the worker. Retries that have not fired yet are dropped.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(worker);
+    }
+
+    private void runWorker() {
+        long tick = 0;
+        while (running) {
+            tick = awaitTick(tick);
+            if (!running) {
+                break;
+            }
+            transferNewEntries(tick);
+            expire(wheel[(int) (tick & mask)]);
+            tick++;
+        }
+        newEntries.clear();
+    }
+
+    /**
+     * Waits until {@code tick} has elapsed. An empty wheel parks until the next schedule call and then
+     * resumes from the current tick, since every tick skipped in between had an empty bucket.
+     */
+    private long awaitTick(long tick) {
+        while (running) {
+            if (wheelEntries == 0 && newEntries.isEmpty()) {
+                idle = true;
+                if (newEntries.isEmpty() && running) {
+                    LockSupport.park(this);
+                }
+                idle = false;
+                tick = Math.max(tick, (System.nanoTime() - startTime) / tickNanos);
+                continue;
+            }
+            long sleepNanos = tickNanos * (tick + 1) - (System.nanoTime() - startTime);
+            if (sleepNanos <= 0) {
+                return tick;
+            }
+            LockSupport.parkNanos(this, sleepNanos);
+        }
+        return tick;
+    }
+
+    private void transferNewEntries(long tick) {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Entry entry = newEntries.poll();
+            if (entry == null) {
+                return;
+            }
+            if (entry.state != Entry.INIT) {
+                continue;
+            }
+            long calculated = entry.deadline / tickNanos;
+            entry.remainingRounds = (calculated - tick) / wheel.length;
+            wheel[(int) (Math.max(calculated, tick) & mask)].add(entry);
+            wheelEntries++;
+        }
+    }
+
+    private void expire(Bucket bucket) {
+        Entry entry = bucket.head;
+        while (entry != null) {
+            Entry next = entry.next;
+            if (entry.state == Entry.CANCELLED) {
+                bucket.remove(entry);
+                wheelEntries--;
+            } else if (entry.remainingRounds <= 0) {
+                bucket.remove(entry);
+                wheelEntries--;
+                if (Entry.STATE.compareAndSet(entry, Entry.INIT, Entry.EXPIRED)) {
+                    pending.decrement();
+                    dispatch(entry.task);
+                }
+            } else {
+                entry.remainingRounds--;
+            }
+            entry = next;
+        }
+    }
+
+    private void dispatch(Runnable task) {
+        try {
+            taskExecutor.execute(task);
+        } catch (Throwable t) {
+            log.log(Level.WARNING, "retry task could not be dispatched", t);
+        }
+    }
+
+    /**
+     * Doubly-linked list of entries; only touched by the worker thread.
+     */
+    private static final class Bucket {
+        private Entry head;
+        private Entry tail;
+
+        void add(Entry entry) {
+            if (head == null) {
+                head = tail = entry;
+            } else {
+                tail.next = entry;
+                entry.prev = tail;
+                tail = entry;
+            }
+        }
+
+        void remove(Entry entry) {
+            Entry next = entry.next;
+            if (entry.prev != null) {
+                entry.prev.next = next;
+            }
+            if (next != null) {
+                next.prev = entry.prev;
+            }
+            if (entry == head) {
+                head = next;
+            }
+            if (entry == tail) {
+                tail = entry.prev;
+            }
+            entry.prev = null;
+            entry.next = null;
+        }
+    }
+
+    private static final class Entry
+            implements ScheduledRetry {
+
+        static final int INIT = 0;
+        static final int CANCELLED = 1;
+        static final int EXPIRED = 2;
+        static final AtomicIntegerFieldUpdater<Entry> STATE = AtomicIntegerFieldUpdater.newUpdater(Entry.class, "state");
+
+        private final HashedWheelRetryTimer timer;
+        private final Runnable task;
+        private final long deadline;
+        private volatile int state = INIT;
+        // fields below are only touched by the worker thread
+        private long remainingRounds;
+        private Entry next;
+        private Entry prev;
+
+        Entry(HashedWheelRetryTimer timer, Runnable task, long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!STATE.compareAndSet(this, INIT, CANCELLED)) {
+                return false;
+            }
+            timer.pending.decrement();
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+    }
+}
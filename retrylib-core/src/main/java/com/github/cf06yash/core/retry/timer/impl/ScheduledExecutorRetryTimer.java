@@ -0,0 +1,52 @@
+package com.github.cf06yash.core.retry.timer.impl;
+
+import com.github.cf06yash.core.retry.timer.RetryTimer;
+import com.github.cf06yash.core.retry.timer.ScheduledRetry;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RetryTimer} backed by a {@link ScheduledExecutorService}; attempts run on the scheduler's threads.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+public class ScheduledExecutorRetryTimer
+        implements RetryTimer {
+
+    private final ScheduledExecutorService scheduler;
+
+    private ScheduledExecutorRetryTimer(ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    public static RetryTimer of(ScheduledExecutorService scheduler) {
+        if (scheduler == null) {
+            throw new IllegalArgumentException("scheduler cannot be null");
+        }
+        return new ScheduledExecutorRetryTimer(scheduler);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        scheduler.execute(task);
+    }
+
+    @Override
+    public ScheduledRetry schedule(Runnable task, long delayMillis) {
+        ScheduledFuture<?> future = scheduler.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+        return new ScheduledRetry() {
+            @Override
+            public boolean cancel() {
+                return future.cancel(false);
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return future.isCancelled();
+            }
+        };
+    }
+}
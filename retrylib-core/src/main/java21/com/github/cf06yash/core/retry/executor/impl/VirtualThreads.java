@@ -0,0 +1,31 @@
+package com.github.cf06yash.core.retry.executor.impl;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Java 21 implementation packaged under {@code META-INF/versions/21} of the multi-release jar.
+ *
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+final class VirtualThreads {
+
+    private static final ThreadFactory FACTORY = Thread.ofVirtual().name("retrylib-virtual-", 0).factory();
+
+    private VirtualThreads() {
+    }
+
+    static boolean isSupported() {
+        return true;
+    }
+
+    static boolean isVirtual(Thread thread) {
+        return thread.isVirtual();
+    }
+
+    static Thread start(Runnable task) {
+        Thread thread = FACTORY.newThread(task);
+        thread.start();
+        return thread;
+    }
+}
@@ -0,0 +1,59 @@
+package com.github.cf06yash.core.backoff.strategy.impl;
+
+import com.github.cf06yash.core.backoff.strategy.BackoffContext;
+import com.github.cf06yash.core.backoff.strategy.BackoffStrategy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+class DecorrelatedJitterBackoffStrategyTest {
+
+    private static final long BASE_DELAY = 100;
+    private static final long MAX_DELAY = 5000;
+    private static final int SAMPLES = 1000;
+
+    @Test
+    void verifyEachDelayDrawsFromPreviousDelay() {
+        BackoffStrategy strategy = DecorrelatedJitterBackoffStrategy.withBaseAndMaxDelayMillis(BASE_DELAY, MAX_DELAY);
+        for (int i = 0; i < SAMPLES; i++) {
+            BackoffContext context = strategy.newContext();
+            long previous = BASE_DELAY;
+            for (int attempt = 1; attempt <= 10; attempt++) {
+                long delay = context.nextDelay(attempt);
+                Assertions.assertTrue(delay >= BASE_DELAY && delay <= Math.min(MAX_DELAY, previous * 3));
+                previous = delay;
+            }
+        }
+    }
+
+    @Test
+    void shouldKeepStatePerContext() {
+        BackoffStrategy strategy = DecorrelatedJitterBackoffStrategy.withBaseAndMaxDelayMillis(BASE_DELAY, MAX_DELAY);
+        BackoffContext first = strategy.newContext();
+        for (int attempt = 1; attempt <= 10; attempt++) {
+            first.nextDelay(attempt);
+        }
+        Assertions.assertNotSame(first, strategy.newContext());
+        for (int i = 0; i < SAMPLES; i++) {
+            Assertions.assertTrue(strategy.newContext().nextDelay(1) <= BASE_DELAY * 3);
+        }
+    }
+
+    @Test
+    void verifyStatelessDelayWithinBounds() {
+        BackoffStrategy strategy = DecorrelatedJitterBackoffStrategy.withBaseAndMaxDelayMillis(BASE_DELAY, MAX_DELAY);
+        for (int i = 0; i < SAMPLES; i++) {
+            long delay = strategy.computeDelay(20);
+            Assertions.assertTrue(delay >= BASE_DELAY && delay <= MAX_DELAY);
+        }
+    }
+
+    @Test
+    void verifyExceptionOnInvalidDelays() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> DecorrelatedJitterBackoffStrategy.withBaseAndMaxDelayMillis(-1, MAX_DELAY));
+    }
+}
@@ -0,0 +1,42 @@
+package com.github.cf06yash.core.backoff.strategy.impl;
+
+import com.github.cf06yash.core.backoff.strategy.BackoffStrategy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+class EqualJitterBackoffStrategyTest {
+
+    private static final long BASE_DELAY = 100;
+    private static final long MAX_DELAY = 1000;
+    private static final int SAMPLES = 1000;
+
+    @Test
+    void verifyDelayKeepsHalfOfCeiling() {
+        BackoffStrategy strategy = EqualJitterBackoffStrategy.withBaseAndMaxDelayMillis(BASE_DELAY, MAX_DELAY);
+        for (int attempt = 1; attempt <= 10; attempt++) {
+            long ceiling = Math.min(MAX_DELAY, BASE_DELAY << (attempt - 1));
+            for (int i = 0; i < SAMPLES; i++) {
+                long delay = strategy.computeDelay(attempt);
+                Assertions.assertTrue(delay >= ceiling / 2 && delay <= ceiling);
+            }
+        }
+    }
+
+    @Test
+    void verifyExceptionOnInvalidDelays() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> EqualJitterBackoffStrategy.withBaseAndMaxDelayMillis(BASE_DELAY, Long.MAX_VALUE));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> EqualJitterBackoffStrategy.withBaseAndMaxDelayMillis(MAX_DELAY, BASE_DELAY));
+    }
+
+    @Test
+    void verifyExceptionOnNegativeAttempt() {
+        BackoffStrategy strategy = EqualJitterBackoffStrategy.withBaseAndMaxDelayMillis(BASE_DELAY, MAX_DELAY);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> strategy.computeDelay(-1));
+    }
+}
@@ -45,6 +45,15 @@ class ExponentialBackoffStrategyTest {
         Assertions.assertEquals(TimeUnit.HOURS.toMillis(1), strategy.computeDelay(100));
     }
 
+    @Test
+    void shouldCapAtConfiguredMaxDelay() {
+        BackoffStrategy strategy = ExponentialBackoffStrategy.withBaseAndMaxDelayMillis(BASE_DELAY, BASE_DELAY * 5);
+        Assertions.assertEquals(BASE_DELAY * 4, strategy.computeDelay(2));
+        Assertions.assertEquals(BASE_DELAY * 5, strategy.computeDelay(3));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ExponentialBackoffStrategy.withBaseAndMaxDelayMillis(BASE_DELAY, BASE_DELAY - 1));
+    }
+
     @Test
     void shouldCapWhenComputedDelayWouldOverflow() {
         BackoffStrategy strategy = ExponentialBackoffStrategy.withBaseDelayMillis(BASE_DELAY);
@@ -0,0 +1,63 @@
+package com.github.cf06yash.core.backoff.strategy.impl;
+
+import com.github.cf06yash.core.backoff.strategy.BackoffStrategy;
+import com.github.cf06yash.core.utils.ConcurrentTestHarness;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+class FullJitterBackoffStrategyTest {
+
+    private static final long BASE_DELAY = 100;
+    private static final long MAX_DELAY = 1000;
+    private static final int SAMPLES = 1000;
+    private static final int HEAVY_THREAD = 100;
+
+    @Test
+    void verifyDelayWithinExponentialCeiling() {
+        BackoffStrategy strategy = FullJitterBackoffStrategy.withBaseAndMaxDelayMillis(BASE_DELAY, MAX_DELAY);
+        for (int attempt = 1; attempt <= 10; attempt++) {
+            long ceiling = Math.min(MAX_DELAY, BASE_DELAY << (attempt - 1));
+            for (int i = 0; i < SAMPLES; i++) {
+                long delay = strategy.computeDelay(attempt);
+                Assertions.assertTrue(delay >= 0 && delay <= ceiling);
+            }
+        }
+    }
+
+    @Test
+    void shouldCapWhenAttemptCountIsTooLarge() {
+        BackoffStrategy strategy = FullJitterBackoffStrategy.withBaseAndMaxDelayMillis(BASE_DELAY, MAX_DELAY);
+        Assertions.assertTrue(strategy.computeDelay(Integer.MAX_VALUE) <= MAX_DELAY);
+    }
+
+    @Test
+    void verifyExceptionOnInvalidDelays() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> FullJitterBackoffStrategy.withBaseAndMaxDelayMillis(0, MAX_DELAY));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> FullJitterBackoffStrategy.withBaseAndMaxDelayMillis(MAX_DELAY, BASE_DELAY));
+    }
+
+    @Test
+    void verifyExceptionOnNegativeAttempt() {
+        BackoffStrategy strategy = FullJitterBackoffStrategy.withBaseAndMaxDelayMillis(BASE_DELAY, MAX_DELAY);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> strategy.computeDelay(-1));
+    }
+
+    @Test
+    void shouldReturnJitterConcurrentlyHeavy()
+            throws ExecutionException, InterruptedException {
+        BackoffStrategy strategy = FullJitterBackoffStrategy.withBaseAndMaxDelayMillis(BASE_DELAY, MAX_DELAY);
+        List<Long> delays = ConcurrentTestHarness.getInstance(HEAVY_THREAD).runParallelWithReturn(() -> strategy.computeDelay(3));
+        Assertions.assertEquals(HEAVY_THREAD, delays.size());
+        for (var delay : delays) {
+            Assertions.assertTrue(delay >= 0 && delay <= BASE_DELAY * 4);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.cf06yash.core.retry.budget.impl;
+
+import com.github.cf06yash.core.retry.budget.RetryBudget;
+import com.github.cf06yash.core.utils.ConcurrentTestHarness;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+class TokenRetryBudgetTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(10);
+    private static final int HEAVY_THREAD = 100;
+
+    private final AtomicLong now = new AtomicLong();
+
+    private RetryBudget budget(double ratio, int minPerSecond) {
+        return new TokenRetryBudget(ratio, minPerSecond, WINDOW, now::get);
+    }
+
+    private static int drain(RetryBudget budget) {
+        int withdrawn = 0;
+        while (budget.tryWithdraw()) {
+            withdrawn++;
+        }
+        return withdrawn;
+    }
+
+    @Test
+    void shouldAllowMinimumRetriesWithoutTraffic() {
+        RetryBudget budget = budget(0.1, 2);
+        Assertions.assertEquals(20, budget.balance());
+        Assertions.assertEquals(20, drain(budget));
+        Assertions.assertFalse(budget.tryWithdraw());
+    }
+
+    @Test
+    void shouldAllowRatioOfDeposits() {
+        RetryBudget budget = budget(0.1, 0);
+        for (int i = 0; i < 100; i++) {
+            budget.deposit();
+        }
+        Assertions.assertEquals(10, drain(budget));
+    }
+
+    @Test
+    void shouldExpireTokensAfterWindow() {
+        RetryBudget budget = budget(0.5, 0);
+        for (int i = 0; i < 10; i++) {
+            budget.deposit();
+        }
+        Assertions.assertEquals(5, budget.balance());
+        now.addAndGet(WINDOW.toNanos() + 1);
+        Assertions.assertEquals(0, budget.balance());
+        Assertions.assertFalse(budget.tryWithdraw());
+    }
+
+    @Test
+    void shouldRestoreMinimumAfterWithdrawalsExpire() {
+        RetryBudget budget = budget(0, 1);
+        Assertions.assertEquals(10, drain(budget));
+        now.addAndGet(WINDOW.toNanos() + 1);
+        Assertions.assertEquals(10, budget.balance());
+    }
+
+    @Test
+    void shouldCountDepositsConcurrently()
+            throws ExecutionException, InterruptedException {
+        RetryBudget budget = budget(1, 0);
+        List<Boolean> ignored = ConcurrentTestHarness.getInstance(HEAVY_THREAD).runParallelWithReturn(() -> {
+            budget.deposit();
+            return true;
+        });
+        Assertions.assertEquals(HEAVY_THREAD, ignored.size());
+        Assertions.assertEquals(HEAVY_THREAD, budget.balance());
+    }
+
+    @Test
+    void verifyExceptionOnInvalidArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> TokenRetryBudget.of(-1, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> TokenRetryBudget.of(0.1, -1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> TokenRetryBudget.of(0.1, 1, Duration.ZERO));
+    }
+}
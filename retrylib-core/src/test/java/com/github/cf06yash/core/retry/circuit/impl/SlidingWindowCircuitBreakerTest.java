@@ -0,0 +1,116 @@
+package com.github.cf06yash.core.retry.circuit.impl;
+
+import com.github.cf06yash.core.retry.circuit.CircuitBreaker;
+import com.github.cf06yash.core.retry.circuit.CircuitBreakerBuilder;
+import com.github.cf06yash.core.utils.ConcurrentTestHarness;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+class SlidingWindowCircuitBreakerTest {
+
+    private static final int WINDOW = 10;
+    private static final int MINIMUM_CALLS = 4;
+    private static final long OPEN_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final int HALF_OPEN_CALLS = 2;
+    private static final int HEAVY_THREAD = 100;
+
+    private final AtomicLong now = new AtomicLong();
+
+    private CircuitBreaker countBased() {
+        return new SlidingWindowCircuitBreaker(50, MINIMUM_CALLS, OPEN_NANOS, HALF_OPEN_CALLS,
+                () -> new CountSlidingWindow(WINDOW), now::get);
+    }
+
+    private static void record(CircuitBreaker breaker, int successes, int failures) {
+        for (int i = 0; i < successes; i++) {
+            breaker.onSuccess();
+        }
+        for (int i = 0; i < failures; i++) {
+            breaker.onFailure();
+        }
+    }
+
+    @Test
+    void shouldStayClosedBelowMinimumCalls() {
+        CircuitBreaker breaker = countBased();
+        record(breaker, 0, MINIMUM_CALLS - 1);
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        Assertions.assertTrue(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    void shouldOpenAtFailureRateThreshold() {
+        CircuitBreaker breaker = countBased();
+        record(breaker, 2, 2);
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        Assertions.assertFalse(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    void shouldForgetOutcomesThatLeftTheWindow() {
+        CircuitBreaker breaker = countBased();
+        record(breaker, 0, 1);
+        record(breaker, WINDOW, 0);
+        record(breaker, 0, 1);
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void shouldCloseAfterSuccessfulTrialCalls() {
+        CircuitBreaker breaker = countBased();
+        record(breaker, 0, MINIMUM_CALLS);
+        now.addAndGet(OPEN_NANOS);
+        Assertions.assertTrue(breaker.tryAcquirePermission());
+        Assertions.assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        Assertions.assertTrue(breaker.tryAcquirePermission());
+        Assertions.assertFalse(breaker.tryAcquirePermission());
+        record(breaker, HALF_OPEN_CALLS, 0);
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void shouldReopenWhenTrialCallFails() {
+        CircuitBreaker breaker = countBased();
+        record(breaker, 0, MINIMUM_CALLS);
+        now.addAndGet(OPEN_NANOS);
+        Assertions.assertTrue(breaker.tryAcquirePermission());
+        breaker.onFailure();
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        Assertions.assertFalse(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    void shouldExpireOutcomesOfTimeBasedWindow() {
+        CircuitBreaker breaker = new SlidingWindowCircuitBreaker(50, MINIMUM_CALLS, OPEN_NANOS, HALF_OPEN_CALLS,
+                () -> new TimeSlidingWindow(2, now::get), now::get);
+        record(breaker, 0, MINIMUM_CALLS - 1);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        breaker.onFailure();
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void shouldCountOutcomesConcurrently()
+            throws InterruptedException {
+        CountSlidingWindow window = new CountSlidingWindow(HEAVY_THREAD * 2);
+        ConcurrentTestHarness.getInstance(HEAVY_THREAD).runParallel(() -> {
+            window.record(true);
+            window.record(false);
+        });
+        Assertions.assertEquals(HEAVY_THREAD * 2, window.calls());
+        Assertions.assertEquals(HEAVY_THREAD, window.failures());
+    }
+
+    @Test
+    void verifyExceptionOnInvalidThreshold() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> CircuitBreakerBuilder.newBuilder().failureRateThreshold(0).build());
+    }
+}
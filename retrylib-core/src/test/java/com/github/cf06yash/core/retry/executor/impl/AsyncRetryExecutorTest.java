@@ -0,0 +1,823 @@
+package com.github.cf06yash.core.retry.executor.impl;
+
+import com.github.cf06yash.core.backoff.strategy.impl.FixedBackoffStrategy;
+import com.github.cf06yash.core.retry.budget.RetryBudget;
+import com.github.cf06yash.core.retry.circuit.CircuitBreaker;
+import com.github.cf06yash.core.retry.circuit.CircuitBreakerBuilder;
+import com.github.cf06yash.core.retry.circuit.CircuitBreakerOpenException;
+import com.github.cf06yash.core.retry.executor.AttemptTimeoutException;
+import com.github.cf06yash.core.retry.executor.IAsyncRetryExecutor;
+import com.github.cf06yash.core.retry.executor.RetryExecutorBuilder;
+import com.github.cf06yash.core.retry.hedge.HedgePolicy;
+import com.github.cf06yash.core.retry.hedge.impl.FixedDelayHedgePolicy;
+import com.github.cf06yash.core.retry.limit.ConcurrencyLimitExceededException;
+import com.github.cf06yash.core.retry.limit.ConcurrencyLimiter;
+import com.github.cf06yash.core.retry.limit.ConcurrencyLimiterBuilder;
+import com.github.cf06yash.core.retry.limit.RetryCapacity;
+import com.github.cf06yash.core.retry.limit.RetryCapacityExceededException;
+import com.github.cf06yash.core.retry.listener.RetryListener;
+import com.github.cf06yash.core.retry.metrics.RetryMetrics;
+import com.github.cf06yash.core.retry.metrics.RetryMetricsSnapshot;
+import com.github.cf06yash.core.retry.metrics.impl.StripedRetryMetrics;
+import com.github.cf06yash.core.retry.policy.RetryPolicyBuilder;
+import com.github.cf06yash.core.retry.ratelimit.RetryRateLimiterBuilder;
+import com.github.cf06yash.core.retry.state.EndpointState;
+import com.github.cf06yash.core.retry.state.EndpointStateStore;
+import com.github.cf06yash.core.retry.state.EndpointStateStoreBuilder;
+import com.github.cf06yash.core.retry.tagging.RetryAfterHint;
+import com.github.cf06yash.core.retry.timer.impl.HashedWheelRetryTimer;
+import com.github.cf06yash.core.utils.ExceptionTestUtils;
+import com.github.cf06yash.core.utils.RetryableExceptionTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+class AsyncRetryExecutorTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long DELAY = 10;
+
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+    private final ExecutorService workers = Executors.newFixedThreadPool(2);
+    private final HashedWheelRetryTimer wheelTimer = HashedWheelRetryTimer.of(workers);
+
+    @AfterEach
+    void tearDown() {
+        wheelTimer.close();
+        workers.shutdownNow();
+        scheduler.shutdownNow();
+    }
+
+    private RetryExecutorBuilder builder() {
+        return RetryExecutorBuilder.newBuilder()
+                                   .retryPolicy(RetryPolicyBuilder.newBuilder().maxAttempts(MAX_ATTEMPTS).build())
+                                   .backoffStrategy(FixedBackoffStrategy.withDelayMillis(DELAY));
+    }
+
+    private static Supplier<String> succeedOnLastAttempt(AtomicInteger calls) {
+        return () -> {
+            if (calls.incrementAndGet() < MAX_ATTEMPTS) {
+                throw (RuntimeException) ExceptionTestUtils.getRetryableException();
+            }
+            return "ok";
+        };
+    }
+
+    @Test
+    void shouldRetryUntilSuccessOnScheduler() {
+        AtomicInteger calls = new AtomicInteger();
+        IAsyncRetryExecutor executor = builder().scheduler(scheduler).buildAsync();
+        Assertions.assertEquals("ok", executor.executeAsync(succeedOnLastAttempt(calls)).join());
+        Assertions.assertEquals(MAX_ATTEMPTS, calls.get());
+    }
+
+    @Test
+    void shouldRetryUntilSuccessOnWheelTimer() {
+        AtomicInteger calls = new AtomicInteger();
+        IAsyncRetryExecutor executor = builder().timer(wheelTimer).buildAsync();
+        Assertions.assertEquals("ok", executor.executeAsync(succeedOnLastAttempt(calls)).join());
+        Assertions.assertEquals(MAX_ATTEMPTS, calls.get());
+    }
+
+    @Test
+    void shouldCompleteExceptionallyWhenExhausted() {
+        IAsyncRetryExecutor executor = builder().timer(wheelTimer).buildAsync();
+        Supplier<String> failing = () -> {
+            throw (RuntimeException) ExceptionTestUtils.getRetryableException();
+        };
+        CompletionException ex = Assertions.assertThrows(CompletionException.class, () -> executor.executeAsync(failing).join());
+        Assertions.assertInstanceOf(RetryableExceptionTest.class, ex.getCause());
+    }
+
+    @Test
+    void shouldCompleteWithFallbackWhenExhausted() {
+        IAsyncRetryExecutor executor = builder().scheduler(scheduler).buildAsync();
+        Supplier<String> failing = () -> {
+            throw (RuntimeException) ExceptionTestUtils.getRetryableException();
+        };
+        Assertions.assertEquals("fallback", executor.executeAsyncWithFallback(failing, () -> "fallback").join());
+    }
+
+    @Test
+    void shouldRetryResultUntilAccepted() {
+        AtomicInteger calls = new AtomicInteger();
+        IAsyncRetryExecutor executor = builder().retryPolicy(RetryPolicyBuilder.newBuilder().maxAttempts(MAX_ATTEMPTS)
+                                                                                .retryOnResult(Integer.class, status -> status == 503).build())
+                                                .scheduler(scheduler).buildAsync();
+        Assertions.assertEquals(200, executor.executeAsync(() -> calls.incrementAndGet() < MAX_ATTEMPTS ? 503 : 200).join());
+        Assertions.assertEquals(MAX_ATTEMPTS, calls.get());
+    }
+
+    @Test
+    void shouldCompleteWithLastResultWhenResultRetriesRunOut() {
+        AtomicInteger calls = new AtomicInteger();
+        IAsyncRetryExecutor executor = builder().retryPolicy(RetryPolicyBuilder.newBuilder().maxAttempts(MAX_ATTEMPTS)
+                                                                                .retryOnResult(Integer.class, status -> status == 503).build())
+                                                .timer(wheelTimer).buildAsync();
+        Assertions.assertEquals(503, executor.executeStageAsync(() -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture(503);
+        }).join());
+        Assertions.assertEquals(MAX_ATTEMPTS, calls.get());
+        Assertions.assertEquals(-1, executor.executeAsyncWithFallback(() -> 503, () -> -1).join());
+    }
+
+    @Test
+    void shouldGiveUpWhenRateLimitSlotIsPastDeadline() {
+        RetryMetrics metrics = StripedRetryMetrics.create();
+        IAsyncRetryExecutor executor = builder().retryPolicy(RetryPolicyBuilder.newBuilder().maxAttempts(MAX_ATTEMPTS)
+                                                                                .timeout(Duration.ofSeconds(1)).build())
+                                                .scheduler(scheduler).metrics(metrics)
+                                                .retryRateLimiter(RetryRateLimiterBuilder.newBuilder()
+                                                                                         .keyExtractor(task -> "partner")
+                                                                                         .limit(1, 1).build())
+                                                .buildAsync();
+        long start = System.nanoTime();
+
+        Assertions.assertEquals("fallback", executor.executeAsyncWithFallback(ALWAYS_FAILING, () -> "fallback").join());
+        Assertions.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+        Assertions.assertEquals(1, metrics.snapshot().getExhaustions());
+        Assertions.assertEquals(0, metrics.snapshot().getRejections());
+    }
+
+    @Test
+    void shouldDelayRetriesPastRateLimit() {
+        IAsyncRetryExecutor executor = builder().scheduler(scheduler)
+                                                .retryRateLimiter(RetryRateLimiterBuilder.newBuilder()
+                                                                                         .keyExtractor(task -> "partner")
+                                                                                         .limit(10, 1).build())
+                                                .buildAsync();
+        List<Long> starts = new CopyOnWriteArrayList<>();
+
+        Assertions.assertEquals("ok", executor.executeAsync(() -> {
+            starts.add(System.nanoTime());
+            if (starts.size() < MAX_ATTEMPTS) {
+                throw (RuntimeException) ExceptionTestUtils.getRetryableException();
+            }
+            return "ok";
+        }).join());
+        // the backoff is 10 ms, the key allows a retry every 100 ms
+        Assertions.assertTrue(TimeUnit.NANOSECONDS.toMillis(starts.get(2) - starts.get(1)) >= 95);
+    }
+
+    @Test
+    void shouldFallBackWhenRateLimitWaitIsTooLong() {
+        RetryMetrics metrics = StripedRetryMetrics.create();
+        IAsyncRetryExecutor executor = builder().scheduler(scheduler).metrics(metrics)
+                                                .retryRateLimiter(RetryRateLimiterBuilder.newBuilder()
+                                                                                         .keyExtractor(task -> "partner")
+                                                                                         .limit(1, 1)
+                                                                                         .maxWait(Duration.ZERO).build())
+                                                .buildAsync();
+
+        Assertions.assertEquals("fallback", executor.executeAsyncWithFallback(ALWAYS_FAILING, () -> "fallback").join());
+        Assertions.assertEquals(1, metrics.snapshot().getRejections());
+        Assertions.assertEquals(MAX_ATTEMPTS - 1, metrics.snapshot().getAttempts());
+    }
+
+    @Test
+    void shouldRecordAttemptsInEndpointState() {
+        EndpointStateStore states = EndpointStateStoreBuilder.newBuilder().keyExtractor(task -> "payments").build();
+        IAsyncRetryExecutor executor = builder().scheduler(scheduler).endpointStates(states).buildAsync();
+        AtomicInteger calls = new AtomicInteger();
+
+        Assertions.assertEquals("ok", executor.executeAsync(succeedOnLastAttempt(calls)).join());
+
+        EndpointState state = states.get("payments");
+        // two failures then a success, each weighted by 1/8
+        Assertions.assertEquals(0.125 + 0.875 * 0.125 - 0.125 * (0.125 + 0.875 * 0.125), state.getErrorRate(), 1e-9);
+        Assertions.assertTrue(state.getLatencyNanos() > 0);
+        Assertions.assertEquals(1, states.size());
+    }
+
+    private record Throttled(long retryAfterMillis) implements RetryAfterHint {
+        @Override
+        public long getRetryAfterMillis() {
+            return retryAfterMillis;
+        }
+    }
+
+    @Test
+    void shouldHoldEndpointForRetryAfterCarriedByResult() {
+        EndpointStateStore states = EndpointStateStoreBuilder.newBuilder().keyExtractor(task -> "partner").build();
+        IAsyncRetryExecutor executor = builder().retryPolicy(RetryPolicyBuilder.newBuilder().maxAttempts(MAX_ATTEMPTS)
+                                                                                .retryOnResult(Throttled.class, throttled -> true).build())
+                                                .scheduler(scheduler).endpointStates(states).buildAsync();
+        AtomicInteger calls = new AtomicInteger();
+        long start = System.nanoTime();
+
+        CompletableFuture<Object> throttled = executor.executeAsync(() -> calls.incrementAndGet() == 1 ? new Throttled(200) : "ok");
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            while (states.get("partner") == null || states.get("partner").getPauseRemainingMillis() == 0) {
+                Thread.onSpinWait();
+            }
+        });
+        AtomicInteger otherCalls = new AtomicInteger();
+        CompletableFuture<Long> other = executor.executeAsync(() -> {
+            if (otherCalls.incrementAndGet() == 1) {
+                throw (RuntimeException) ExceptionTestUtils.getRetryableException();
+            }
+            return System.nanoTime();
+        });
+
+        Assertions.assertEquals("ok", throttled.join());
+        // the other caller's 10 ms backoff is held until the server's 200 ms pass
+        Assertions.assertTrue(other.join() - start >= TimeUnit.MILLISECONDS.toNanos(200));
+        Assertions.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(200));
+        Assertions.assertEquals(2, calls.get());
+    }
+
+    private IAsyncRetryExecutor slowRetrying(RetryCapacity capacity) {
+        return builder().backoffStrategy(FixedBackoffStrategy.withDelayMillis(60_000)).scheduler(scheduler)
+                        .retryCapacity(capacity).buildAsync();
+    }
+
+    private static final Supplier<String> ALWAYS_FAILING = () -> {
+        throw (RuntimeException) ExceptionTestUtils.getRetryableException();
+    };
+
+    @Test
+    void shouldShedRetriesBeyondCapacityToFallback() {
+        RetryCapacity capacity = RetryCapacity.of(1, RetryCapacity.Overflow.SHED);
+        IAsyncRetryExecutor executor = slowRetrying(capacity);
+
+        CompletableFuture<String> retrying = executor.executeAsyncWithFallback(ALWAYS_FAILING, () -> "first");
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            while (capacity.getDepth() < 1) {
+                Thread.onSpinWait();
+            }
+        });
+        Assertions.assertEquals("shed", executor.executeAsyncWithFallback(ALWAYS_FAILING, () -> "shed").join());
+        CompletionException ex = Assertions.assertThrows(CompletionException.class, () -> executor.executeAsync(ALWAYS_FAILING).join());
+
+        Assertions.assertInstanceOf(RetryableExceptionTest.class, ex.getCause());
+        Assertions.assertFalse(retrying.isDone());
+        Assertions.assertEquals(1, capacity.getDepth());
+        Assertions.assertEquals(2, capacity.getOverflowed());
+        retrying.cancel(false);
+        Assertions.assertEquals(0, capacity.getDepth());
+    }
+
+    @Test
+    void shouldRejectRetriesBeyondCapacity() {
+        RetryCapacity capacity = RetryCapacity.of(1, RetryCapacity.Overflow.REJECT);
+        IAsyncRetryExecutor executor = slowRetrying(capacity);
+
+        executor.executeAsync(ALWAYS_FAILING);
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            while (capacity.getDepth() < 1) {
+                Thread.onSpinWait();
+            }
+        });
+        CompletionException ex = Assertions.assertThrows(CompletionException.class,
+                () -> executor.executeAsyncWithFallback(ALWAYS_FAILING, () -> "fallback").join());
+
+        Assertions.assertInstanceOf(RetryCapacityExceededException.class, ex.getCause());
+        Assertions.assertInstanceOf(RetryableExceptionTest.class, ex.getCause().getCause());
+    }
+
+    @Test
+    void shouldDropOldestRetryingCallForNewOne() {
+        RetryCapacity capacity = RetryCapacity.of(1, RetryCapacity.Overflow.DROP_OLDEST);
+        IAsyncRetryExecutor executor = slowRetrying(capacity);
+
+        CompletableFuture<String> oldest = executor.executeAsyncWithFallback(ALWAYS_FAILING, () -> "dropped");
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            while (capacity.getDepth() < 1) {
+                Thread.onSpinWait();
+            }
+        });
+        CompletableFuture<String> newest = executor.executeAsyncWithFallback(ALWAYS_FAILING, () -> "newest");
+
+        Assertions.assertEquals("dropped", oldest.join());
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            while (capacity.getDepth() < 1) {
+                Thread.onSpinWait();
+            }
+        });
+        Assertions.assertFalse(newest.isDone());
+        Assertions.assertEquals(1, capacity.getOverflowed());
+    }
+
+    @Test
+    void shouldRunFirstAttemptOnCallerWhenInline() {
+        IAsyncRetryExecutor executor = builder().scheduler(scheduler).inlineFirstAttempt(true).buildAsync();
+        Thread caller = Thread.currentThread();
+        Assertions.assertEquals(caller, executor.executeAsync(Thread::currentThread).join());
+    }
+
+    @Test
+    void shouldRunEveryAttemptOnTaskExecutor() {
+        ExecutorService attempts = Executors.newFixedThreadPool(2, r -> new Thread(r, "attempt-worker"));
+        try {
+            List<String> threads = new CopyOnWriteArrayList<>();
+            AtomicInteger calls = new AtomicInteger();
+            Supplier<String> recordingTask = succeedOnLastAttempt(calls);
+            IAsyncRetryExecutor executor = builder().scheduler(scheduler).taskExecutor(attempts).buildAsync();
+            executor.executeAsync(() -> {
+                threads.add(Thread.currentThread().getName());
+                return recordingTask.get();
+            }).join();
+            Assertions.assertEquals(List.of("attempt-worker", "attempt-worker", "attempt-worker"), threads);
+        } finally {
+            attempts.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldRetryFailedStagesUntilSuccess() {
+        AtomicInteger calls = new AtomicInteger();
+        IAsyncRetryExecutor executor = builder().timer(wheelTimer).buildAsync();
+        CompletableFuture<String> result = executor.executeStageAsync(() -> calls.incrementAndGet() < MAX_ATTEMPTS
+                ? CompletableFuture.failedFuture(ExceptionTestUtils.getRetryableException())
+                : CompletableFuture.completedFuture("ok"));
+        Assertions.assertEquals("ok", result.join());
+        Assertions.assertEquals(MAX_ATTEMPTS, calls.get());
+    }
+
+    @Test
+    void shouldNotRetryStageFailingWithNonRetryableCause() {
+        AtomicInteger calls = new AtomicInteger();
+        IAsyncRetryExecutor executor = builder().scheduler(scheduler).buildAsync();
+        Supplier<CompletionStage<String>> task = () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.supplyAsync(() -> {
+                throw (RuntimeException) ExceptionTestUtils.getNonRetryableException();
+            });
+        };
+        Assertions.assertEquals("fallback", executor.executeStageAsyncWithFallback(task, () -> "fallback").join());
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    void shouldNotHoldThreadWhileStageIsPending() {
+        CompletableFuture<String> pendingIo = new CompletableFuture<>();
+        IAsyncRetryExecutor executor = builder().scheduler(scheduler).inlineFirstAttempt(true).buildAsync();
+        CompletableFuture<String> result = executor.executeStageAsync(() -> pendingIo);
+        Assertions.assertFalse(result.isDone());
+        pendingIo.complete("ok");
+        Assertions.assertEquals("ok", result.join());
+    }
+
+    @Test
+    void shouldRetryWhenSupplierThrowsBeforeReturningStage() {
+        AtomicInteger calls = new AtomicInteger();
+        IAsyncRetryExecutor executor = builder().scheduler(scheduler).buildAsync();
+        CompletableFuture<String> result = executor.executeStageAsync(() -> {
+            if (calls.incrementAndGet() < MAX_ATTEMPTS) {
+                throw (RuntimeException) ExceptionTestUtils.getRetryableException();
+            }
+            return CompletableFuture.completedFuture("ok");
+        });
+        Assertions.assertEquals("ok", result.join());
+    }
+
+    @Test
+    void shouldFailFastWhileCircuitIsOpen() {
+        CircuitBreaker breaker = CircuitBreakerBuilder.newBuilder().minimumCalls(1).waitInOpenState(Duration.ofMinutes(1)).build();
+        IAsyncRetryExecutor executor = RetryExecutorBuilder.newBuilder()
+                                                           .retryPolicy(RetryPolicyBuilder.newBuilder().maxAttempts(MAX_ATTEMPTS).build())
+                                                           .backoffStrategy(FixedBackoffStrategy.withDelayMillis(Duration.ofMinutes(1).toMillis()))
+                                                           .scheduler(scheduler).circuitBreaker(breaker).buildAsync();
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<String> failing = () -> {
+            calls.incrementAndGet();
+            throw (RuntimeException) ExceptionTestUtils.getRetryableException();
+        };
+
+        Assertions.assertEquals("fallback", executor.executeAsyncWithFallback(failing, () -> "fallback").join());
+        CompletionException ex = Assertions.assertThrows(CompletionException.class, () -> executor.executeAsync(failing).join());
+        Assertions.assertInstanceOf(CircuitBreakerOpenException.class, ex.getCause());
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    void shouldRejectWhenConcurrencyLimitIsReached() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiterBuilder.newBuilder().initialLimit(1).maxLimit(1).build();
+        IAsyncRetryExecutor executor = builder().scheduler(scheduler).concurrencyLimiter(limiter).buildAsync();
+        Assertions.assertTrue(limiter.tryAcquire());
+
+        CompletionException ex = Assertions.assertThrows(CompletionException.class, () -> executor.executeAsync(() -> "ok").join());
+        Assertions.assertInstanceOf(ConcurrencyLimitExceededException.class, ex.getCause());
+    }
+
+    @Test
+    void shouldFailCallAndReleasePermitWhenAttemptThrowsError() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiterBuilder.newBuilder().initialLimit(1).maxLimit(1).build();
+        CircuitBreaker breaker = CircuitBreakerBuilder.newBuilder().minimumCalls(1).waitInOpenState(Duration.ofMinutes(1)).build();
+        IAsyncRetryExecutor executor = builder().scheduler(scheduler).concurrencyLimiter(limiter).circuitBreaker(breaker).buildAsync();
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<String> future = executor.executeAsync(() -> {
+            calls.incrementAndGet();
+            throw new LinkageError("boom");
+        });
+        ExecutionException ex = Assertions.assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(LinkageError.class, ex.getCause());
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertEquals(0, limiter.getInFlight());
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void shouldGiveEndpointTrialPermitBackWhenSharedBreakerRefuses() {
+        CircuitBreaker shared = CircuitBreakerBuilder.newBuilder().minimumCalls(1).waitInOpenState(Duration.ZERO)
+                                                     .permittedCallsInHalfOpenState(1).build();
+        EndpointStateStore states = EndpointStateStoreBuilder.newBuilder()
+                                                             .keyExtractor(task -> "partner")
+                                                             .circuitBreaker(() -> CircuitBreakerBuilder.newBuilder().minimumCalls(1)
+                                                                                                        .waitInOpenState(Duration.ZERO)
+                                                                                                        .permittedCallsInHalfOpenState(1)
+                                                                                                        .build())
+                                                             .build();
+        IAsyncRetryExecutor executor = builder().scheduler(scheduler).circuitBreaker(shared).endpointStates(states).buildAsync();
+        Assertions.assertEquals("fallback", executor.executeAsyncWithFallback(ALWAYS_FAILING, () -> "fallback").join());
+        // another caller holds the shared breaker's only trial permit
+        Assertions.assertTrue(shared.tryAcquirePermission());
+
+        CompletionException ex = Assertions.assertThrows(CompletionException.class, () -> executor.executeAsync(() -> "ok").join());
+        Assertions.assertInstanceOf(CircuitBreakerOpenException.class, ex.getCause());
+        shared.onSuccess();
+
+        Assertions.assertEquals("ok", executor.executeAsync(() -> "ok").join());
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, states.get("partner").getCircuitBreaker().getState());
+    }
+
+    @Test
+    void shouldQueueAttemptUntilPermitIsReleased() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiterBuilder.newBuilder().initialLimit(1).maxLimit(1).maxQueued(1).build();
+        IAsyncRetryExecutor executor = builder().scheduler(scheduler).inlineFirstAttempt(true).concurrencyLimiter(limiter).buildAsync();
+        Assertions.assertTrue(limiter.tryAcquire());
+
+        CompletableFuture<String> future = executor.executeAsync(() -> "ok");
+        Assertions.assertFalse(future.isDone());
+        limiter.onIgnore();
+        Assertions.assertEquals("ok", future.join());
+        Assertions.assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void shouldCutBackoffToDeadline() {
+        IAsyncRetryExecutor executor = RetryExecutorBuilder.newBuilder()
+                                                           .retryPolicy(RetryPolicyBuilder.newBuilder().maxAttempts(5)
+                                                                                          .timeout(Duration.ofMillis(200)).build())
+                                                           .backoffStrategy(FixedBackoffStrategy.withDelayMillis(
+                                                                   Duration.ofSeconds(10).toMillis()))
+                                                           .scheduler(scheduler).buildAsync();
+        AtomicInteger calls = new AtomicInteger();
+        long start = System.nanoTime();
+
+        String result = executor.executeAsyncWithFallback(() -> {
+            calls.incrementAndGet();
+            throw (RuntimeException) ExceptionTestUtils.getRetryableException();
+        }, () -> "fallback").join();
+
+        Assertions.assertEquals("fallback", result);
+        Assertions.assertTrue(calls.get() >= 2);
+        Assertions.assertTrue(System.nanoTime() - start < Duration.ofSeconds(2).toNanos());
+    }
+
+    @Test
+    void shouldInterruptHungAttemptAndRetry() {
+        IAsyncRetryExecutor executor = builder().scheduler(scheduler).taskExecutor(workers).attemptTimeout(Duration.ofMillis(50))
+                                                .buildAsync();
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<Boolean> interrupted = new CompletableFuture<>();
+
+        String result = executor.executeAsync(() -> {
+            if (calls.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(Duration.ofMinutes(1).toMillis());
+                } catch (InterruptedException e) {
+                    interrupted.complete(true);
+                }
+                return "late";
+            }
+            return "ok";
+        }).join();
+
+        Assertions.assertEquals("ok", result);
+        Assertions.assertTrue(interrupted.join());
+        Assertions.assertEquals(2, calls.get());
+    }
+
+    @Test
+    void shouldCancelHungStageAndRetry() {
+        IAsyncRetryExecutor executor = builder().scheduler(scheduler).attemptTimeout(Duration.ofMillis(50)).buildAsync();
+        List<CompletableFuture<String>> stages = new CopyOnWriteArrayList<>();
+
+        String result = executor.executeStageAsync(() -> {
+            CompletableFuture<String> stage = stages.isEmpty() ? new CompletableFuture<>() : CompletableFuture.completedFuture("ok");
+            stages.add(stage);
+            return stage;
+        }).join();
+
+        Assertions.assertEquals("ok", result);
+        Assertions.assertTrue(stages.get(0).isCancelled());
+    }
+
+    @Test
+    void shouldFailWithAttemptTimeoutWhenEveryAttemptHangs() {
+        IAsyncRetryExecutor executor = builder().scheduler(scheduler).attemptTimeout(Duration.ofMillis(20)).buildAsync();
+
+        CompletionException ex = Assertions.assertThrows(CompletionException.class,
+                () -> executor.executeStageAsync(CompletableFuture<String>::new).join());
+        Assertions.assertInstanceOf(AttemptTimeoutException.class, ex.getCause());
+    }
+
+    @Test
+    void shouldHedgeSlowAttemptAndInterruptLoser() {
+        IAsyncRetryExecutor executor = builder().scheduler(scheduler).taskExecutor(workers)
+                                                .hedgePolicy(FixedDelayHedgePolicy.of(Duration.ofMillis(20))).buildAsync();
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<Boolean> interrupted = new CompletableFuture<>();
+
+        String result = executor.executeAsync(() -> {
+            if (calls.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(Duration.ofMinutes(1).toMillis());
+                } catch (InterruptedException e) {
+                    interrupted.complete(true);
+                }
+                return "late";
+            }
+            return "hedge";
+        }).join();
+
+        Assertions.assertEquals("hedge", result);
+        Assertions.assertTrue(interrupted.join());
+        Assertions.assertEquals(2, calls.get());
+    }
+
+    @Test
+    void shouldHedgeSlowStageAndCancelLoser() {
+        IAsyncRetryExecutor executor = builder().scheduler(scheduler).hedgePolicy(FixedDelayHedgePolicy.of(Duration.ofMillis(20)))
+                                                .buildAsync();
+        List<CompletableFuture<String>> stages = new CopyOnWriteArrayList<>();
+
+        String result = executor.executeStageAsync(() -> {
+            CompletableFuture<String> stage = stages.isEmpty() ? new CompletableFuture<>() : CompletableFuture.completedFuture("hedge");
+            stages.add(stage);
+            return stage;
+        }).join();
+
+        Assertions.assertEquals("hedge", result);
+        Assertions.assertTrue(stages.get(0).isCancelled());
+    }
+
+    @Test
+    void shouldNotHedgeBeyondMaxAttempts()
+            throws InterruptedException {
+        IAsyncRetryExecutor executor = builder().scheduler(scheduler).hedgePolicy(FixedDelayHedgePolicy.of(Duration.ofMillis(5)))
+                                                .buildAsync();
+        List<CompletableFuture<String>> stages = new CopyOnWriteArrayList<>();
+
+        CompletableFuture<String> result = executor.executeStageAsync(() -> {
+            CompletableFuture<String> stage = new CompletableFuture<>();
+            stages.add(stage);
+            return stage;
+        });
+        Thread.sleep(200);
+
+        Assertions.assertEquals(MAX_ATTEMPTS, stages.size());
+        Assertions.assertFalse(result.isDone());
+        stages.get(0).complete("first");
+        Assertions.assertEquals("first", result.join());
+        Assertions.assertTrue(stages.get(MAX_ATTEMPTS - 1).isCancelled());
+    }
+
+    @Test
+    void shouldKeepWaitingForSlowAttemptWhenHedgeFails() {
+        IAsyncRetryExecutor executor = builder().scheduler(scheduler).hedgePolicy(FixedDelayHedgePolicy.of(Duration.ofMillis(20)))
+                                                .buildAsync();
+        CompletableFuture<String> slow = new CompletableFuture<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<String> result = executor.executeStageAsync(() -> {
+            if (calls.incrementAndGet() == 1) {
+                scheduler.schedule(() -> slow.complete("slow"), 100, TimeUnit.MILLISECONDS);
+                return slow;
+            }
+            return CompletableFuture.failedFuture(ExceptionTestUtils.getRetryableException());
+        });
+
+        Assertions.assertEquals("slow", result.join());
+    }
+
+    @Test
+    void shouldNotHedgeAgainstHalfOpenEndpoint() {
+        EndpointStateStore states = EndpointStateStoreBuilder.newBuilder()
+                                                             .keyExtractor(task -> "partner")
+                                                             .circuitBreaker(() -> CircuitBreakerBuilder.newBuilder().minimumCalls(1)
+                                                                                                        .waitInOpenState(Duration.ZERO)
+                                                                                                        .permittedCallsInHalfOpenState(1)
+                                                                                                        .build())
+                                                             .build();
+        IAsyncRetryExecutor executor = builder().scheduler(scheduler).endpointStates(states)
+                                                .hedgePolicy(FixedDelayHedgePolicy.of(Duration.ofMillis(20))).buildAsync();
+        Assertions.assertEquals("fallback", executor.executeAsyncWithFallback(ALWAYS_FAILING, () -> "fallback").join());
+        List<CompletableFuture<String>> stages = new CopyOnWriteArrayList<>();
+
+        // the slow trial attempt holds the endpoint's only permit while the hedge timer fires
+        String result = executor.executeStageAsync(() -> {
+            CompletableFuture<String> stage = new CompletableFuture<>();
+            stages.add(stage);
+            scheduler.schedule(() -> stage.complete("slow"), 200, TimeUnit.MILLISECONDS);
+            return stage;
+        }).join();
+
+        Assertions.assertEquals("slow", result);
+        Assertions.assertEquals(1, stages.size());
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, states.get("partner").getCircuitBreaker().getState());
+    }
+
+    @Test
+    void shouldKeepSlowAttemptWhenSharedBreakerRefusesHedge() {
+        // reads closed but has no permission left, as a breaker that opened after the hedge timer looked at it
+        AtomicInteger permissions = new AtomicInteger(1);
+        CircuitBreaker breaker = new CircuitBreaker() {
+            @Override
+            public boolean tryAcquirePermission() {
+                return permissions.getAndDecrement() > 0;
+            }
+
+            @Override
+            public void onSuccess() {
+            }
+
+            @Override
+            public void onFailure() {
+            }
+
+            @Override
+            public State getState() {
+                return State.CLOSED;
+            }
+        };
+        IAsyncRetryExecutor executor = builder().scheduler(scheduler).circuitBreaker(breaker)
+                                                .hedgePolicy(FixedDelayHedgePolicy.of(Duration.ofMillis(20))).buildAsync();
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = executor.executeStageAsync(() -> {
+            calls.incrementAndGet();
+            CompletableFuture<String> stage = new CompletableFuture<>();
+            scheduler.schedule(() -> stage.complete("slow"), 200, TimeUnit.MILLISECONDS);
+            return stage;
+        }).join();
+
+        Assertions.assertEquals("slow", result);
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    void shouldNotHedgeWhenRetryBudgetIsSpent()
+            throws InterruptedException {
+        RetryBudget spent = new RetryBudget() {
+            @Override
+            public void deposit() {
+            }
+
+            @Override
+            public boolean tryWithdraw() {
+                return false;
+            }
+
+            @Override
+            public long balance() {
+                return 0;
+            }
+        };
+        IAsyncRetryExecutor executor = RetryExecutorBuilder.newBuilder()
+                                                           .retryPolicy(RetryPolicyBuilder.newBuilder().maxAttempts(MAX_ATTEMPTS)
+                                                                                          .retryBudget(spent).build())
+                                                           .backoffStrategy(FixedBackoffStrategy.withDelayMillis(DELAY))
+                                                           .scheduler(scheduler)
+                                                           .hedgePolicy(FixedDelayHedgePolicy.of(Duration.ofMillis(5)))
+                                                           .buildAsync();
+        List<CompletableFuture<String>> stages = new CopyOnWriteArrayList<>();
+
+        CompletableFuture<String> result = executor.executeStageAsync(() -> {
+            CompletableFuture<String> stage = new CompletableFuture<>();
+            stages.add(stage);
+            return stage;
+        });
+        Thread.sleep(100);
+
+        Assertions.assertEquals(1, stages.size());
+        stages.get(0).complete("first");
+        Assertions.assertEquals("first", result.join());
+    }
+
+    @Test
+    void shouldReportCancelledLoserLatencyToHedgePolicy() {
+        List<Long> latencies = new CopyOnWriteArrayList<>();
+        HedgePolicy recording = new HedgePolicy() {
+            @Override
+            public long hedgeDelayMillis() {
+                return 20;
+            }
+
+            @Override
+            public void onAttemptCompleted(long latencyNanos) {
+                latencies.add(latencyNanos);
+            }
+        };
+        IAsyncRetryExecutor executor = builder().scheduler(scheduler).hedgePolicy(recording).buildAsync();
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = executor.executeStageAsync(() -> calls.incrementAndGet() == 1
+                ? new CompletableFuture<String>()
+                : CompletableFuture.completedFuture("hedge")).join();
+
+        Assertions.assertEquals("hedge", result);
+        Assertions.assertEquals(2, latencies.size());
+        Assertions.assertTrue(latencies.stream().anyMatch(latency -> latency >= TimeUnit.MILLISECONDS.toNanos(20)));
+    }
+
+    @Test
+    void shouldGiveUpWhenEndpointPauseOutlastsDeadline() {
+        EndpointStateStore states = EndpointStateStoreBuilder.newBuilder().keyExtractor(task -> "partner").build();
+        List<String> events = new CopyOnWriteArrayList<>();
+        RetryListener listener = new RetryListener() {
+            @Override
+            public void onRetry(int attempt, Exception lastException, long delayMillis) {
+                // another caller is told to back off while this one waits out its backoff
+                states.get("partner").pauseFor(Duration.ofSeconds(30).toMillis());
+                events.add("retry-" + attempt);
+            }
+
+            @Override
+            public void onExhausted(int attempt, Exception lastException) {
+                events.add("exhausted-" + attempt);
+            }
+        };
+        RetryMetrics metrics = StripedRetryMetrics.create();
+        IAsyncRetryExecutor executor = builder().retryPolicy(RetryPolicyBuilder.newBuilder().maxAttempts(MAX_ATTEMPTS)
+                                                                                .timeout(Duration.ofSeconds(1)).build())
+                                                .scheduler(scheduler).retryListener(listener).metrics(metrics)
+                                                .endpointStates(states).buildAsync();
+        long start = System.nanoTime();
+
+        Assertions.assertEquals("fallback", executor.executeAsyncWithFallback(ALWAYS_FAILING, () -> "fallback").join());
+        Assertions.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+        Assertions.assertEquals(List.of("retry-1", "exhausted-1"), events);
+        Assertions.assertEquals(1, metrics.snapshot().getExhaustions());
+    }
+
+    @Test
+    void shouldRecordMetrics() {
+        RetryMetrics metrics = StripedRetryMetrics.create();
+        IAsyncRetryExecutor executor = builder().scheduler(scheduler).metrics(metrics).buildAsync();
+        AtomicInteger calls = new AtomicInteger();
+
+        Assertions.assertEquals("ok", executor.executeAsync(succeedOnLastAttempt(calls)).join());
+        Assertions.assertEquals("fallback", executor.executeStageAsyncWithFallback(
+                () -> CompletableFuture.<String>failedFuture(ExceptionTestUtils.getRetryableException()), () -> "fallback").join());
+
+        RetryMetricsSnapshot snapshot = metrics.snapshot();
+        Assertions.assertEquals(2, snapshot.getCalls());
+        Assertions.assertEquals(2 * MAX_ATTEMPTS, snapshot.getAttempts());
+        Assertions.assertEquals(2 * (MAX_ATTEMPTS - 1), snapshot.getRetries());
+        Assertions.assertEquals(1, snapshot.getSuccesses());
+        Assertions.assertEquals(1, snapshot.getExhaustions());
+        Assertions.assertEquals(1, snapshot.getFallbacks());
+        Assertions.assertEquals(2 * MAX_ATTEMPTS - 1, snapshot.getFailuresByType().get(RetryableExceptionTest.class));
+        Assertions.assertEquals(DELAY, snapshot.getBackoffDelayMillis().getMax());
+        Assertions.assertEquals(2, snapshot.getCallLatencyNanos().getCount());
+    }
+
+    @Test
+    void shouldCountRejectionWhileCircuitIsOpen() {
+        RetryMetrics metrics = StripedRetryMetrics.create();
+        CircuitBreaker breaker = CircuitBreakerBuilder.newBuilder().minimumCalls(1).waitInOpenState(Duration.ofMinutes(1)).build();
+        breaker.onFailure();
+        IAsyncRetryExecutor executor = builder().scheduler(scheduler).circuitBreaker(breaker).metrics(metrics).buildAsync();
+
+        Assertions.assertThrows(CompletionException.class, () -> executor.executeAsync(() -> "ok").join());
+        Assertions.assertEquals(1, metrics.snapshot().getRejections());
+        Assertions.assertEquals(0, metrics.snapshot().getAttempts());
+    }
+
+    @Test
+    void verifyExceptionWhenNoSchedulerOrTimer() {
+        Assertions.assertThrows(IllegalStateException.class, () -> builder().buildAsync());
+    }
+}
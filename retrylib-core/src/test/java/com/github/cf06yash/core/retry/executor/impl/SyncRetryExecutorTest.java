@@ -0,0 +1,751 @@
+package com.github.cf06yash.core.retry.executor.impl;
+
+import com.github.cf06yash.core.backoff.strategy.BackoffStrategy;
+import com.github.cf06yash.core.backoff.strategy.impl.FixedBackoffStrategy;
+import com.github.cf06yash.core.backoff.strategy.impl.NoDelayBackoffStrategy;
+import com.github.cf06yash.core.retry.batch.BatchFunction;
+import com.github.cf06yash.core.retry.batch.BatchResult;
+import com.github.cf06yash.core.retry.batch.ItemOutcome;
+import com.github.cf06yash.core.retry.budget.RetryBudget;
+import com.github.cf06yash.core.retry.budget.impl.TokenRetryBudget;
+import com.github.cf06yash.core.retry.circuit.CircuitBreaker;
+import com.github.cf06yash.core.retry.circuit.CircuitBreakerBuilder;
+import com.github.cf06yash.core.retry.circuit.CircuitBreakerOpenException;
+import com.github.cf06yash.core.retry.executor.AttemptTimeoutException;
+import com.github.cf06yash.core.retry.executor.IRetryExecutor;
+import com.github.cf06yash.core.retry.executor.RetryExecutorBuilder;
+import com.github.cf06yash.core.retry.limit.ConcurrencyLimiter;
+import com.github.cf06yash.core.retry.limit.ConcurrencyLimiterBuilder;
+import com.github.cf06yash.core.retry.listener.RetryListener;
+import com.github.cf06yash.core.retry.listener.impl.NoOpRetryListener;
+import com.github.cf06yash.core.retry.metrics.RetryMetrics;
+import com.github.cf06yash.core.retry.metrics.RetryMetricsSnapshot;
+import com.github.cf06yash.core.retry.metrics.impl.StripedRetryMetrics;
+import com.github.cf06yash.core.retry.policy.RetryPolicy;
+import com.github.cf06yash.core.retry.policy.RetryPolicyBuilder;
+import com.github.cf06yash.core.retry.ratelimit.RetryRateLimiterBuilder;
+import com.github.cf06yash.core.retry.state.EndpointStateStore;
+import com.github.cf06yash.core.retry.state.EndpointStateStoreBuilder;
+import com.github.cf06yash.core.retry.state.EndpointTask;
+import com.github.cf06yash.core.retry.tagging.RetryAfterException;
+import com.github.cf06yash.core.utils.ExceptionTestUtils;
+import com.github.cf06yash.core.utils.NonRetryableExceptionTest;
+import com.github.cf06yash.core.utils.RetryableExceptionTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+class SyncRetryExecutorTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final int WARMUP_CALLS = 20_000;
+    private static final int MEASURED_CALLS = 10_000;
+    private static final Duration STEADY_TIMEOUT = Duration.ofSeconds(10);
+    private static final Callable<String> SUCCESS = () -> "ok";
+    private static final Supplier<String> FALLBACK = () -> "fallback";
+
+    private static RetryExecutorBuilder quiet(RetryPolicy retryPolicy, BackoffStrategy backoffStrategy) {
+        return RetryExecutorBuilder.newBuilder().retryPolicy(retryPolicy).backoffStrategy(backoffStrategy)
+                                   .retryListener(NoOpRetryListener.get());
+    }
+
+    private static IRetryExecutor executor(RetryListener listener) {
+        return RetryExecutorBuilder.newBuilder()
+                                   .retryPolicy(RetryPolicyBuilder.newBuilder().maxAttempts(MAX_ATTEMPTS).build())
+                                   .backoffStrategy(NoDelayBackoffStrategy.get())
+                                   .retryListener(listener).build();
+    }
+
+    @Test
+    void shouldRetryUntilSuccess()
+            throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        String result = executor(NoOpRetryListener.get()).execute(() -> {
+            if (calls.incrementAndGet() < MAX_ATTEMPTS) {
+                throw ExceptionTestUtils.getRetryableException();
+            }
+            return "ok";
+        });
+        Assertions.assertEquals("ok", result);
+        Assertions.assertEquals(MAX_ATTEMPTS, calls.get());
+    }
+
+    @Test
+    void shouldReturnFallbackWhenExhausted()
+            throws Exception {
+        Callable<String> failing = () -> {
+            throw ExceptionTestUtils.getRetryableException();
+        };
+        Assertions.assertEquals("fallback", executor(NoOpRetryListener.get()).executeWithFallback(failing, FALLBACK));
+    }
+
+    @Test
+    void shouldRunRunnableFallbackAndRethrow() {
+        AtomicInteger fallbackRuns = new AtomicInteger();
+        Callable<String> failing = () -> {
+            throw ExceptionTestUtils.getNonRetryableException();
+        };
+        Runnable fallback = fallbackRuns::incrementAndGet;
+        Assertions.assertThrows(RuntimeException.class, () -> executor(NoOpRetryListener.get()).executeWithFallback(failing, fallback));
+        Assertions.assertEquals(1, fallbackRuns.get());
+    }
+
+    @Test
+    void shouldReportRetriesAndExhaustionToListener() {
+        List<String> events = new ArrayList<>();
+        RetryListener listener = new RetryListener() {
+            @Override
+            public void onRetry(int attempt, Exception lastException, long delayMillis) {
+                events.add("retry-" + attempt);
+            }
+
+            @Override
+            public void onExhausted(int attempt, Exception lastException) {
+                events.add("exhausted-" + attempt);
+            }
+        };
+        Callable<String> failing = () -> {
+            throw ExceptionTestUtils.getRetryableException();
+        };
+        Assertions.assertThrows(RuntimeException.class, () -> executor(listener).execute(failing));
+        Assertions.assertEquals(List.of("retry-1", "retry-2", "exhausted-3"), events);
+    }
+
+    @Test
+    void shouldFailFastWhileCircuitIsOpen()
+            throws Exception {
+        CircuitBreaker breaker = CircuitBreakerBuilder.newBuilder().minimumCalls(1).waitInOpenState(Duration.ofMinutes(1)).build();
+        IRetryExecutor executor = quiet(RetryPolicyBuilder.newBuilder().maxAttempts(MAX_ATTEMPTS).build(),
+                FixedBackoffStrategy.withDelayMillis(Duration.ofMinutes(1).toMillis())).circuitBreaker(breaker).build();
+        AtomicInteger calls = new AtomicInteger();
+        Callable<String> failing = () -> {
+            calls.incrementAndGet();
+            throw ExceptionTestUtils.getRetryableException();
+        };
+
+        Assertions.assertEquals("fallback", executor.executeWithFallback(failing, FALLBACK));
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        Assertions.assertThrows(CircuitBreakerOpenException.class, () -> executor.execute(failing));
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    private interface EndpointCall extends Callable<String>, EndpointTask {
+    }
+
+    @Test
+    void shouldFailFastOnlyForEndpointWhoseCircuitIsOpen()
+            throws Exception {
+        EndpointStateStore states = EndpointStateStoreBuilder.newBuilder()
+                                                             .circuitBreaker(() -> CircuitBreakerBuilder.newBuilder().minimumCalls(1)
+                                                                                                        .waitInOpenState(Duration.ofMinutes(1))
+                                                                                                        .build())
+                                                             .build();
+        IRetryExecutor executor = RetryExecutorBuilder.newBuilder()
+                                                      .retryPolicy(RetryPolicyBuilder.newBuilder().maxAttempts(MAX_ATTEMPTS).build())
+                                                      .backoffStrategy(NoDelayBackoffStrategy.get())
+                                                      .retryListener(NoOpRetryListener.get())
+                                                      .endpointStates(states).build();
+        AtomicInteger calls = new AtomicInteger();
+        EndpointCall failingPayments = new EndpointCall() {
+            @Override
+            public String call()
+                    throws Exception {
+                calls.incrementAndGet();
+                throw ExceptionTestUtils.getRetryableException();
+            }
+
+            @Override
+            public Object endpointKey() {
+                return "payments";
+            }
+        };
+        EndpointCall ledger = new EndpointCall() {
+            @Override
+            public String call() {
+                return "ok";
+            }
+
+            @Override
+            public Object endpointKey() {
+                return "ledger";
+            }
+        };
+
+        Assertions.assertEquals("fallback", executor.executeWithFallback(failingPayments, FALLBACK));
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertThrows(CircuitBreakerOpenException.class, () -> executor.execute(failingPayments));
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertEquals("ok", executor.execute(ledger));
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, states.get("payments").getCircuitBreaker().getState());
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, states.get("ledger").getCircuitBreaker().getState());
+    }
+
+    @Test
+    void shouldGiveEndpointTrialPermitBackWhenSharedBreakerRefuses()
+            throws Exception {
+        CircuitBreaker shared = CircuitBreakerBuilder.newBuilder().minimumCalls(1).waitInOpenState(Duration.ZERO)
+                                                     .permittedCallsInHalfOpenState(1).build();
+        EndpointStateStore states = EndpointStateStoreBuilder.newBuilder()
+                                                             .keyExtractor(task -> "partner")
+                                                             .circuitBreaker(() -> CircuitBreakerBuilder.newBuilder().minimumCalls(1)
+                                                                                                        .waitInOpenState(Duration.ZERO)
+                                                                                                        .permittedCallsInHalfOpenState(1)
+                                                                                                        .build())
+                                                             .build();
+        IRetryExecutor executor = quiet(RetryPolicyBuilder.newBuilder().maxAttempts(MAX_ATTEMPTS).build(), NoDelayBackoffStrategy.get())
+                .circuitBreaker(shared).endpointStates(states).build();
+        Assertions.assertEquals("fallback", executor.executeWithFallback(() -> {
+            throw ExceptionTestUtils.getRetryableException();
+        }, FALLBACK));
+        // another caller holds the shared breaker's only trial permit
+        Assertions.assertTrue(shared.tryAcquirePermission());
+
+        Assertions.assertThrows(CircuitBreakerOpenException.class, () -> executor.execute(SUCCESS));
+        shared.onSuccess();
+
+        Assertions.assertEquals("ok", executor.execute(SUCCESS));
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, states.get("partner").getCircuitBreaker().getState());
+    }
+
+    @Test
+    void shouldWaitForRetryAfterInsteadOfBackoff()
+            throws Exception {
+        IRetryExecutor executor = quiet(RetryPolicyBuilder.newBuilder().maxAttempts(MAX_ATTEMPTS).build(),
+                NoDelayBackoffStrategy.get()).build();
+        AtomicInteger calls = new AtomicInteger();
+        long start = System.nanoTime();
+
+        Assertions.assertEquals("ok", executor.execute(() -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new RetryAfterException("throttled", Duration.ofMillis(150));
+            }
+            return "ok";
+        }));
+        Assertions.assertEquals(2, calls.get());
+        Assertions.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(150));
+    }
+
+    @Test
+    void shouldGiveUpWhenRetryAfterPassesDeadline()
+            throws Exception {
+        IRetryExecutor executor = quiet(RetryPolicyBuilder.newBuilder().maxAttempts(MAX_ATTEMPTS).timeout(Duration.ofSeconds(1)).build(),
+                NoDelayBackoffStrategy.get()).build();
+        AtomicInteger calls = new AtomicInteger();
+        long start = System.nanoTime();
+
+        Assertions.assertEquals("fallback", executor.executeWithFallback(() -> {
+            calls.incrementAndGet();
+            throw new RetryAfterException("throttled", Duration.ofSeconds(30));
+        }, FALLBACK));
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void shouldHoldRetriesToEndpointPausedByAnotherCaller()
+            throws Exception {
+        EndpointStateStore states = EndpointStateStoreBuilder.newBuilder().keyExtractor(task -> "partner").build();
+        IRetryExecutor executor = RetryExecutorBuilder.newBuilder()
+                                                      .retryPolicy(RetryPolicyBuilder.newBuilder().maxAttempts(MAX_ATTEMPTS).build())
+                                                      .backoffStrategy(FixedBackoffStrategy.withDelayMillis(50))
+                                                      .retryListener(NoOpRetryListener.get())
+                                                      .endpointStates(states).build();
+        CountDownLatch backingOff = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<Long> retriedAt = CompletableFuture.supplyAsync(() -> {
+            try {
+                return executor.execute(() -> {
+                    if (calls.incrementAndGet() == 1) {
+                        backingOff.countDown();
+                        throw ExceptionTestUtils.getRetryableException();
+                    }
+                    return System.nanoTime();
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Assertions.assertTrue(backingOff.await(5, TimeUnit.SECONDS));
+        AtomicInteger throttled = new AtomicInteger();
+        long hinted = System.nanoTime();
+
+        Assertions.assertEquals("ok", executor.execute(() -> {
+            if (throttled.incrementAndGet() == 1) {
+                throw new RetryAfterException("throttled", Duration.ofMillis(300));
+            }
+            return "ok";
+        }));
+        // the other caller was already sleeping off a 50 ms backoff when the server asked for 300 ms
+        Assertions.assertTrue(retriedAt.get(5, TimeUnit.SECONDS) - hinted >= TimeUnit.MILLISECONDS.toNanos(250));
+        Assertions.assertEquals(0, states.get("partner").getPauseRemainingMillis());
+    }
+
+    @Test
+    void shouldGiveUpWhenEndpointPauseOutlastsDeadline()
+            throws Exception {
+        EndpointStateStore states = EndpointStateStoreBuilder.newBuilder().keyExtractor(task -> "partner").build();
+        List<String> events = new CopyOnWriteArrayList<>();
+        RetryListener listener = new RetryListener() {
+            @Override
+            public void onRetry(int attempt, Exception lastException, long delayMillis) {
+                // another caller is told to back off while this one waits out its backoff
+                states.get("partner").pauseFor(Duration.ofSeconds(30).toMillis());
+                events.add("retry-" + attempt);
+            }
+
+            @Override
+            public void onExhausted(int attempt, Exception lastException) {
+                events.add("exhausted-" + attempt);
+            }
+        };
+        RetryMetrics metrics = StripedRetryMetrics.create();
+        IRetryExecutor executor = RetryExecutorBuilder.newBuilder()
+                                                      .retryPolicy(RetryPolicyBuilder.newBuilder().maxAttempts(MAX_ATTEMPTS)
+                                                                                     .timeout(Duration.ofSeconds(1)).build())
+                                                      .backoffStrategy(FixedBackoffStrategy.withDelayMillis(10))
+                                                      .retryListener(listener).metrics(metrics)
+                                                      .endpointStates(states).build();
+        AtomicInteger calls = new AtomicInteger();
+        long start = System.nanoTime();
+
+        Assertions.assertEquals("fallback", executor.executeWithFallback(() -> {
+            calls.incrementAndGet();
+            throw ExceptionTestUtils.getRetryableException();
+        }, FALLBACK));
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+        Assertions.assertEquals(List.of("retry-1", "exhausted-1"), events);
+        Assertions.assertEquals(1, metrics.snapshot().getExhaustions());
+    }
+
+    @Test
+    void shouldWaitForConcurrencyPermit()
+            throws Exception {
+        ConcurrencyLimiter limiter = ConcurrencyLimiterBuilder.newBuilder().initialLimit(1).maxLimit(1).build();
+        IRetryExecutor executor = quiet(RetryPolicyBuilder.newBuilder().maxAttempts(MAX_ATTEMPTS).build(),
+                NoDelayBackoffStrategy.get()).circuitBreaker(CircuitBreakerBuilder.newBuilder().build())
+                                             .concurrencyLimiter(limiter).build();
+        Assertions.assertTrue(limiter.tryAcquire());
+
+        CompletableFuture<String> result = CompletableFuture.supplyAsync(() -> {
+            try {
+                return executor.execute(SUCCESS);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Assertions.assertThrows(TimeoutException.class, () -> result.get(50, TimeUnit.MILLISECONDS));
+        limiter.onIgnore();
+        Assertions.assertEquals("ok", result.get(1, TimeUnit.SECONDS));
+        Assertions.assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void shouldOnlyReportRetryableFailuresAsDrops() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiterBuilder.newBuilder().aimd().initialLimit(8).maxLimit(8).backoffRatio(0.5).build();
+        IRetryExecutor executor = quiet(RetryPolicyBuilder.newBuilder().maxAttempts(1).build(), NoDelayBackoffStrategy.get())
+                .concurrencyLimiter(limiter).build();
+
+        Assertions.assertThrows(NonRetryableExceptionTest.class, () -> executor.execute(() -> {
+            throw new NonRetryableExceptionTest();
+        }));
+        Assertions.assertEquals(8, limiter.getLimit());
+        Assertions.assertThrows(RetryableExceptionTest.class, () -> executor.execute(() -> {
+            throw ExceptionTestUtils.getRetryableException();
+        }));
+        Assertions.assertEquals(4, limiter.getLimit());
+        Assertions.assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void shouldCutBackoffToDeadline()
+            throws Exception {
+        IRetryExecutor executor = quiet(RetryPolicyBuilder.newBuilder().maxAttempts(5).timeout(Duration.ofMillis(200)).build(),
+                FixedBackoffStrategy.withDelayMillis(Duration.ofSeconds(10).toMillis())).build();
+        AtomicInteger calls = new AtomicInteger();
+        long start = System.nanoTime();
+
+        String result = executor.executeWithFallback(() -> {
+            calls.incrementAndGet();
+            throw ExceptionTestUtils.getRetryableException();
+        }, FALLBACK);
+
+        Assertions.assertEquals("fallback", result);
+        Assertions.assertTrue(calls.get() >= 2);
+        Assertions.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(2));
+    }
+
+    @Test
+    void shouldStopWaitingForHungAttemptAndRetry()
+            throws Exception {
+        IRetryExecutor executor = RetryExecutorBuilder.newBuilder()
+                                                      .retryPolicy(RetryPolicyBuilder.newBuilder().maxAttempts(MAX_ATTEMPTS).build())
+                                                      .backoffStrategy(NoDelayBackoffStrategy.get())
+                                                      .attemptTimeout(Duration.ofMillis(50))
+                                                      .build();
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<Boolean> interrupted = new CompletableFuture<>();
+        long start = System.nanoTime();
+
+        String result = executor.execute(() -> {
+            if (calls.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(Duration.ofMinutes(1).toMillis());
+                } catch (InterruptedException e) {
+                    interrupted.complete(true);
+                }
+            }
+            return "ok";
+        });
+
+        Assertions.assertEquals("ok", result);
+        Assertions.assertEquals(2, calls.get());
+        Assertions.assertTrue(interrupted.get(1, TimeUnit.SECONDS));
+        Assertions.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(2));
+    }
+
+    @Test
+    void shouldThrowAttemptTimeoutWhenEveryAttemptHangs() {
+        IRetryExecutor executor = RetryExecutorBuilder.newBuilder()
+                                                      .retryPolicy(RetryPolicyBuilder.newBuilder().maxAttempts(2).build())
+                                                      .backoffStrategy(NoDelayBackoffStrategy.get())
+                                                      .attemptTimeout(Duration.ofMillis(20))
+                                                      .build();
+
+        Assertions.assertThrows(AttemptTimeoutException.class, () -> executor.execute(() -> {
+            Thread.sleep(Duration.ofMinutes(1).toMillis());
+            return "late";
+        }));
+    }
+
+    @Test
+    void shouldResendOnlyFailedItemsInOneCallPerRound()
+            throws Exception {
+        List<List<Integer>> rounds = new CopyOnWriteArrayList<>();
+        Set<Integer> flaky = Set.of(1, 3);
+        BatchFunction<Integer, String> batch = items -> {
+            rounds.add(List.copyOf(items));
+            List<ItemOutcome<String>> outcomes = new ArrayList<>();
+            for (Integer item : items) {
+                outcomes.add(rounds.size() == 1 && flaky.contains(item)
+                        ? ItemOutcome.failure(ExceptionTestUtils.getRetryableException())
+                        : ItemOutcome.success("item-" + item));
+            }
+            return outcomes;
+        };
+
+        BatchResult<String> result = executor(NoOpRetryListener.get()).executeBatch(List.of(0, 1, 2, 3, 4), batch);
+
+        Assertions.assertTrue(result.isAllSucceeded());
+        Assertions.assertEquals(2, result.getAttempts());
+        Assertions.assertEquals(List.of(List.of(0, 1, 2, 3, 4), List.of(1, 3)), rounds);
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertEquals("item-" + i, result.getOutcomes().get(i).getResult());
+        }
+    }
+
+    @Test
+    void shouldNotResendItemsFailingWithNonRetryableException()
+            throws Exception {
+        List<List<Integer>> rounds = new CopyOnWriteArrayList<>();
+        BatchFunction<Integer, String> batch = items -> {
+            rounds.add(List.copyOf(items));
+            List<ItemOutcome<String>> outcomes = new ArrayList<>();
+            for (Integer item : items) {
+                outcomes.add(item == 0 ? ItemOutcome.failure(ExceptionTestUtils.getNonRetryableException())
+                        : item == 1 ? ItemOutcome.failure(ExceptionTestUtils.getRetryableException())
+                        : ItemOutcome.success("item-" + item));
+            }
+            return outcomes;
+        };
+
+        BatchResult<String> result = executor(NoOpRetryListener.get()).executeBatch(List.of(0, 1, 2), batch);
+
+        Assertions.assertEquals(MAX_ATTEMPTS, result.getAttempts());
+        Assertions.assertEquals(List.of(0, 1, 2), rounds.get(0));
+        for (int i = 1; i < MAX_ATTEMPTS; i++) {
+            Assertions.assertEquals(List.of(1), rounds.get(i));
+        }
+        Assertions.assertEquals(2, result.getFailureCount());
+        Assertions.assertSame(ExceptionTestUtils.getNonRetryableException().getClass(),
+                result.getOutcomes().get(0).getFailure().getClass());
+        Assertions.assertEquals("item-2", result.getOutcomes().get(2).getResult());
+    }
+
+    @Test
+    void shouldResendWholeRoundWhenBatchCallThrows()
+            throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        BatchFunction<Integer, String> batch = items -> {
+            if (calls.incrementAndGet() == 1) {
+                throw ExceptionTestUtils.getRetryableException();
+            }
+            List<ItemOutcome<String>> outcomes = new ArrayList<>();
+            for (Integer item : items) {
+                outcomes.add(ItemOutcome.success("item-" + item));
+            }
+            return outcomes;
+        };
+
+        BatchResult<String> result = executor(NoOpRetryListener.get()).executeBatch(List.of(0, 1), batch);
+
+        Assertions.assertTrue(result.isAllSucceeded());
+        Assertions.assertEquals(2, calls.get());
+    }
+
+    @Test
+    void shouldFailItemsWhenBatchReturnsWrongNumberOfOutcomes()
+            throws Exception {
+        BatchResult<String> result = executor(NoOpRetryListener.get()).executeBatch(List.of(0, 1),
+                items -> List.of(ItemOutcome.success("only one")));
+
+        Assertions.assertEquals(1, result.getAttempts());
+        Assertions.assertEquals(2, result.getFailureCount());
+        Assertions.assertInstanceOf(IllegalStateException.class, result.getOutcomes().get(0).getFailure());
+    }
+
+    @Test
+    void shouldRetryResultUntilAccepted()
+            throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        IRetryExecutor executor = quiet(RetryPolicyBuilder.newBuilder().maxAttempts(MAX_ATTEMPTS)
+                                                                .retryOnResult(Integer.class, status -> status == 503).build(),
+                NoDelayBackoffStrategy.get()).build();
+
+        Assertions.assertEquals(200, executor.execute(() -> calls.incrementAndGet() < MAX_ATTEMPTS ? 503 : 200));
+        Assertions.assertEquals(MAX_ATTEMPTS, calls.get());
+    }
+
+    @Test
+    void shouldReturnLastResultWhenResultRetriesRunOut()
+            throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        IRetryExecutor executor = quiet(RetryPolicyBuilder.newBuilder().maxAttempts(MAX_ATTEMPTS)
+                                                                .retryOnResult(Integer.class, status -> status == 503).build(),
+                NoDelayBackoffStrategy.get()).build();
+
+        Assertions.assertEquals(503, executor.execute(() -> {
+            calls.incrementAndGet();
+            return 503;
+        }));
+        Assertions.assertEquals(MAX_ATTEMPTS, calls.get());
+        Assertions.assertEquals(-1, executor.executeWithFallback(() -> 503, () -> -1));
+    }
+
+    @Test
+    void shouldRetryBatchItemsWithRetryableResults()
+            throws Exception {
+        IRetryExecutor executor = quiet(RetryPolicyBuilder.newBuilder().maxAttempts(MAX_ATTEMPTS)
+                                                                .retryOnResult(String.class, "busy"::equals).build(),
+                NoDelayBackoffStrategy.get()).build();
+        List<List<Integer>> rounds = new CopyOnWriteArrayList<>();
+        BatchFunction<Integer, String> batch = items -> {
+            rounds.add(List.copyOf(items));
+            List<ItemOutcome<String>> outcomes = new ArrayList<>();
+            for (Integer item : items) {
+                outcomes.add(ItemOutcome.success(item == 1 && rounds.size() == 1 ? "busy" : "item-" + item));
+            }
+            return outcomes;
+        };
+
+        BatchResult<String> result = executor.executeBatch(List.of(0, 1), batch);
+
+        Assertions.assertEquals(List.of(List.of(0, 1), List.of(1)), rounds);
+        Assertions.assertEquals("item-1", result.getOutcomes().get(1).getResult());
+    }
+
+    @Test
+    void shouldRecordMetrics()
+            throws Exception {
+        RetryMetrics metrics = StripedRetryMetrics.create();
+        IRetryExecutor executor = RetryExecutorBuilder.newBuilder()
+                                                      .retryPolicy(RetryPolicyBuilder.newBuilder().maxAttempts(MAX_ATTEMPTS).build())
+                                                      .backoffStrategy(FixedBackoffStrategy.withDelayMillis(1))
+                                                      .metrics(metrics).build();
+        Callable<String> failing = () -> {
+            throw ExceptionTestUtils.getRetryableException();
+        };
+
+        executor.execute(SUCCESS);
+        Assertions.assertEquals("fallback", executor.executeWithFallback(failing, FALLBACK));
+
+        RetryMetricsSnapshot snapshot = metrics.snapshot();
+        Assertions.assertEquals(2, snapshot.getCalls());
+        Assertions.assertEquals(1 + MAX_ATTEMPTS, snapshot.getAttempts());
+        Assertions.assertEquals(MAX_ATTEMPTS - 1, snapshot.getRetries());
+        Assertions.assertEquals(1, snapshot.getSuccesses());
+        Assertions.assertEquals(1, snapshot.getExhaustions());
+        Assertions.assertEquals(1, snapshot.getFallbacks());
+        Assertions.assertEquals(MAX_ATTEMPTS, snapshot.getFailuresByType().get(ExceptionTestUtils.getRetryableException().getClass()));
+        Assertions.assertEquals(1 + MAX_ATTEMPTS, snapshot.getAttemptLatencyNanos().getCount());
+        Assertions.assertEquals(1, snapshot.getBackoffDelayMillis().getMax());
+        Assertions.assertEquals(2, snapshot.getCallLatencyNanos().getCount());
+    }
+
+    @Test
+    void shouldStopRetryingWhenRateLimitWaitIsTooLong()
+            throws Exception {
+        RetryMetrics metrics = StripedRetryMetrics.create();
+        IRetryExecutor executor = RetryExecutorBuilder.newBuilder()
+                                                      .retryPolicy(RetryPolicyBuilder.newBuilder().maxAttempts(MAX_ATTEMPTS).build())
+                                                      .backoffStrategy(NoDelayBackoffStrategy.get())
+                                                      .retryListener(NoOpRetryListener.get())
+                                                      .retryRateLimiter(RetryRateLimiterBuilder.newBuilder()
+                                                                                               .keyExtractor(task -> "partner")
+                                                                                               .limit(1, 1)
+                                                                                               .maxWait(Duration.ZERO).build())
+                                                      .metrics(metrics).build();
+        AtomicInteger calls = new AtomicInteger();
+        Callable<String> failing = () -> {
+            calls.incrementAndGet();
+            throw ExceptionTestUtils.getRetryableException();
+        };
+
+        Assertions.assertEquals("fallback", executor.executeWithFallback(failing, FALLBACK));
+        // the first retry takes the only slot of the second; the next one would have to wait for it
+        Assertions.assertEquals(2, calls.get());
+        Assertions.assertEquals(1, metrics.snapshot().getRejections());
+        Assertions.assertEquals(0, metrics.snapshot().getExhaustions());
+    }
+
+    @Test
+    void shouldGiveUpWhenRateLimitSlotIsPastDeadline()
+            throws Exception {
+        RetryMetrics metrics = StripedRetryMetrics.create();
+        IRetryExecutor executor = RetryExecutorBuilder.newBuilder()
+                                                      .retryPolicy(RetryPolicyBuilder.newBuilder().maxAttempts(MAX_ATTEMPTS)
+                                                                                     .timeout(Duration.ofSeconds(1)).build())
+                                                      .backoffStrategy(NoDelayBackoffStrategy.get())
+                                                      .retryListener(NoOpRetryListener.get())
+                                                      .retryRateLimiter(RetryRateLimiterBuilder.newBuilder()
+                                                                                               .keyExtractor(task -> "partner")
+                                                                                               .limit(1, 1).build())
+                                                      .metrics(metrics).build();
+        AtomicInteger calls = new AtomicInteger();
+        long start = System.nanoTime();
+
+        Assertions.assertEquals("fallback", executor.executeWithFallback(() -> {
+            calls.incrementAndGet();
+            throw ExceptionTestUtils.getRetryableException();
+        }, FALLBACK));
+        // the second retry's slot is a second away, past the deadline, while the limiter would wait 30 s
+        Assertions.assertEquals(2, calls.get());
+        Assertions.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+        Assertions.assertEquals(1, metrics.snapshot().getExhaustions());
+        Assertions.assertEquals(0, metrics.snapshot().getRejections());
+    }
+
+    @Test
+    void shouldRefundRetryBudgetWhenRetryIsAbandoned()
+            throws Exception {
+        RetryBudget budget = TokenRetryBudget.of(0, 1);
+        IRetryExecutor executor = RetryExecutorBuilder.newBuilder()
+                                                      .retryPolicy(RetryPolicyBuilder.newBuilder().maxAttempts(MAX_ATTEMPTS)
+                                                                                     .timeout(Duration.ofSeconds(1))
+                                                                                     .retryBudget(budget).build())
+                                                      .backoffStrategy(NoDelayBackoffStrategy.get())
+                                                      .retryListener(NoOpRetryListener.get())
+                                                      .retryRateLimiter(RetryRateLimiterBuilder.newBuilder()
+                                                                                               .keyExtractor(task -> "partner")
+                                                                                               .limit(1, 1).build())
+                                                      .build();
+        long balance = budget.balance();
+
+        Assertions.assertEquals("fallback", executor.executeWithFallback(() -> {
+            throw ExceptionTestUtils.getRetryableException();
+        }, FALLBACK));
+        // only the retry that ran is paid for; the one whose rate-limit slot lay past the deadline is refunded
+        Assertions.assertEquals(balance - 1, budget.balance());
+    }
+
+    @Test
+    void shouldSpaceRetriesByRateLimit()
+            throws Exception {
+        IRetryExecutor executor = RetryExecutorBuilder.newBuilder()
+                                                      .retryPolicy(RetryPolicyBuilder.newBuilder().maxAttempts(MAX_ATTEMPTS).build())
+                                                      .backoffStrategy(NoDelayBackoffStrategy.get())
+                                                      .retryListener(NoOpRetryListener.get())
+                                                      .retryRateLimiter(RetryRateLimiterBuilder.newBuilder()
+                                                                                               .keyExtractor(task -> "partner")
+                                                                                               .limit(20, 1).build())
+                                                      .build();
+        List<Long> starts = new CopyOnWriteArrayList<>();
+
+        Assertions.assertEquals("ok", executor.execute(() -> {
+            starts.add(System.nanoTime());
+            if (starts.size() < MAX_ATTEMPTS) {
+                throw ExceptionTestUtils.getRetryableException();
+            }
+            return "ok";
+        }));
+        // the limiter spaces the reservations, which both happen after the first attempt
+        Assertions.assertTrue(TimeUnit.NANOSECONDS.toMillis(starts.get(2) - starts.get(0)) >= 45);
+    }
+
+    @Test
+    void shouldNotAllocateOnFirstAttemptSuccess()
+            throws Exception {
+        assertNoAllocationOnSuccess(executor(NoOpRetryListener.get()));
+    }
+
+    @Test
+    void shouldNotAllocateOnFirstAttemptSuccessWithMetrics()
+            throws Exception {
+        assertNoAllocationOnSuccess(RetryExecutorBuilder.newBuilder()
+                                                        .retryPolicy(RetryPolicyBuilder.newBuilder().maxAttempts(MAX_ATTEMPTS).build())
+                                                        .backoffStrategy(NoDelayBackoffStrategy.get())
+                                                        .metrics(StripedRetryMetrics.create()).build());
+    }
+
+    private static void assertNoAllocationOnSuccess(IRetryExecutor executor)
+            throws Exception {
+        Assumptions.assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        var threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            executor.execute(SUCCESS);
+            executor.executeWithFallback(SUCCESS, FALLBACK);
+        }
+
+        // compilation finishes in the background and a deoptimization rematerializes scalar-replaced objects until
+        // the code is recompiled, so measure rounds until the code is steady; a per-call allocation never gets there
+        long steadyBy = System.nanoTime() + STEADY_TIMEOUT.toNanos();
+        long allocated = allocatedBy(executor, threadBean);
+        while (allocated != 0 && System.nanoTime() < steadyBy) {
+            allocated = allocatedBy(executor, threadBean);
+        }
+
+        Assertions.assertEquals(0L, allocated, "bytes allocated by " + (2 * MEASURED_CALLS) + " successful calls");
+    }
+
+    private static long allocatedBy(IRetryExecutor executor, com.sun.management.ThreadMXBean threadBean)
+            throws Exception {
+        long before = threadBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            executor.execute(SUCCESS);
+            executor.executeWithFallback(SUCCESS, FALLBACK);
+        }
+        return threadBean.getCurrentThreadAllocatedBytes() - before;
+    }
+}
@@ -0,0 +1,114 @@
+package com.github.cf06yash.core.retry.executor.impl;
+
+import com.github.cf06yash.core.backoff.strategy.impl.FixedBackoffStrategy;
+import com.github.cf06yash.core.retry.executor.IRetryExecutor;
+import com.github.cf06yash.core.retry.executor.RetryExecutorBuilder;
+import com.github.cf06yash.core.retry.policy.RetryPolicyBuilder;
+import com.github.cf06yash.core.utils.ExceptionTestUtils;
+import com.github.cf06yash.core.utils.NonRetryableExceptionTest;
+import com.github.cf06yash.core.utils.RetryableExceptionTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+class VirtualThreadRetryExecutorTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long DELAY = 20;
+
+    private final IRetryExecutor executor = RetryExecutorBuilder.newBuilder()
+                                                                .retryPolicy(RetryPolicyBuilder.newBuilder().maxAttempts(MAX_ATTEMPTS).build())
+                                                                .backoffStrategy(FixedBackoffStrategy.withDelayMillis(DELAY))
+                                                                .buildVirtual();
+
+    @Test
+    void shouldRetryUntilSuccessAfterParking()
+            throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        long start = System.nanoTime();
+        String result = executor.execute(() -> {
+            if (calls.incrementAndGet() < MAX_ATTEMPTS) {
+                throw ExceptionTestUtils.getRetryableException();
+            }
+            return "ok";
+        });
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        Assertions.assertEquals("ok", result);
+        Assertions.assertEquals(MAX_ATTEMPTS, calls.get());
+        Assertions.assertTrue(elapsedMillis >= (MAX_ATTEMPTS - 1) * DELAY);
+    }
+
+    @Test
+    void shouldRethrowTaskExceptionUnwrapped() {
+        Callable<String> failing = () -> {
+            throw ExceptionTestUtils.getRetryableException();
+        };
+        Assertions.assertThrows(RetryableExceptionTest.class, () -> executor.execute(failing));
+    }
+
+    @Test
+    void shouldReturnFallbackWithoutRetryingNonRetryable()
+            throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Callable<String> failing = () -> {
+            calls.incrementAndGet();
+            throw new NonRetryableExceptionTest();
+        };
+        Assertions.assertEquals("fallback", executor.executeWithFallback(failing, () -> "fallback"));
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    void shouldStopBackoffWhenInterrupted() {
+        Thread.currentThread().interrupt();
+        Callable<String> failing = () -> {
+            throw ExceptionTestUtils.getRetryableException();
+        };
+        Assertions.assertThrows(InterruptedException.class, () -> executor.execute(failing));
+        Assertions.assertTrue(Thread.interrupted());
+    }
+
+    @Test
+    void shouldRunInlineOnPlatformCaller()
+            throws Exception {
+        Thread caller = Thread.currentThread();
+        Assertions.assertSame(caller, executor.execute(Thread::currentThread));
+    }
+
+    /**
+     * Only meaningful against the packaged jar, where {@code META-INF/versions/21} replaces the Java 17
+     * {@link VirtualThreads}; the java21 build profile runs it that way.
+     */
+    @Test
+    void shouldUseVirtualThreadsFromMultiReleaseJar()
+            throws Exception {
+        Assumptions.assumeTrue(Boolean.getBoolean("retrylib.multiReleaseJar"));
+        Assertions.assertTrue(VirtualThreadRetryExecutor.isVirtualThreadSupported());
+        IRetryExecutor bounded = RetryExecutorBuilder.newBuilder()
+                                                     .retryPolicy(RetryPolicyBuilder.newBuilder().maxAttempts(MAX_ATTEMPTS).build())
+                                                     .backoffStrategy(FixedBackoffStrategy.withDelayMillis(DELAY))
+                                                     .attemptTimeout(Duration.ofSeconds(5))
+                                                     .buildVirtual();
+        Assertions.assertTrue(bounded.execute(() -> VirtualThreads.isVirtual(Thread.currentThread())));
+
+        CompletableFuture<Boolean> fromVirtualCaller = new CompletableFuture<>();
+        VirtualThreads.start(() -> {
+            try {
+                fromVirtualCaller.complete(executor.execute(() -> VirtualThreads.isVirtual(Thread.currentThread())));
+            } catch (Exception e) {
+                fromVirtualCaller.completeExceptionally(e);
+            }
+        });
+        Assertions.assertTrue(fromVirtualCaller.get(5, TimeUnit.SECONDS));
+    }
+}
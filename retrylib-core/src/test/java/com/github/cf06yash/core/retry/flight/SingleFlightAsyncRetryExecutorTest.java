@@ -0,0 +1,98 @@
+package com.github.cf06yash.core.retry.flight;
+
+import com.github.cf06yash.core.backoff.strategy.impl.FixedBackoffStrategy;
+import com.github.cf06yash.core.retry.executor.RetryExecutorBuilder;
+import com.github.cf06yash.core.retry.listener.impl.NoOpRetryListener;
+import com.github.cf06yash.core.retry.policy.RetryPolicyBuilder;
+import com.github.cf06yash.core.utils.ExceptionTestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+class SingleFlightAsyncRetryExecutorTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final int CALLERS = 16;
+
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+    private final SingleFlightAsyncRetryExecutor<String> executor = RetryExecutorBuilder.newBuilder()
+                                                                                       .retryPolicy(RetryPolicyBuilder.newBuilder()
+                                                                                                                      .maxAttempts(MAX_ATTEMPTS)
+                                                                                                                      .build())
+                                                                                       .backoffStrategy(FixedBackoffStrategy.withDelayMillis(20))
+                                                                                       .retryListener(NoOpRetryListener.get())
+                                                                                       .scheduler(scheduler)
+                                                                                       .buildSingleFlightAsync();
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void shouldShareOneRetryLoopBetweenConcurrentCallers() {
+        AtomicInteger calls = new AtomicInteger();
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.executeAsync("key", () -> {
+                if (calls.incrementAndGet() < MAX_ATTEMPTS) {
+                    throw (RuntimeException) ExceptionTestUtils.getRetryableException();
+                }
+                return "ok";
+            }));
+        }
+
+        for (CompletableFuture<String> result : results) {
+            Assertions.assertEquals("ok", result.join());
+        }
+        Assertions.assertEquals(MAX_ATTEMPTS, calls.get());
+        Assertions.assertEquals(0, executor.getInFlight());
+    }
+
+    @Test
+    void shouldHandFinalExceptionToEveryCaller() {
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        CompletableFuture<String> first = executor.executeStageAsync("key", () -> pending);
+        CompletableFuture<String> second = executor.executeStageAsync("key", CompletableFuture::new);
+
+        pending.completeExceptionally(ExceptionTestUtils.getNonRetryableException());
+
+        CompletionException a = Assertions.assertThrows(CompletionException.class, first::join);
+        CompletionException b = Assertions.assertThrows(CompletionException.class, second::join);
+        Assertions.assertSame(a.getCause(), b.getCause());
+        Assertions.assertEquals(0, executor.getInFlight());
+    }
+
+    @Test
+    void shouldKeepLoopRunningWhenOneCallerCancels() {
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        CompletableFuture<String> first = executor.executeStageAsync("key", () -> pending);
+        CompletableFuture<String> second = executor.executeStageAsync("key", () -> pending);
+
+        first.cancel(true);
+        pending.complete("ok");
+
+        Assertions.assertTrue(first.isCancelled());
+        Assertions.assertEquals("ok", second.join());
+    }
+
+    @Test
+    void shouldStartNewLoopAfterPreviousFinished() {
+        AtomicInteger calls = new AtomicInteger();
+        executor.executeAsync("key", calls::incrementAndGet).join();
+        executor.executeAsync("key", calls::incrementAndGet).join();
+        Assertions.assertEquals(2, calls.get());
+    }
+}
@@ -0,0 +1,135 @@
+package com.github.cf06yash.core.retry.flight;
+
+import com.github.cf06yash.core.backoff.strategy.impl.FixedBackoffStrategy;
+import com.github.cf06yash.core.retry.executor.RetryExecutorBuilder;
+import com.github.cf06yash.core.retry.listener.impl.NoOpRetryListener;
+import com.github.cf06yash.core.retry.policy.RetryPolicyBuilder;
+import com.github.cf06yash.core.utils.ConcurrentTestHarness;
+import com.github.cf06yash.core.utils.ExceptionTestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+class SingleFlightRetryExecutorTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final int CALLERS = 16;
+
+    private final SingleFlightRetryExecutor<String> executor = RetryExecutorBuilder.newBuilder()
+                                                                                  .retryPolicy(RetryPolicyBuilder.newBuilder()
+                                                                                                                 .maxAttempts(MAX_ATTEMPTS).build())
+                                                                                  .backoffStrategy(FixedBackoffStrategy.withDelayMillis(100))
+                                                                                  .retryListener(NoOpRetryListener.get())
+                                                                                  .buildSingleFlight();
+
+    private static Callable<String> succeedOnLastAttempt(AtomicInteger calls) {
+        return () -> {
+            if (calls.incrementAndGet() < MAX_ATTEMPTS) {
+                throw ExceptionTestUtils.getRetryableException();
+            }
+            return "ok";
+        };
+    }
+
+    @Test
+    void shouldShareOneRetryLoopBetweenConcurrentCallers()
+            throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Callable<String> task = succeedOnLastAttempt(calls);
+
+        List<String> results = ConcurrentTestHarness.getInstance(CALLERS).runParallelWithReturn(() -> executor.execute("key", task));
+
+        Assertions.assertEquals(CALLERS, results.size());
+        Assertions.assertTrue(results.stream().allMatch("ok"::equals));
+        Assertions.assertEquals(MAX_ATTEMPTS, calls.get());
+        Assertions.assertEquals(0, executor.getInFlight());
+    }
+
+    @Test
+    void shouldHandFinalExceptionToEveryCaller()
+            throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Exception failure = ExceptionTestUtils.getRetryableException();
+
+        List<Exception> errors = ConcurrentTestHarness.getInstance(CALLERS).runParallelWithReturn(() -> {
+            try {
+                executor.execute("key", () -> {
+                    calls.incrementAndGet();
+                    throw failure;
+                });
+                return null;
+            } catch (Exception e) {
+                return e;
+            }
+        });
+
+        Assertions.assertTrue(errors.stream().allMatch(e -> e == failure));
+        Assertions.assertEquals(MAX_ATTEMPTS, calls.get());
+        Assertions.assertEquals(0, executor.getInFlight());
+    }
+
+    @Test
+    void shouldStartNewLoopForWaiterWhenLeaderIsInterrupted()
+            throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch leading = new CountDownLatch(1);
+        Callable<String> task = () -> {
+            if (calls.incrementAndGet() == 1) {
+                leading.countDown();
+                Thread.sleep(Duration.ofMinutes(1).toMillis());
+            }
+            return "ok";
+        };
+        CompletableFuture<Object> leaderOutcome = new CompletableFuture<>();
+        CompletableFuture<Object> waiterOutcome = new CompletableFuture<>();
+        Thread leader = new Thread(() -> run(task, leaderOutcome));
+        Thread waiter = new Thread(() -> run(task, waiterOutcome));
+
+        leader.start();
+        leading.await();
+        waiter.start();
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            while (waiter.getState() != Thread.State.WAITING) {
+                Thread.onSpinWait();
+            }
+        });
+        leader.interrupt();
+
+        Assertions.assertInstanceOf(InterruptedException.class, leaderOutcome.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals("ok", waiterOutcome.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(2, calls.get());
+        Assertions.assertEquals(0, executor.getInFlight());
+    }
+
+    private void run(Callable<String> task, CompletableFuture<Object> outcome) {
+        try {
+            outcome.complete(executor.execute("key", task));
+        } catch (Exception e) {
+            outcome.complete(e);
+        }
+    }
+
+    @Test
+    void shouldNotCoalesceDifferentKeys()
+            throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Assertions.assertEquals(1, executor.execute("a", calls::incrementAndGet));
+        Assertions.assertEquals(2, executor.execute("b", calls::incrementAndGet));
+    }
+
+    @Test
+    void verifyExceptionOnNullKey() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> executor.execute(null, () -> "ok"));
+    }
+}
@@ -0,0 +1,236 @@
+package com.github.cf06yash.core.retry.flow;
+
+import com.github.cf06yash.core.backoff.strategy.impl.FixedBackoffStrategy;
+import com.github.cf06yash.core.retry.executor.RetryExecutorBuilder;
+import com.github.cf06yash.core.retry.listener.impl.NoOpRetryListener;
+import com.github.cf06yash.core.retry.policy.RetryPolicyBuilder;
+import com.github.cf06yash.core.retry.timer.impl.ScheduledExecutorRetryTimer;
+import com.github.cf06yash.core.utils.ExceptionTestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+class RetryingPublisherTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    private RetryExecutorBuilder builder() {
+        return RetryExecutorBuilder.newBuilder()
+                                   .retryPolicy(RetryPolicyBuilder.newBuilder().maxAttempts(MAX_ATTEMPTS).build())
+                                   .backoffStrategy(FixedBackoffStrategy.withDelayMillis(1))
+                                   .retryListener(NoOpRetryListener.get())
+                                   .scheduler(scheduler);
+    }
+
+    @Test
+    void shouldNotRepeatDeliveredElementsAfterResubscribing()
+            throws Exception {
+        RangePublisher upstream = new RangePublisher(5, 3);
+        Collector collector = new Collector(Long.MAX_VALUE);
+
+        builder().<Integer>buildPublisher(upstream).subscribe(collector);
+
+        Assertions.assertEquals(List.of(0, 1, 2, 3, 4), collector.done.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(2, upstream.subscriptions.get());
+    }
+
+    @Test
+    void shouldKeepOutstandingDemandAcrossResubscriptions()
+            throws Exception {
+        RangePublisher upstream = new RangePublisher(10, 1);
+        Collector collector = new Collector(2);
+
+        builder().<Integer>buildPublisher(upstream).subscribe(collector);
+
+        Assertions.assertEquals(List.of(0, 1), collector.awaitItems(2));
+        // the second subscription is asked for the element still owed plus the one it repeats
+        Assertions.assertEquals(List.of(2L, 2L), upstream.requests);
+        Thread.sleep(50);
+        Assertions.assertEquals(List.of(0, 1), collector.items);
+        collector.subscription.request(3);
+        Assertions.assertEquals(List.of(0, 1, 2, 3, 4), collector.awaitItems(5));
+    }
+
+    @Test
+    void shouldReplayDeliveredElementsWhenAsked()
+            throws Exception {
+        RangePublisher upstream = new RangePublisher(4, 2);
+        Collector collector = new Collector(Long.MAX_VALUE);
+
+        RetryingPublisher.replaying(upstream, RetryPolicyBuilder.newBuilder().maxAttempts(MAX_ATTEMPTS).build(),
+                FixedBackoffStrategy.withDelayMillis(1), ScheduledExecutorRetryTimer.of(scheduler), NoOpRetryListener.get())
+                         .subscribe(collector);
+
+        Assertions.assertEquals(List.of(0, 1, 0, 1, 2, 3), collector.done.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldResumeAfterDeliveredElements()
+            throws Exception {
+        List<Long> resumedFrom = new CopyOnWriteArrayList<>();
+        Collector collector = new Collector(Long.MAX_VALUE);
+
+        builder().<Integer>buildResumingPublisher(delivered -> {
+            resumedFrom.add(delivered);
+            return new RangePublisher((int) delivered, 4, delivered == 0 ? 2 : -1);
+        }).subscribe(collector);
+
+        Assertions.assertEquals(List.of(0, 1, 2, 3), collector.done.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(List.of(0L, 2L), resumedFrom);
+    }
+
+    @Test
+    void shouldFailOnceRetriesRunOutWithoutProgress() {
+        RangePublisher upstream = new RangePublisher(5, 0);
+        upstream.failEverySubscription = true;
+        Collector collector = new Collector(Long.MAX_VALUE);
+
+        builder().<Integer>buildPublisher(upstream).subscribe(collector);
+
+        Exception e = Assertions.assertThrows(Exception.class, () -> collector.done.get(5, TimeUnit.SECONDS));
+        Assertions.assertSame(ExceptionTestUtils.getRetryableException().getClass(), e.getCause().getClass());
+        Assertions.assertEquals(MAX_ATTEMPTS, upstream.subscriptions.get());
+    }
+
+    @Test
+    void shouldStopResubscribingWhenCancelled()
+            throws Exception {
+        RangePublisher upstream = new RangePublisher(5, 0);
+        upstream.failEverySubscription = true;
+        Collector collector = new Collector(Long.MAX_VALUE);
+
+        builder().backoffStrategy(FixedBackoffStrategy.withDelayMillis(100)).<Integer>buildPublisher(upstream).subscribe(collector);
+        collector.subscription.cancel();
+        Thread.sleep(300);
+
+        Assertions.assertEquals(1, upstream.subscriptions.get());
+        Assertions.assertFalse(collector.done.isDone());
+    }
+
+    /**
+     * Cold publisher of {@code from..to-1} that honours demand and fails its first subscription, or every one,
+     * after {@code failAfter} elements.
+     */
+    private static final class RangePublisher implements Flow.Publisher<Integer> {
+        private final int from;
+        private final int to;
+        private final int failAfter;
+        private final AtomicInteger subscriptions = new AtomicInteger();
+        private final List<Long> requests = new CopyOnWriteArrayList<>();
+        private volatile boolean failEverySubscription;
+
+        RangePublisher(int to, int failAfter) {
+            this(0, to, failAfter);
+        }
+
+        RangePublisher(int from, int to, int failAfter) {
+            this.from = from;
+            this.to = to;
+            this.failAfter = failAfter;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super Integer> subscriber) {
+            boolean failing = subscriptions.incrementAndGet() == 1 || failEverySubscription;
+            subscriber.onSubscribe(new Flow.Subscription() {
+                private int next = from;
+                private int emitted;
+                private long demand;
+                private boolean emitting;
+                private boolean finished;
+
+                @Override
+                public synchronized void request(long n) {
+                    requests.add(n);
+                    demand += n;
+                    if (emitting) {
+                        return;
+                    }
+                    emitting = true;
+                    while (!finished && demand > 0) {
+                        if (failing && emitted == failAfter) {
+                            finished = true;
+                            subscriber.onError(ExceptionTestUtils.getRetryableException());
+                            break;
+                        }
+                        if (next == to) {
+                            finished = true;
+                            subscriber.onComplete();
+                            break;
+                        }
+                        demand--;
+                        emitted++;
+                        subscriber.onNext(next++);
+                    }
+                    emitting = false;
+                }
+
+                @Override
+                public synchronized void cancel() {
+                    finished = true;
+                }
+            });
+        }
+    }
+
+    private static final class Collector implements Flow.Subscriber<Integer> {
+        private final long initialRequest;
+        private final List<Integer> items = new CopyOnWriteArrayList<>();
+        private final CompletableFuture<List<Integer>> done = new CompletableFuture<>();
+        private volatile Flow.Subscription subscription;
+
+        Collector(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(initialRequest);
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            done.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            done.complete(items);
+        }
+
+        List<Integer> awaitItems(int count)
+                throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (items.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            return List.copyOf(items);
+        }
+    }
+}
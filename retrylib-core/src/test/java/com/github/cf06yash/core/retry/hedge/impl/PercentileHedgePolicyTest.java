@@ -0,0 +1,61 @@
+package com.github.cf06yash.core.retry.hedge.impl;
+
+import com.github.cf06yash.core.retry.hedge.HedgePolicy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+class PercentileHedgePolicyTest {
+
+    @Test
+    void shouldNotHedgeUntilEnoughSamples() {
+        HedgePolicy policy = PercentileHedgePolicy.of(0.95);
+        for (int i = 0; i < 31; i++) {
+            policy.onAttemptCompleted(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        Assertions.assertTrue(policy.hedgeDelayMillis() < 0);
+    }
+
+    @Test
+    void shouldHedgeAtPercentileOfRecentLatency() {
+        HedgePolicy policy = PercentileHedgePolicy.of(0.9);
+        for (int i = 1; i <= 100; i++) {
+            policy.onAttemptCompleted(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        // recomputed after 96 samples: p90 of 1..96 ms
+        Assertions.assertEquals(87, policy.hedgeDelayMillis());
+    }
+
+    @Test
+    void shouldFollowLatencyShift() {
+        HedgePolicy policy = PercentileHedgePolicy.of(0.5);
+        for (int i = 0; i < 128; i++) {
+            policy.onAttemptCompleted(TimeUnit.MILLISECONDS.toNanos(5));
+        }
+        Assertions.assertEquals(5, policy.hedgeDelayMillis());
+        for (int i = 0; i < 128; i++) {
+            policy.onAttemptCompleted(TimeUnit.MILLISECONDS.toNanos(50));
+        }
+        Assertions.assertEquals(50, policy.hedgeDelayMillis());
+    }
+
+    @Test
+    void shouldRoundSubMillisecondLatencyUp() {
+        HedgePolicy policy = PercentileHedgePolicy.of(0.5);
+        for (int i = 0; i < 32; i++) {
+            policy.onAttemptCompleted(1000);
+        }
+        Assertions.assertEquals(1, policy.hedgeDelayMillis());
+    }
+
+    @Test
+    void verifyExceptionOnInvalidPercentile() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PercentileHedgePolicy.of(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PercentileHedgePolicy.of(1));
+    }
+}
@@ -0,0 +1,132 @@
+package com.github.cf06yash.core.retry.jfr;
+
+import com.github.cf06yash.core.backoff.strategy.impl.FixedBackoffStrategy;
+import com.github.cf06yash.core.retry.executor.IAsyncRetryExecutor;
+import com.github.cf06yash.core.retry.executor.IRetryExecutor;
+import com.github.cf06yash.core.retry.executor.RetryExecutorBuilder;
+import com.github.cf06yash.core.retry.policy.RetryPolicyBuilder;
+import com.github.cf06yash.core.utils.ExceptionTestUtils;
+import com.github.cf06yash.core.utils.RetryableExceptionTest;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+class RetryEventsTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long DELAY = 20;
+
+    private static RetryExecutorBuilder builder() {
+        return RetryExecutorBuilder.newBuilder()
+                                   .retryPolicy(RetryPolicyBuilder.newBuilder().maxAttempts(MAX_ATTEMPTS).build())
+                                   .backoffStrategy(FixedBackoffStrategy.withDelayMillis(DELAY));
+    }
+
+    private static Supplier<String> succeedOnLastAttempt(AtomicInteger calls) {
+        return () -> {
+            if (calls.incrementAndGet() < MAX_ATTEMPTS) {
+                throw (RuntimeException) ExceptionTestUtils.getRetryableException();
+            }
+            return "ok";
+        };
+    }
+
+    @Test
+    void shouldNotCreateEventsWhileDisabled() {
+        Assertions.assertNull(RetryEvents.beginAttempt(1));
+        Assertions.assertNull(RetryEvents.beginBackoff(1, DELAY));
+    }
+
+    @Test
+    void shouldRecordSyncAttemptsAndBackoffs()
+            throws Exception {
+        IRetryExecutor executor = builder().build();
+        AtomicInteger calls = new AtomicInteger();
+
+        List<RecordedEvent> events = record(() -> {
+            Supplier<String> task = succeedOnLastAttempt(calls);
+            try {
+                executor.execute(task::get);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertAttemptsAndBackoffs(events);
+    }
+
+    @Test
+    void shouldRecordAsyncAttemptsAndBackoffs()
+            throws Exception {
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+        try {
+            IAsyncRetryExecutor executor = builder().scheduler(scheduler).buildAsync();
+            AtomicInteger calls = new AtomicInteger();
+
+            List<RecordedEvent> events = record(() -> executor.executeAsync(succeedOnLastAttempt(calls)).join());
+
+            assertAttemptsAndBackoffs(events);
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private static void assertAttemptsAndBackoffs(List<RecordedEvent> events) {
+        List<RecordedEvent> attempts = ofType(events, "com.github.cf06yash.retrylib.RetryAttempt");
+        Assertions.assertEquals(MAX_ATTEMPTS, attempts.size());
+        for (int i = 0; i < MAX_ATTEMPTS - 1; i++) {
+            RecordedEvent failed = attempts.get(i);
+            Assertions.assertEquals(i + 1, failed.getInt("attempt"));
+            Assertions.assertEquals(RetryEvents.RETRY, failed.getString("outcome"));
+            Assertions.assertEquals(RetryableExceptionTest.class.getName(), failed.getClass("exceptionType").getName());
+            Assertions.assertTrue(failed.getBoolean("retryable"));
+            Assertions.assertEquals(Duration.ofMillis(DELAY), failed.getDuration("nextDelay"));
+        }
+        Assertions.assertEquals(RetryEvents.SUCCESS, attempts.get(MAX_ATTEMPTS - 1).getString("outcome"));
+
+        List<RecordedEvent> backoffs = ofType(events, "com.github.cf06yash.retrylib.RetryBackoff");
+        Assertions.assertEquals(MAX_ATTEMPTS - 1, backoffs.size());
+        for (RecordedEvent backoff : backoffs) {
+            Assertions.assertEquals(Duration.ofMillis(DELAY), backoff.getDuration("delay"));
+            Assertions.assertTrue(backoff.getDuration().compareTo(Duration.ofMillis(DELAY / 2)) >= 0);
+        }
+    }
+
+    private static List<RecordedEvent> record(Runnable body)
+            throws IOException {
+        Path file = Files.createTempFile("retry-events", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(RetryAttemptEvent.class).withoutThreshold();
+            recording.enable(RetryBackoffEvent.class).withoutThreshold();
+            recording.start();
+            body.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name))
+                     .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime())).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.cf06yash.core.retry.journal;
+
+import com.github.cf06yash.core.backoff.strategy.impl.FixedBackoffStrategy;
+import com.github.cf06yash.core.retry.executor.RetryExecutorBuilder;
+import com.github.cf06yash.core.retry.journal.impl.MappedRetryJournal;
+import com.github.cf06yash.core.retry.journal.impl.SerializingTaskCodec;
+import com.github.cf06yash.core.retry.listener.impl.NoOpRetryListener;
+import com.github.cf06yash.core.retry.policy.RetryPolicyBuilder;
+import com.github.cf06yash.core.utils.ExceptionTestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+class DurableRetryExecutorTest {
+
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    private DurableRetryExecutor<String, String> executor(RetryJournal journal, Function<String, String> handler) {
+        return RetryExecutorBuilder.newBuilder()
+                                   .retryPolicy(RetryPolicyBuilder.newBuilder().maxAttempts(3).build())
+                                   .backoffStrategy(FixedBackoffStrategy.withDelayMillis(1))
+                                   .retryListener(NoOpRetryListener.get())
+                                   .scheduler(scheduler)
+                                   .buildDurable(journal, SerializingTaskCodec.get(), handler);
+    }
+
+    @Test
+    void shouldCompleteJournalEntryWhenRetryLoopEnds()
+            throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        try (MappedRetryJournal journal = MappedRetryJournal.open(directory)) {
+            DurableRetryExecutor<String, String> executor = executor(journal, order -> {
+                if (calls.incrementAndGet() < 2) {
+                    throw (RuntimeException) ExceptionTestUtils.getRetryableException();
+                }
+                return "charged " + order;
+            });
+            Assertions.assertEquals("charged order-1", executor.submit("order-1").join());
+            CompletableFuture<String> exhausted = executor(journal, order -> {
+                throw (RuntimeException) ExceptionTestUtils.getRetryableException();
+            }).submit("order-2");
+            Assertions.assertThrows(Exception.class, exhausted::join);
+        }
+
+        try (MappedRetryJournal reopened = MappedRetryJournal.open(directory)) {
+            Assertions.assertTrue(reopened.unfinished().isEmpty());
+        }
+    }
+
+    @Test
+    void shouldRecoverTasksLeftUnfinished()
+            throws Exception {
+        try (MappedRetryJournal journal = MappedRetryJournal.open(directory)) {
+            journal.append(SerializingTaskCodec.<String>get().encode("order-7"));
+            journal.append(SerializingTaskCodec.<String>get().encode("order-8"));
+        }
+
+        try (MappedRetryJournal reopened = MappedRetryJournal.open(directory)) {
+            DurableRetryExecutor<String, String> executor = executor(reopened, order -> "charged " + order);
+            List<String> results = executor.recover().stream().map(CompletableFuture::join).toList();
+            Assertions.assertEquals(List.of("charged order-7", "charged order-8"), results);
+            Assertions.assertThrows(IllegalStateException.class, executor::recover);
+        }
+
+        try (MappedRetryJournal reopened = MappedRetryJournal.open(directory)) {
+            Assertions.assertTrue(reopened.unfinished().isEmpty());
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.github.cf06yash.core.retry.journal.impl;
+
+import com.github.cf06yash.core.retry.journal.JournalEntry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+class MappedRetryJournalTest {
+
+    private static final int SEGMENT_BYTES = 4096;
+
+    @TempDir
+    Path directory;
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> payloads(MappedRetryJournal journal) {
+        return journal.unfinished().stream().map(e -> new String(e.getPayload(), StandardCharsets.UTF_8)).toList();
+    }
+
+    @Test
+    void shouldReplayOnlyUnfinishedEntries()
+            throws IOException {
+        try (MappedRetryJournal journal = MappedRetryJournal.open(directory)) {
+            long first = journal.append(bytes("order-1"));
+            journal.append(bytes("order-2"));
+            journal.append(new byte[0]);
+            journal.complete(first);
+        }
+
+        try (MappedRetryJournal reopened = MappedRetryJournal.open(directory)) {
+            Assertions.assertEquals(List.of("order-2", ""), payloads(reopened));
+            for (JournalEntry entry : reopened.unfinished()) {
+                reopened.complete(entry.getId());
+            }
+        }
+
+        try (MappedRetryJournal reopened = MappedRetryJournal.open(directory)) {
+            Assertions.assertTrue(reopened.unfinished().isEmpty());
+        }
+    }
+
+    @Test
+    void shouldDeleteSegmentsOnceEveryEntryIsDone()
+            throws IOException {
+        try (MappedRetryJournal journal = MappedRetryJournal.open(directory, SEGMENT_BYTES, false)) {
+            long kept = journal.append(new byte[1000]);
+            long[] ids = new long[20];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = journal.append(new byte[1000]);
+            }
+            Assertions.assertTrue(journal.getSegmentCount() > 5);
+            for (long id : ids) {
+                journal.complete(id);
+            }
+            // the first segment still holds an open entry, the one being appended to stays
+            Assertions.assertEquals(2, journal.getSegmentCount());
+            journal.complete(kept);
+            Assertions.assertEquals(1, journal.getSegmentCount());
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            Assertions.assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void shouldSkipEntriesWithBadChecksum()
+            throws IOException {
+        try (MappedRetryJournal journal = MappedRetryJournal.open(directory, SEGMENT_BYTES, true)) {
+            journal.append(bytes("torn"));
+            journal.append(bytes("intact"));
+        }
+        try (Stream<Path> files = Files.list(directory); RandomAccessFile file = new RandomAccessFile(files.findFirst().orElseThrow().toFile(), "rw")) {
+            file.seek(9);
+            file.write('X');
+        }
+
+        try (MappedRetryJournal reopened = MappedRetryJournal.open(directory, SEGMENT_BYTES, false)) {
+            Assertions.assertEquals(List.of("intact"), payloads(reopened));
+        }
+    }
+
+    @Test
+    void shouldKeepEveryConcurrentAppend()
+            throws Exception {
+        int threads = 4;
+        int perThread = 2_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try (MappedRetryJournal journal = MappedRetryJournal.open(directory, 64 * 1024, true)) {
+            Future<?>[] writers = new Future<?>[threads];
+            for (int t = 0; t < threads; t++) {
+                int writer = t;
+                writers[t] = pool.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        journal.append(bytes(writer + ":" + i));
+                    }
+                });
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        try (MappedRetryJournal reopened = MappedRetryJournal.open(directory, 64 * 1024, false)) {
+            Assertions.assertEquals(threads * perThread, reopened.unfinished().size());
+            Assertions.assertEquals(threads * perThread, payloads(reopened).stream().distinct().count());
+        }
+    }
+
+    @Test
+    void shouldRejectEntriesLargerThanASegment()
+            throws IOException {
+        try (MappedRetryJournal journal = MappedRetryJournal.open(directory, SEGMENT_BYTES, false)) {
+            Assertions.assertThrows(IllegalArgumentException.class, () -> journal.append(new byte[SEGMENT_BYTES]));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.github.cf06yash.core.retry.limit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+class RetryCapacityTest {
+
+    private static final class Call implements RetryCapacity.Retrying {
+
+        private volatile boolean done;
+
+        @Override
+        public boolean isDone() {
+            return done;
+        }
+
+        @Override
+        public boolean shed() {
+            return false;
+        }
+    }
+
+    @Test
+    void shouldForgetReleasedCallsBehindPendingHead() {
+        RetryCapacity capacity = RetryCapacity.of(2, RetryCapacity.Overflow.DROP_OLDEST);
+        Call head = new Call();
+        Assertions.assertTrue(capacity.tryAcquire(head));
+
+        for (int i = 0; i < 1_000; i++) {
+            Call call = new Call();
+            Assertions.assertTrue(capacity.tryAcquire(call));
+            call.done = true;
+            capacity.release(call);
+        }
+
+        Assertions.assertEquals(1, capacity.getTracked());
+        Assertions.assertEquals(1, capacity.getDepth());
+        head.done = true;
+        capacity.release(head);
+        Assertions.assertEquals(0, capacity.getTracked());
+    }
+}
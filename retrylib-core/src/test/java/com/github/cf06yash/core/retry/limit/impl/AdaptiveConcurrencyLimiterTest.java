@@ -0,0 +1,153 @@
+package com.github.cf06yash.core.retry.limit.impl;
+
+import com.github.cf06yash.core.retry.limit.ConcurrencyLimiter;
+import com.github.cf06yash.core.retry.limit.ConcurrencyLimiterBuilder;
+import com.github.cf06yash.core.utils.ConcurrentTestHarness;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(2);
+    private static final int HEAVY_THREAD = 100;
+
+    private static ConcurrencyLimiter aimd(int initialLimit, int maxQueued) {
+        return AdaptiveConcurrencyLimiter.aimd(initialLimit, 1, 100, maxQueued, 0.5, Duration.ofSeconds(1));
+    }
+
+    @Test
+    void shouldRejectBeyondLimit() {
+        ConcurrencyLimiter limiter = aimd(2, 0);
+        Assertions.assertTrue(limiter.tryAcquire());
+        Assertions.assertTrue(limiter.tryAcquire());
+        Assertions.assertFalse(limiter.tryAcquire());
+        Assertions.assertEquals(2, limiter.getInFlight());
+    }
+
+    @Test
+    void shouldGrowAdditivelyWhileLimitIsUsed() {
+        ConcurrencyLimiter limiter = aimd(2, 0);
+        limiter.tryAcquire();
+        limiter.onSuccess(FAST);
+        Assertions.assertEquals(3, limiter.getLimit());
+    }
+
+    @Test
+    void shouldNotGrowWhileLimitIsUnderused() {
+        ConcurrencyLimiter limiter = aimd(10, 0);
+        limiter.tryAcquire();
+        limiter.onSuccess(FAST);
+        Assertions.assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    void shouldShrinkMultiplicativelyOnDropOrSlowAttempt() {
+        ConcurrencyLimiter limiter = aimd(8, 0);
+        limiter.tryAcquire();
+        limiter.onDropped(FAST);
+        Assertions.assertEquals(4, limiter.getLimit());
+        limiter.tryAcquire();
+        limiter.onSuccess(SLOW);
+        Assertions.assertEquals(2, limiter.getLimit());
+        limiter.tryAcquire();
+        limiter.onDropped(FAST);
+        limiter.tryAcquire();
+        limiter.onDropped(FAST);
+        Assertions.assertEquals(1, limiter.getLimit());
+    }
+
+    @Test
+    void shouldShrinkGradientLimitWhenLatencyRises() {
+        ConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(new GradientLimitAlgorithm(), 20, 1, 100, 0);
+        for (int i = 0; i < 20; i++) {
+            Assertions.assertTrue(limiter.tryAcquire());
+        }
+        for (int i = 0; i < 10; i++) {
+            limiter.onSuccess(FAST);
+        }
+        int grown = limiter.getLimit();
+        Assertions.assertTrue(grown > 20);
+        int held = 0;
+        while (limiter.tryAcquire()) {
+            held++;
+        }
+        for (int i = 0; i < held; i++) {
+            limiter.onSuccess(FAST * 10);
+        }
+        Assertions.assertTrue(limiter.getLimit() < grown);
+    }
+
+    @Test
+    void shouldHandPermitToQueuedAttemptOnRelease() {
+        ConcurrencyLimiter limiter = aimd(1, 1);
+        AtomicInteger ran = new AtomicInteger();
+        limiter.tryAcquire();
+        Assertions.assertTrue(limiter.enqueue(ran::incrementAndGet));
+        Assertions.assertFalse(limiter.enqueue(ran::incrementAndGet));
+        Assertions.assertEquals(0, ran.get());
+
+        limiter.onIgnore();
+        Assertions.assertEquals(1, ran.get());
+        Assertions.assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    void shouldBlockSyncCallerUntilPermitIsReleased()
+            throws InterruptedException {
+        ConcurrencyLimiter limiter = aimd(1, 0);
+        limiter.tryAcquire();
+        CountDownLatch acquired = new CountDownLatch(1);
+        Thread waiter = new Thread(() -> {
+            try {
+                limiter.acquire();
+                acquired.countDown();
+            } catch (InterruptedException ignored) {
+            }
+        });
+        waiter.start();
+        Assertions.assertFalse(acquired.await(50, TimeUnit.MILLISECONDS));
+        limiter.onSuccess(FAST);
+        Assertions.assertTrue(acquired.await(1, TimeUnit.SECONDS));
+        waiter.join();
+    }
+
+    @Test
+    void shouldNeverExceedLimitUnderContention()
+            throws InterruptedException {
+        ConcurrencyLimiter limiter = aimd(4, 0);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        ConcurrentTestHarness.getInstance(HEAVY_THREAD).runParallel(() -> {
+            for (int i = 0; i < 100; i++) {
+                try {
+                    limiter.acquire();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                running.decrementAndGet();
+                limiter.onDropped(FAST);
+            }
+        });
+        Assertions.assertEquals(0, limiter.getInFlight());
+        Assertions.assertTrue(maxRunning.get() <= 4);
+    }
+
+    @Test
+    void verifyExceptionOnInvalidLimits() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ConcurrencyLimiterBuilder.newBuilder().minLimit(5).initialLimit(2).build());
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ConcurrencyLimiterBuilder.newBuilder().backoffRatio(1.5).build());
+    }
+}
@@ -0,0 +1,53 @@
+package com.github.cf06yash.core.retry.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+class LogHistogramTest {
+
+    @Test
+    void shouldMapEveryValueIntoBucketCoveringIt() {
+        long[] values = {0, 1, 3, 4, 5, 7, 8, 9, 15, 16, 1000, 1_000_000_007L, Long.MAX_VALUE};
+        for (long value : values) {
+            int bucket = LogHistogram.bucketOf(value);
+            Assertions.assertTrue(bucket < LogHistogram.BUCKETS);
+            Assertions.assertTrue(LogHistogram.upperBoundOf(bucket) >= value);
+            Assertions.assertTrue(bucket == 0 || LogHistogram.upperBoundOf(bucket - 1) < value);
+        }
+    }
+
+    @Test
+    void shouldReportPercentilesWithinBucketError() {
+        LogHistogram histogram = new LogHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+        HistogramSnapshot snapshot = histogram.snapshot();
+        Assertions.assertEquals(1000, snapshot.getCount());
+        Assertions.assertEquals(500_500, snapshot.getSum());
+        Assertions.assertEquals(1000, snapshot.getMax());
+        assertWithin(500, snapshot.valueAtPercentile(0.5));
+        assertWithin(990, snapshot.valueAtPercentile(0.99));
+        Assertions.assertEquals(1000, snapshot.valueAtPercentile(1));
+    }
+
+    @Test
+    void shouldReportZeroWhenEmpty() {
+        HistogramSnapshot snapshot = new LogHistogram().snapshot();
+        Assertions.assertEquals(0, snapshot.getCount());
+        Assertions.assertEquals(0, snapshot.valueAtPercentile(0.99));
+    }
+
+    @Test
+    void verifyExceptionOnInvalidPercentile() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new LogHistogram().snapshot().valueAtPercentile(1.5));
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        Assertions.assertTrue(actual >= expected && actual <= expected * 1.25, "expected ~" + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.cf06yash.core.retry.metrics.impl;
+
+import com.github.cf06yash.core.retry.metrics.RetryMetrics;
+import com.github.cf06yash.core.retry.metrics.RetryMetricsSnapshot;
+import com.github.cf06yash.core.utils.ConcurrentTestHarness;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+/**
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+class StripedRetryMetricsTest {
+
+    private static final int THREADS = 8;
+    private static final int PER_THREAD = 10_000;
+
+    @Test
+    void shouldNotLoseConcurrentUpdates()
+            throws InterruptedException {
+        RetryMetrics metrics = StripedRetryMetrics.create();
+        IllegalStateException failure = new IllegalStateException();
+
+        ConcurrentTestHarness.getInstance(THREADS).runParallel(() -> {
+            for (int i = 0; i < PER_THREAD; i++) {
+                metrics.onCall();
+                metrics.onAttemptFailed(failure, i);
+                metrics.onRetry(i % 100);
+                metrics.onAttemptSucceeded(i);
+                metrics.onSuccess(2L * i);
+            }
+        });
+
+        RetryMetricsSnapshot snapshot = metrics.snapshot();
+        long total = (long) THREADS * PER_THREAD;
+        Assertions.assertEquals(total, snapshot.getCalls());
+        Assertions.assertEquals(2 * total, snapshot.getAttempts());
+        Assertions.assertEquals(total, snapshot.getRetries());
+        Assertions.assertEquals(total, snapshot.getSuccesses());
+        Assertions.assertEquals(total, snapshot.getFailuresByType().get(IllegalStateException.class));
+        Assertions.assertEquals(2 * total, snapshot.getAttemptLatencyNanos().getCount());
+        Assertions.assertEquals(99, snapshot.getBackoffDelayMillis().getMax());
+        Assertions.assertEquals(2L * (PER_THREAD - 1), snapshot.getCallLatencyNanos().getMax());
+    }
+
+    @Test
+    void shouldCountExhaustionsByTypeOfLastFailure() {
+        RetryMetrics metrics = StripedRetryMetrics.create();
+        metrics.onExhausted(new IOException(), 10);
+        metrics.onExhausted(new IOException(), 10);
+        metrics.onExhausted(new IllegalStateException(), 10);
+        metrics.onRejected(new IllegalStateException(), 0);
+        metrics.onFallback();
+
+        RetryMetricsSnapshot snapshot = metrics.snapshot();
+        Assertions.assertEquals(3, snapshot.getExhaustions());
+        Assertions.assertEquals(2, snapshot.getExhaustionsByType().get(IOException.class));
+        Assertions.assertEquals(1, snapshot.getExhaustionsByType().get(IllegalStateException.class));
+        Assertions.assertEquals(1, snapshot.getRejections());
+        Assertions.assertEquals(1, snapshot.getFallbacks());
+    }
+
+    @Test
+    void shouldLeaveSnapshotUnchangedByLaterUpdates() {
+        RetryMetrics metrics = StripedRetryMetrics.create();
+        metrics.onCall();
+        RetryMetricsSnapshot snapshot = metrics.snapshot();
+        metrics.onCall();
+        Assertions.assertEquals(1, snapshot.getCalls());
+        Assertions.assertEquals(2, metrics.snapshot().getCalls());
+    }
+}
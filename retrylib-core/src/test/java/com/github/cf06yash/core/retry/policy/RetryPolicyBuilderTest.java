@@ -1,11 +1,21 @@
 package com.github.cf06yash.core.retry.policy;
 
+import com.github.cf06yash.core.retry.budget.impl.TokenRetryBudget;
+import com.github.cf06yash.core.retry.executor.RetryableResultException;
+import com.github.cf06yash.core.retry.policy.impl.BudgetedRetryPolicy;
 import com.github.cf06yash.core.retry.policy.impl.ConfigurableRetryPolicy;
+import com.github.cf06yash.core.retry.policy.impl.DeadlineRetryPolicy;
 import com.github.cf06yash.core.retry.policy.impl.DefaultRetryPolicy;
+import com.github.cf06yash.core.retry.tagging.RetryAfterException;
+import com.github.cf06yash.core.retry.tagging.RetryAfterHint;
 import com.github.cf06yash.core.retry.tagging.impl.DefaultRetryClassifier;
+import com.github.cf06yash.core.utils.ExceptionTestUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Developed by cf06yash.
  * Created on 07-10-2025.
@@ -30,4 +40,113 @@ class RetryPolicyBuilderTest {
         Assertions.assertEquals(CUSTOM_MAX_ATTEMPTS, policy.getMaxAttempts());
         Assertions.assertInstanceOf(DefaultRetryClassifier.class, policy.getRetryClassifier());
     }
+
+    @Test
+    void verifyPolicyWithoutBuilderHonoursRetryAfter() {
+        var policy = ConfigurableRetryPolicy.of(DefaultRetryClassifier.INSTANCE, DEFAULT_MAX_ATTEMPTS);
+        Assertions.assertEquals(1500, policy.getRetryAfterMillis(new RetryAfterException("throttled", Duration.ofMillis(1500))));
+        Assertions.assertEquals(TimeUnit.MINUTES.toMillis(1),
+                policy.getRetryAfterMillis(new RetryAfterException("throttled", Duration.ofHours(1))));
+    }
+
+    @Test
+    void verifyRetryBudgetCapsRetries() {
+        var policy = RetryPolicyBuilder.newBuilder().maxAttempts(CUSTOM_MAX_ATTEMPTS)
+                                       .retryBudget(TokenRetryBudget.of(0, 0)).build();
+        Assertions.assertInstanceOf(BudgetedRetryPolicy.class, policy);
+        Assertions.assertEquals(CUSTOM_MAX_ATTEMPTS, policy.getMaxAttempts());
+        Assertions.assertFalse(policy.shouldRetry(1, ExceptionTestUtils.getRetryableException()));
+    }
+
+    @Test
+    void verifyRetryBudgetFundedByFirstAttempts() {
+        var policy = RetryPolicyBuilder.newBuilder().maxAttempts(CUSTOM_MAX_ATTEMPTS)
+                                       .retryBudget(TokenRetryBudget.of(1, 0)).build();
+        policy.onFirstAttempt();
+        Assertions.assertTrue(policy.shouldRetry(1, ExceptionTestUtils.getRetryableException()));
+        Assertions.assertFalse(policy.shouldRetry(2, ExceptionTestUtils.getRetryableException()));
+    }
+
+    @Test
+    void verifyDeadlineCutsBackoffToRemainingTime() {
+        var policy = RetryPolicyBuilder.newBuilder().timeout(Duration.ofSeconds(2)).build();
+        Assertions.assertInstanceOf(DeadlineRetryPolicy.class, policy);
+        Assertions.assertEquals(TimeUnit.SECONDS.toNanos(2), policy.getTimeoutNanos());
+        Assertions.assertEquals(100, policy.fitDelayNanos(100, 1000));
+        Assertions.assertEquals(1000, policy.fitDelayNanos(5000, 1000));
+        Assertions.assertTrue(policy.fitDelayNanos(100, 0) < 0);
+    }
+
+    @Test
+    void verifyDeadlineGivesUpWhenPredictedAttemptDoesNotFit() {
+        var policy = RetryPolicyBuilder.newBuilder().timeout(Duration.ofSeconds(2)).build();
+        policy.onAttemptCompleted(800);
+        for (int i = 0; i < 100; i++) {
+            policy.onAttemptCompleted(800);
+        }
+        Assertions.assertEquals(800, ((DeadlineRetryPolicy) policy).getPredictedLatencyNanos());
+        Assertions.assertEquals(200, policy.fitDelayNanos(5000, 1000));
+        Assertions.assertTrue(policy.fitDelayNanos(0, 700) < 0);
+    }
+
+    @Test
+    void verifyLatencyAverageFollowsSamples() {
+        var policy = (DeadlineRetryPolicy) RetryPolicyBuilder.newBuilder().timeout(Duration.ofSeconds(2)).build();
+        Assertions.assertEquals(0, policy.getPredictedLatencyNanos());
+        policy.onAttemptCompleted(800);
+        policy.onAttemptCompleted(1600);
+        Assertions.assertEquals(900, policy.getPredictedLatencyNanos());
+    }
+
+    @Test
+    void verifyBudgetForwardsDeadline() {
+        var policy = RetryPolicyBuilder.newBuilder().timeout(Duration.ofSeconds(2)).retryBudget(TokenRetryBudget.of(1, 1)).build();
+        Assertions.assertEquals(TimeUnit.SECONDS.toNanos(2), policy.getTimeoutNanos());
+    }
+
+    @Test
+    void verifyResultPredicatesMatchByType() {
+        var policy = RetryPolicyBuilder.newBuilder().retryOnResult(Integer.class, status -> status == 503)
+                                       .retryOnResult(String.class, String::isEmpty)
+                                       .timeout(Duration.ofSeconds(2)).retryBudget(TokenRetryBudget.of(1, 1)).build();
+        Assertions.assertTrue(policy.isRetryableResult(503));
+        Assertions.assertTrue(policy.isRetryableResult(""));
+        Assertions.assertFalse(policy.isRetryableResult(200));
+        Assertions.assertFalse(policy.isRetryableResult(503L));
+        Assertions.assertFalse(policy.isRetryableResult(null));
+        Assertions.assertFalse(RetryPolicyBuilder.newBuilder().build().isRetryableResult(503));
+    }
+
+    @Test
+    void verifyRetryAfterIsClampedToMaximum() {
+        var policy = RetryPolicyBuilder.newBuilder().maxRetryAfter(Duration.ofSeconds(10))
+                                       .timeout(Duration.ofSeconds(30)).retryBudget(TokenRetryBudget.of(1, 1)).build();
+        Assertions.assertEquals(2000, policy.getRetryAfterMillis(new RetryAfterException("throttled", Duration.ofSeconds(2))));
+        Assertions.assertEquals(10_000, policy.getRetryAfterMillis(new RetryAfterException("throttled", Duration.ofHours(1))));
+        Assertions.assertEquals(-1, policy.getRetryAfterMillis(ExceptionTestUtils.getRetryableException()));
+    }
+
+    @Test
+    void verifyRetryAfterReadFromRetriedResult() {
+        RetryAfterHint throttled = () -> 500;
+        RetryAfterHint none = () -> -1;
+        var policy = RetryPolicyBuilder.newBuilder().build();
+        Assertions.assertEquals(500, policy.getRetryAfterMillis(new RetryableResultException(throttled)));
+        Assertions.assertEquals(-1, policy.getRetryAfterMillis(new RetryableResultException(none)));
+        Assertions.assertEquals(-1, policy.getRetryAfterMillis(new RetryableResultException(503)));
+    }
+
+    @Test
+    void verifyZeroMaxRetryAfterIgnoresHints() {
+        var policy = RetryPolicyBuilder.newBuilder().maxRetryAfter(Duration.ZERO).build();
+        Assertions.assertEquals(-1, policy.getRetryAfterMillis(new RetryAfterException("throttled", Duration.ofSeconds(2))));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> RetryPolicyBuilder.newBuilder().maxRetryAfter(Duration.ofSeconds(-1)));
+    }
+
+    @Test
+    void verifyExceptionOnNonPositiveTimeout() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> RetryPolicyBuilder.newBuilder().timeout(Duration.ZERO).build());
+    }
 }
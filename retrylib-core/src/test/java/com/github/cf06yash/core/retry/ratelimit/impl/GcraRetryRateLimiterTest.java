@@ -0,0 +1,116 @@
+package com.github.cf06yash.core.retry.ratelimit.impl;
+
+import com.github.cf06yash.core.retry.ratelimit.RateLimitedTask;
+import com.github.cf06yash.core.retry.ratelimit.RetryRateLimiter;
+import com.github.cf06yash.core.retry.ratelimit.RetryRateLimiterBuilder;
+import com.github.cf06yash.core.utils.ConcurrentTestHarness;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+class GcraRetryRateLimiterTest {
+
+    private record Call(String endpoint) implements RateLimitedTask {
+        @Override
+        public Object rateLimitKey() {
+            return endpoint;
+        }
+    }
+
+    private static final Call PAYMENTS = new Call("payments");
+    private static final Call LEDGER = new Call("ledger");
+
+    @Test
+    void shouldLetBurstThroughThenPaceByInterval() {
+        RetryRateLimiter limiter = RetryRateLimiterBuilder.newBuilder().limit(1, 3).build();
+
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals(5, limiter.reserve(PAYMENTS, 5));
+        }
+        long paced = limiter.reserve(PAYMENTS, 5);
+        Assertions.assertTrue(paced > 900 && paced <= 1005, "paced delay " + paced);
+        long next = limiter.reserve(PAYMENTS, 5);
+        Assertions.assertTrue(next - paced > 900 && next - paced <= 1001, "next delay " + next);
+    }
+
+    @Test
+    void shouldNotReserveWhenWaitExceedsMaxWait() {
+        RetryRateLimiter limiter = RetryRateLimiterBuilder.newBuilder().limit(1, 1).maxWait(Duration.ofMillis(500)).build();
+
+        Assertions.assertEquals(0, limiter.reserve(PAYMENTS, 0));
+        Assertions.assertEquals(-1, limiter.reserve(PAYMENTS, 0));
+        // a longer backoff brings the free slot within the maximum wait
+        long delay = limiter.reserve(PAYMENTS, 700);
+        Assertions.assertTrue(delay >= 990 && delay <= 1000, "delay " + delay);
+    }
+
+    @Test
+    void shouldNotReserveSlotPastDeadline() {
+        RetryRateLimiter limiter = RetryRateLimiterBuilder.newBuilder().limit(1, 1).build();
+
+        Assertions.assertEquals(0, limiter.reserve(PAYMENTS, 0));
+        Assertions.assertEquals(RetryRateLimiter.PAST_DEADLINE, limiter.reserve(PAYMENTS, 0, Duration.ofMillis(100).toNanos()));
+        // the refused call left the next slot free
+        long delay = limiter.reserve(PAYMENTS, 0);
+        Assertions.assertTrue(delay > 900 && delay <= 1000, "delay " + delay);
+    }
+
+    @Test
+    void shouldLimitKeysIndependently() {
+        RetryRateLimiter limiter = RetryRateLimiterBuilder.newBuilder().limit("payments", 1, 1).limit(1000, 1)
+                                                          .maxWait(Duration.ZERO).build();
+
+        Assertions.assertEquals(0, limiter.reserve(PAYMENTS, 0));
+        Assertions.assertEquals(-1, limiter.reserve(PAYMENTS, 0));
+        Assertions.assertEquals(0, limiter.reserve(LEDGER, 0));
+        Assertions.assertEquals(2, ((GcraRetryRateLimiter) limiter).getKeyCount());
+    }
+
+    @Test
+    void shouldLeaveUnkeyedAndUnlimitedTasksAlone() {
+        RetryRateLimiter limiter = RetryRateLimiterBuilder.newBuilder().limit("payments", 1, 1).maxWait(Duration.ZERO).build();
+
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertEquals(7, limiter.reserve(LEDGER, 7));
+            Assertions.assertEquals(7, limiter.reserve(new Object(), 7));
+            Assertions.assertEquals(7, limiter.reserve(new Call(null), 7));
+        }
+        Assertions.assertEquals(0, ((GcraRetryRateLimiter) limiter).getKeyCount());
+    }
+
+    @Test
+    void shouldGrantEachSlotOnceUnderContention()
+            throws Exception {
+        int threads = 8;
+        int perThread = 1_000;
+        // a burst of 100 and a one hour interval: exactly the burst fits without waiting
+        RetryRateLimiter limiter = RetryRateLimiterBuilder.newBuilder().limit(1.0 / 3600, 100).maxWait(Duration.ZERO).build();
+
+        List<Integer> granted = ConcurrentTestHarness.getInstance(threads).runParallelWithReturn(() -> {
+            int count = 0;
+            for (int i = 0; i < perThread; i++) {
+                if (limiter.reserve(PAYMENTS, 0) == 0) {
+                    count++;
+                }
+            }
+            return count;
+        });
+
+        Assertions.assertEquals(100, granted.stream().mapToInt(Integer::intValue).sum());
+    }
+
+    @Test
+    void shouldRejectInvalidLimits() {
+        RetryRateLimiterBuilder builder = RetryRateLimiterBuilder.newBuilder();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> builder.limit(0, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> builder.limit(1, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> builder.limit(null, 1, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> builder.maxWait(Duration.ofMillis(-1)));
+    }
+}
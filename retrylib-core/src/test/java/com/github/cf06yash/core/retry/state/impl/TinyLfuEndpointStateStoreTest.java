@@ -0,0 +1,113 @@
+package com.github.cf06yash.core.retry.state.impl;
+
+import com.github.cf06yash.core.retry.state.EndpointState;
+import com.github.cf06yash.core.retry.state.EndpointStateStore;
+import com.github.cf06yash.core.retry.state.EndpointStateStoreBuilder;
+import com.github.cf06yash.core.retry.state.EndpointTask;
+import com.github.cf06yash.core.utils.ConcurrentTestHarness;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+class TinyLfuEndpointStateStoreTest {
+
+    private static final int MAXIMUM_SIZE = 100;
+
+    private static TinyLfuEndpointStateStore store() {
+        return (TinyLfuEndpointStateStore) EndpointStateStoreBuilder.newBuilder().maximumSize(MAXIMUM_SIZE).build();
+    }
+
+    @Test
+    void shouldReturnSameStateForKey() {
+        EndpointStateStore store = store();
+        EndpointState state = store.get("payments");
+
+        Assertions.assertSame(state, store.get("payments"));
+        Assertions.assertEquals("payments", state.getKey());
+        Assertions.assertNotSame(state, store.get("ledger"));
+        Assertions.assertEquals(2, store.size());
+    }
+
+    @Test
+    void shouldStayWithinMaximumSize() {
+        TinyLfuEndpointStateStore store = store();
+
+        for (int i = 0; i < 10_000; i++) {
+            store.get("tenant-" + i);
+        }
+
+        Assertions.assertEquals(MAXIMUM_SIZE, store.size());
+        Assertions.assertEquals(10_000 - MAXIMUM_SIZE, store.getEvictionCount());
+    }
+
+    @Test
+    void shouldKeepHotEndpointsThroughFloodOfNewKeys() {
+        TinyLfuEndpointStateStore store = store();
+        int hot = MAXIMUM_SIZE / 2;
+        EndpointState[] hotStates = new EndpointState[hot];
+        for (int i = 0; i < hot; i++) {
+            hotStates[i] = store.get("endpoint-" + i);
+        }
+        for (int i = 0; i < 10 * hot; i++) {
+            store.get("endpoint-" + (i % hot));
+        }
+
+        for (int i = 0; i < 50_000; i++) {
+            store.get("tenant-" + i);
+            store.get("endpoint-" + (i % hot));
+        }
+
+        for (int i = 0; i < hot; i++) {
+            Assertions.assertSame(hotStates[i], store.get("endpoint-" + i), "endpoint-" + i);
+        }
+        Assertions.assertEquals(MAXIMUM_SIZE, store.size());
+    }
+
+    @Test
+    void shouldStayBoundedUnderConcurrentLookups()
+            throws Exception {
+        TinyLfuEndpointStateStore store = store();
+
+        ConcurrentTestHarness.getInstance(8).runParallel(() -> {
+            for (int i = 0; i < 20_000; i++) {
+                Object key = ThreadLocalRandom.current().nextInt(100_000);
+                Assertions.assertEquals(key, store.get(key).getKey());
+            }
+        });
+
+        Assertions.assertTrue(store.size() <= MAXIMUM_SIZE, "size " + store.size());
+    }
+
+    @Test
+    void shouldKeyTasksByEndpoint() {
+        EndpointStateStore store = store();
+        EndpointTask payments = () -> "payments";
+
+        Assertions.assertSame(store.get("payments"), store.forTask(payments));
+        Assertions.assertNull(store.forTask((EndpointTask) () -> null));
+        Assertions.assertNull(store.forTask(new Object()));
+    }
+
+    @Test
+    void shouldAverageErrorRateAndLatency() {
+        EndpointState state = store().get("payments");
+
+        state.onSuccess(800);
+        Assertions.assertEquals(800, state.getLatencyNanos());
+        Assertions.assertEquals(0, state.getErrorRate());
+        state.onFailure(1_600);
+
+        Assertions.assertEquals(900, state.getLatencyNanos());
+        Assertions.assertEquals(0.125, state.getErrorRate(), 1e-9);
+    }
+
+    @Test
+    void shouldRejectInvalidSize() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> EndpointStateStoreBuilder.newBuilder().maximumSize(0).build());
+    }
+}
@@ -1,6 +1,7 @@
 package com.github.cf06yash.core.retry.tagging.impl;
 
 import com.github.cf06yash.core.retry.tagging.RetryClassifier;
+import com.github.cf06yash.core.retry.tagging.StacklessRetryableException;
 import com.github.cf06yash.core.utils.ExceptionTestUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -23,6 +24,13 @@ class DefaultRetryClassifierTest {
         Assertions.assertFalse(retryClassifier.isRetryable(ExceptionTestUtils.getNonRetryableException()));
     }
 
+    @Test
+    void shouldRetryStacklessExceptionWithoutCapturingStack() {
+        StacklessRetryableException e = new StacklessRetryableException("busy");
+        Assertions.assertTrue(retryClassifier.isRetryable(e));
+        Assertions.assertEquals(0, e.getStackTrace().length);
+    }
+
     @Test
     void shouldReturnFalseForNullArgument() {
         Assertions.assertFalse(retryClassifier.isRetryable(null));
@@ -0,0 +1,93 @@
+package com.github.cf06yash.core.retry.tagging.impl;
+
+import com.github.cf06yash.core.retry.policy.RetryPolicyBuilder;
+import com.github.cf06yash.core.retry.tagging.NonRetryableException;
+import com.github.cf06yash.core.retry.tagging.RetryClassifier;
+import com.github.cf06yash.core.retry.tagging.RetryClassifierBuilder;
+import com.github.cf06yash.core.utils.ExceptionTestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.sql.SQLTransientException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+class RuleBasedRetryClassifierTest {
+
+    private final RetryClassifier classifier = RetryClassifierBuilder.newBuilder()
+                                                                     .retryOn(IOException.class, SQLTransientException.class)
+                                                                     .abortOn(FileNotFoundException.class).build();
+
+    @Test
+    void shouldRetryMatchedTypeAndSubtypes() {
+        Assertions.assertTrue(classifier.isRetryable(new IOException()));
+        Assertions.assertTrue(classifier.isRetryable(new SocketTimeoutException()));
+        Assertions.assertTrue(classifier.isRetryable(new SQLTransientException()));
+    }
+
+    @Test
+    void shouldPreferAbortRuleOverRetryRule() {
+        Assertions.assertFalse(classifier.isRetryable(new FileNotFoundException()));
+    }
+
+    @Test
+    void shouldHonourMarkerInterfaces() {
+        Assertions.assertTrue(classifier.isRetryable(ExceptionTestUtils.getRetryableException()));
+        Assertions.assertFalse(classifier.isRetryable(new MarkedIOException()));
+    }
+
+    @Test
+    void shouldClassifyByNearestMatchingCause() {
+        Assertions.assertTrue(classifier.isRetryable(new ExecutionException(new RuntimeException(new SocketTimeoutException()))));
+        Assertions.assertFalse(classifier.isRetryable(new RuntimeException(new FileNotFoundException())));
+        Assertions.assertFalse(classifier.isRetryable(new RuntimeException(new MarkedIOException(new SocketTimeoutException()))));
+    }
+
+    @Test
+    void shouldStopAtMaxCauseDepth() {
+        RetryClassifier shallow = RetryClassifierBuilder.newBuilder().retryOn(IOException.class).maxCauseDepth(1).build();
+        Assertions.assertTrue(shallow.isRetryable(new RuntimeException(new IOException())));
+        Assertions.assertFalse(shallow.isRetryable(new RuntimeException(new RuntimeException(new IOException()))));
+    }
+
+    @Test
+    void shouldUseUnmatchedVerdict() {
+        Assertions.assertFalse(classifier.isRetryable(new IllegalStateException()));
+        Assertions.assertTrue(RetryClassifierBuilder.newBuilder().retryUnmatched(true).build().isRetryable(new IllegalStateException()));
+    }
+
+    @Test
+    void shouldReturnFalseForNullArgument() {
+        Assertions.assertFalse(classifier.isRetryable(null));
+    }
+
+    @Test
+    void shouldPlugIntoRetryPolicy() {
+        var policy = RetryPolicyBuilder.newBuilder().classifier(classifier).build();
+        Assertions.assertTrue(policy.shouldRetry(1, new SocketTimeoutException()));
+        Assertions.assertFalse(policy.shouldRetry(1, new IllegalStateException()));
+    }
+
+    @Test
+    void verifyExceptionOnNegativeCauseDepth() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RetryClassifierBuilder.newBuilder().maxCauseDepth(-1).build());
+    }
+
+    private static class MarkedIOException
+            extends IOException
+            implements NonRetryableException {
+
+        MarkedIOException() {
+        }
+
+        MarkedIOException(Throwable cause) {
+            super(cause);
+        }
+    }
+}
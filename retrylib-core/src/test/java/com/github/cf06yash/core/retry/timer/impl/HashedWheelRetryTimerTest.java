@@ -0,0 +1,102 @@
+package com.github.cf06yash.core.retry.timer.impl;
+
+import com.github.cf06yash.core.retry.timer.ScheduledRetry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Developed by cf06yash.
+ * Created on 17-10-2026.
+ */
+class HashedWheelRetryTimerTest {
+
+    private static final long DELAY = 50;
+    private static final int MANY_TIMERS = 10_000;
+
+    private final HashedWheelRetryTimer timer = HashedWheelRetryTimer.of(Runnable::run);
+
+    @AfterEach
+    void tearDown() {
+        timer.close();
+    }
+
+    @Test
+    void shouldFireNoEarlierThanDelay()
+            throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        AtomicLong firedAt = new AtomicLong();
+        long start = System.nanoTime();
+        timer.schedule(() -> {
+            firedAt.set(System.nanoTime());
+            fired.countDown();
+        }, DELAY);
+        Assertions.assertTrue(fired.await(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(TimeUnit.NANOSECONDS.toMillis(firedAt.get() - start) >= DELAY);
+        Assertions.assertEquals(0, timer.pendingCount());
+    }
+
+    @Test
+    void shouldNotFireCancelledRetry()
+            throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        ScheduledRetry retry = timer.schedule(runs::incrementAndGet, DELAY);
+        CountDownLatch later = new CountDownLatch(1);
+        timer.schedule(later::countDown, DELAY * 2);
+
+        Assertions.assertTrue(retry.cancel());
+        Assertions.assertTrue(retry.isCancelled());
+        Assertions.assertFalse(retry.cancel());
+        Assertions.assertTrue(later.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(0, runs.get());
+    }
+
+    @Test
+    void shouldFireEveryScheduledRetry()
+            throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(MANY_TIMERS);
+        for (int i = 0; i < MANY_TIMERS; i++) {
+            timer.schedule(fired::countDown, 1 + i % 100);
+        }
+        Assertions.assertTrue(fired.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(0, timer.pendingCount());
+    }
+
+    @Test
+    void shouldFireDelaysLongerThanOneRotation()
+            throws InterruptedException {
+        try (HashedWheelRetryTimer smallWheel = HashedWheelRetryTimer.of(Runnable::run, 1, 8)) {
+            CountDownLatch fired = new CountDownLatch(1);
+            long start = System.nanoTime();
+            smallWheel.schedule(fired::countDown, DELAY);
+            Assertions.assertTrue(fired.await(5, TimeUnit.SECONDS));
+            Assertions.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= DELAY);
+        }
+    }
+
+    @Test
+    void shouldRunZeroDelayImmediately() {
+        AtomicInteger runs = new AtomicInteger();
+        ScheduledRetry retry = timer.schedule(runs::incrementAndGet, 0);
+        Assertions.assertEquals(1, runs.get());
+        Assertions.assertFalse(retry.cancel());
+    }
+
+    @Test
+    void shouldRejectAfterClose() {
+        timer.close();
+        Assertions.assertThrows(RejectedExecutionException.class, () -> timer.schedule(() -> {
+        }, DELAY));
+    }
+
+    @Test
+    void verifyExceptionOnInvalidWheelSize() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> HashedWheelRetryTimer.of(Runnable::run, 1, 1000));
+    }
+}